@@ -0,0 +1,60 @@
+package com.lo3ba.core;
+
+import com.lo3ba.util.ResourceManager;
+import com.lo3ba.util.ScaleManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A whole frame through GameRenderer.render() into an offscreen
+ * BufferedImage at the base resolution, with and without the F3 overlay.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class GameRendererBenchmark {
+    @Param({"1", "8", "10"})
+    public int levelNumber;
+
+    @Param({"false", "true"})
+    public boolean debugOverlay;
+
+    private GameRenderer renderer;
+    private GameRenderContext context;
+    private BufferedImage target;
+
+    @Setup
+    public void setup() {
+        Simulation simulation = new Simulation(levelNumber,
+            new ScriptedInput().hold(InputAction.RIGHT, 0, 60));
+        simulation.run(60);
+        simulation.getProfiler().setEnabled(debugOverlay);
+
+        FrameSnapshot snapshot = new FrameSnapshot();
+        simulation.writeSnapshot(snapshot);
+
+        Font font = ResourceManager.loadFont("PressStart2P-Regular.ttf", 16f);
+        renderer = new GameRenderer(font, ResourceManager.loadTexture("background.png"));
+        context = new GameRenderContext(snapshot, debugOverlay, ScaleManager.BASE_WIDTH,
+                                        ScaleManager.BASE_HEIGHT, simulation.getProfiler());
+        target = new BufferedImage(ScaleManager.BASE_WIDTH, ScaleManager.BASE_HEIGHT,
+                                   BufferedImage.TYPE_INT_RGB);
+    }
+
+    @Benchmark
+    public BufferedImage render() {
+        Graphics2D g = target.createGraphics();
+        try {
+            renderer.render(g, context);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,74 @@
+package com.lo3ba.effects;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ParticleSystem update and render with 100 to 100k live particles.
+ * update() tops the system back up to the target count after every tick,
+ * so it measures a steady emitter rather than a decaying burst.
+ * parallelThreshold compares the ForkJoinPool update with a forced serial one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ParticleSystemBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    public int particleCount;
+
+    @Param({"16384", "2147483647"})
+    public int parallelThreshold;
+
+    private ParticleSystem particleSystem;
+    private ParticleSnapshot snapshot;
+    private BufferedImage target;
+    private Graphics2D g;
+
+    @Setup
+    public void setup() {
+        particleSystem = new ParticleSystem(particleCount, ParticleSystem.CapacityPolicy.REFUSE);
+        particleSystem.setParallelThreshold(parallelThreshold);
+        topUp();
+        // Age the burst so the snapshot holds a realistic spread of particles
+        for (int i = 0; i < 10; i++) {
+            particleSystem.update();
+            topUp();
+        }
+        snapshot = new ParticleSnapshot();
+        particleSystem.writeSnapshot(snapshot);
+
+        target = new BufferedImage(1000, 600, BufferedImage.TYPE_INT_ARGB);
+        g = target.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public int update() {
+        particleSystem.update();
+        topUp();
+        return particleSystem.getParticleCount();
+    }
+
+    @Benchmark
+    public BufferedImage render() {
+        ParticleSystem.render(g, snapshot, 1.0);
+        return target;
+    }
+
+    private void topUp() {
+        int missing = particleCount - particleSystem.getParticleCount();
+        if (missing > 0) {
+            particleSystem.createSparkleParticles(500, 300, missing);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.lo3ba.gameobjects;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Platform.render() texture tiling for a single-tile platform, a wide
+ * multi-tile platform and a full-width floor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PlatformRenderBenchmark {
+    @Param({"160x32", "400x64", "1000x100"})
+    public String size;
+
+    private Platform platform;
+    private BufferedImage target;
+    private Graphics2D g;
+
+    @Setup
+    public void setup() {
+        String[] parts = size.split("x");
+        platform = new Platform(0, 400, Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                                Platform.PlatformType.STONE);
+        target = new BufferedImage(1000, 600, BufferedImage.TYPE_INT_ARGB);
+        g = target.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage render() {
+        platform.render(g);
+        return target;
+    }
+}
@@ -0,0 +1,53 @@
+package com.lo3ba.levels;
+
+import com.lo3ba.core.Player;
+import com.lo3ba.core.Simulation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One tick of level logic: the shared standardUpdate() and each level's own
+ * update(), which is hand-written for Level8 and Level10.
+ * The player stands still at the spawn point and is respawned if it dies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class LevelUpdateBenchmark {
+    @Param({"1", "8", "10"})
+    public int levelNumber;
+
+    private Simulation simulation;
+    private Player player;
+    private Level level;
+
+    @Setup
+    public void setup() {
+        simulation = new Simulation(levelNumber);
+        player = simulation.getPlayer();
+        level = simulation.getLevelManager().getCurrentLevel();
+    }
+
+    @Benchmark
+    public double standardUpdate() {
+        level.standardUpdate();
+        return respawnIfDead();
+    }
+
+    @Benchmark
+    public double levelUpdate() {
+        level.update();
+        return respawnIfDead();
+    }
+
+    private double respawnIfDead() {
+        if (player.isDead()) {
+            simulation.resetPlayer();
+        }
+        return player.getY();
+    }
+}
@@ -0,0 +1,71 @@
+package com.lo3ba.levels;
+
+import com.lo3ba.core.Player;
+import com.lo3ba.core.Simulation;
+import com.lo3ba.gameobjects.Spike;
+import com.lo3ba.util.ScaleManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Level.checkSpikeCollision() against a level filled with a given number of
+ * spikes. The player sits outside the field so no spike actually hurts it;
+ * this measures the cost of finding out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SpikeCollisionBenchmark {
+    @Param({"10", "100", "10000"})
+    public int spikeCount;
+
+    private Level level;
+
+    @Setup
+    public void setup() {
+        Player player = new Simulation(1).getPlayer();
+        player.reset(-200, -200);
+        level = new SpikeField(player, spikeCount);
+    }
+
+    @Benchmark
+    public int checkSpikeCollision() {
+        level.checkSpikeCollision();
+        return level.player.getHealth();
+    }
+
+    /**
+     * Level made of nothing but randomly placed spikes (fixed seed).
+     */
+    static class SpikeField extends Level {
+        private final int spikeCount;
+
+        SpikeField(Player player, int spikeCount) {
+            super(player);
+            this.spikeCount = spikeCount;
+            init();
+        }
+
+        @Override
+        public void init() {
+            spikes.clear();
+            Random random = new Random(42);
+            for (int i = 0; i < spikeCount; i++) {
+                int x = random.nextInt(ScaleManager.BASE_WIDTH - 32);
+                int y = random.nextInt(ScaleManager.BASE_HEIGHT - 32);
+                spikes.add(new Spike(x, y, 32, 32, Spike.SpikeType.NORMAL));
+            }
+            buildSpatialIndex();
+        }
+
+        @Override
+        public void update() {
+            standardUpdate();
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.lo3ba;
 
+import com.lo3ba.audio.AudioEngine;
 import com.lo3ba.core.GameLoop;
 import com.lo3ba.gameobjects.Avatar;
 import com.lo3ba.ui.AvatarSelectScreen;
+import com.lo3ba.ui.LoadingScreen;
 import com.lo3ba.ui.MainMenuScreen;
 import com.lo3ba.ui.LevelSelectScreen;
+import com.lo3ba.util.AssetPreloader;
+import com.lo3ba.util.StartupTimeline;
 import javax.swing.*;
 import java.awt.*;
 
@@ -20,6 +24,9 @@ public class Main {
     private static java.util.Set<Integer> completedLevels = new java.util.HashSet<>();
 
     public static void main(String[] args) {
+        StartupTimeline.mark(StartupTimeline.Milestone.MAIN);
+        AssetPreloader preloader = AssetPreloader.getInstance();
+
         SwingUtilities.invokeLater(() -> {
             frame = new JFrame("Lo3ba Game - Devil Evil 2 Style");
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -27,10 +34,21 @@ public class Main {
             frame.setSize(1000, 600);
             frame.setLocationRelativeTo(null);
 
-            showMainMenu();
+            frame.add(new LoadingScreen(preloader));
 
             frame.setVisible(true);
         });
+
+        // Decode textures, sounds and fonts in parallel. The menu only needs
+        // its font, so it replaces the loading screen as soon as that is in;
+        // everything else keeps loading behind it. Both are queued after the
+        // frame is created above.
+        preloader.start().thenRun(() -> {
+            StartupTimeline.mark(StartupTimeline.Milestone.ASSETS_LOADED);
+            // Sounds are decoded already; this only opens the audio line
+            AudioEngine.getInstance().start();
+        });
+        preloader.font("PressStart2P-Regular.ttf").thenRun(() -> SwingUtilities.invokeLater(() -> showMainMenu()));
     }
 
     private static void showMainMenu() {
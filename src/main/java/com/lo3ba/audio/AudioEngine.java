@@ -0,0 +1,282 @@
+package com.lo3ba.audio;
+
+import com.lo3ba.util.ScaleManager;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.util.Arrays;
+
+/**
+ * Plays sound effects and music through one SourceDataLine, mixed in
+ * software on a thread of its own.
+ *
+ * start() decodes every Sound to PCM once and opens the line; after that
+ * play() only posts a command to a lock-free queue, so the game thread
+ * never decodes, opens lines or waits on the audio system. The mixer
+ * thread picks commands up at the start of each block, mixes up to
+ * MAX_VOICES voices with their gain and pan, and writes the block to the
+ * line, whose blocking write paces the thread. A sound played while all
+ * voices are busy replaces the voice that has played longest. Music is
+ * streamed by MusicPlayer and mixed in under the effects.
+ *
+ * Without an audio device (headless runs, CI) start() leaves the engine
+ * stopped and play() does nothing.
+ */
+public final class AudioEngine {
+    public static final float SAMPLE_RATE = 44_100f;
+    public static final int MAX_VOICES = 16;
+    public static final int MUSIC_FADE_MILLIS = 750; // Crossfade between screens
+    static final int BLOCK_FRAMES = 512;                // ~12 ms
+    private static final int LINE_BUFFER_BLOCKS = 4;    // Latency ~46 ms
+    private static final int QUEUE_CAPACITY = 64;
+    private static final float EDGE_PAN = 0.6f;         // Pan of a sound at the screen edge
+
+    private static final AudioEngine instance = new AudioEngine();
+
+    private final PlayQueue queue = new PlayQueue(QUEUE_CAPACITY);
+    private final MusicPlayer music = new MusicPlayer(SAMPLE_RATE);
+    private volatile short[][] samples; // By Sound ordinal; set by start()
+    private volatile boolean running = false;
+    private SourceDataLine line;
+    private Thread thread;
+
+    // Voices, mixer thread only
+    private final short[][] voiceSamples = new short[MAX_VOICES][];
+    private final int[] voicePosition = new int[MAX_VOICES];
+    private final float[] voiceLeft = new float[MAX_VOICES];
+    private final float[] voiceRight = new float[MAX_VOICES];
+    private int voiceCount = 0;
+    private final float[] mixLeft = new float[BLOCK_FRAMES];
+    private final float[] mixRight = new float[BLOCK_FRAMES];
+
+    AudioEngine() {
+    }
+
+    /**
+     * Engine mixing the given samples, without a line; for tests.
+     */
+    AudioEngine(short[][] samples) {
+        this.samples = samples;
+    }
+
+    public static AudioEngine getInstance() {
+        return instance;
+    }
+
+    /**
+     * Decode all sounds, open the line and start mixing. Call once at
+     * startup; later calls do nothing.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        samples = SoundBank.loadAll(SAMPLE_RATE);
+        System.out.printf("✓ Decoded %d sounds in %.1f ms%n", samples.length,
+                          (System.nanoTime() - startTime) / 1_000_000.0);
+
+        AudioFormat format = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+        try {
+            line = AudioSystem.getSourceDataLine(format);
+            line.open(format, BLOCK_FRAMES * 4 * LINE_BUFFER_BLOCKS);
+            line.start();
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            // No mixer supports the format (headless machines, CI containers)
+            System.err.println("⚠️ No audio line available, sound is off (" + e.getMessage() + ")");
+            line = null;
+            return;
+        }
+
+        running = true;
+        thread = new Thread(this::run, "Audio mixer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY); // An underrun is audible, a late frame is not
+        thread.start();
+    }
+
+    /**
+     * Stop mixing and close the line.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * Decode a sound file ahead of start(), on the calling thread. Sounds
+     * preloaded this way are not decoded again when the engine starts.
+     */
+    public static void preload(String filename) {
+        SoundBank.load(filename, SAMPLE_RATE);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Play a sound at full volume, centered. Any thread; never blocks.
+     */
+    public boolean play(Sound sound) {
+        return play(sound, 1f, 0f);
+    }
+
+    /**
+     * Play a sound. Any thread; never blocks or allocates.
+     *
+     * @param gain Volume, 1 for the sound as recorded
+     * @param pan -1 for left, 0 for center, 1 for right
+     * @return False if the engine is stopped or too many commands are pending
+     */
+    public boolean play(Sound sound, float gain, float pan) {
+        return running && queue.offer(sound.ordinal(), gain, pan);
+    }
+
+    /**
+     * Crossfade from the current music to a track from assets/sounds/,
+     * streamed rather than loaded whole. Any thread.
+     *
+     * @param loop Whether to loop the track, without a gap
+     * @param fadeMillis Length of the crossfade
+     */
+    public void playMusic(String filename, boolean loop, int fadeMillis) {
+        if (running) {
+            music.play(filename, loop, fadeMillis);
+        }
+    }
+
+    /**
+     * Fade the music out. Any thread.
+     */
+    public void stopMusic(int fadeMillis) {
+        if (running) {
+            music.stop(fadeMillis);
+        }
+    }
+
+    /**
+     * Pan for a sound made at x in base coordinates: centered in the
+     * middle of the screen, partly to one side at its edges.
+     */
+    public static float panAt(double x) {
+        double pan = (x / ScaleManager.BASE_WIDTH * 2 - 1) * EDGE_PAN;
+        return (float) Math.max(-EDGE_PAN, Math.min(EDGE_PAN, pan));
+    }
+
+    private void run() {
+        byte[] block = new byte[BLOCK_FRAMES * 4];
+        try {
+            while (running) {
+                mix(block, BLOCK_FRAMES);
+                line.write(block, 0, block.length);
+            }
+            line.drain();
+        } finally {
+            line.close();
+        }
+    }
+
+    /**
+     * Start the queued sounds, then mix the next frames into a block of
+     * 16-bit little-endian stereo. Mixer thread only.
+     */
+    void mix(byte[] block, int frames) {
+        startQueuedVoices();
+
+        Arrays.fill(mixLeft, 0, frames, 0f);
+        Arrays.fill(mixRight, 0, frames, 0f);
+        music.mix(mixLeft, mixRight, frames);
+        for (int v = voiceCount - 1; v >= 0; v--) {
+            short[] data = voiceSamples[v];
+            int position = voicePosition[v];
+            int count = Math.min(frames, data.length - position);
+            float left = voiceLeft[v];
+            float right = voiceRight[v];
+            for (int i = 0; i < count; i++) {
+                float sample = data[position + i];
+                mixLeft[i] += sample * left;
+                mixRight[i] += sample * right;
+            }
+            voicePosition[v] = position + count;
+            if (voicePosition[v] >= data.length) {
+                removeVoice(v);
+            }
+        }
+
+        for (int i = 0; i < frames; i++) {
+            int left = clamp(mixLeft[i]);
+            int right = clamp(mixRight[i]);
+            block[i * 4] = (byte) left;
+            block[i * 4 + 1] = (byte) (left >> 8);
+            block[i * 4 + 2] = (byte) right;
+            block[i * 4 + 3] = (byte) (right >> 8);
+        }
+    }
+
+    /**
+     * Number of voices playing. Mixer thread only.
+     */
+    int getVoiceCount() {
+        return voiceCount;
+    }
+
+    /**
+     * Post a command even while stopped; for tests driving mix() directly.
+     */
+    boolean post(Sound sound, float gain, float pan) {
+        return queue.offer(sound.ordinal(), gain, pan);
+    }
+
+    private void startQueuedVoices() {
+        short[][] bank = samples;
+        for (int slot = queue.poll(); slot >= 0; slot = queue.poll()) {
+            short[] data = bank[queue.getSound(slot)];
+            float gain = Math.max(0f, queue.getGain(slot));
+            float pan = Math.max(-1f, Math.min(1f, queue.getPan(slot)));
+            queue.release(slot);
+            if (data.length == 0 || gain == 0f) {
+                continue;
+            }
+
+            int v = voiceCount < MAX_VOICES ? voiceCount++ : oldestVoice();
+            // Constant-power pan: centered sounds are not louder than panned ones
+            double angle = (pan + 1) * Math.PI / 4;
+            voiceSamples[v] = data;
+            voicePosition[v] = 0;
+            voiceLeft[v] = (float) (gain * Math.cos(angle) * Math.sqrt(2));
+            voiceRight[v] = (float) (gain * Math.sin(angle) * Math.sqrt(2));
+        }
+    }
+
+    private int oldestVoice() {
+        int oldest = 0;
+        for (int v = 1; v < voiceCount; v++) {
+            if (voicePosition[v] > voicePosition[oldest]) oldest = v;
+        }
+        return oldest;
+    }
+
+    private void removeVoice(int v) {
+        int last = --voiceCount;
+        voiceSamples[v] = voiceSamples[last];
+        voicePosition[v] = voicePosition[last];
+        voiceLeft[v] = voiceLeft[last];
+        voiceRight[v] = voiceRight[last];
+        voiceSamples[last] = null;
+    }
+
+    private static int clamp(float sample) {
+        return (int) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sample));
+    }
+}
@@ -0,0 +1,139 @@
+package com.lo3ba.audio;
+
+import com.lo3ba.util.ResourceManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Streams music into AudioEngine's mix, one track at a time, crossfading
+ * on every change of track.
+ *
+ * play() and stop() post a transition for the mixer thread, which fades
+ * the current track out while the new one fades in. A "Music streamer"
+ * thread keeps every live track's ring buffer topped up; the mixer only
+ * ever copies out of rings, so a slow disk costs a dropout, never a late
+ * block for the sound effects.
+ */
+final class MusicPlayer {
+    private static final long STREAM_INTERVAL_NANOS = 10_000_000; // Well under a ring's length
+
+    private final float sampleRate;
+    private final AtomicReference<Transition> pending = new AtomicReference<>();
+    private final List<MusicTrack> streaming = new CopyOnWriteArrayList<>();
+    private String looping; // Looping track last played, guarded by this
+    private Thread streamer; // Guarded by this
+
+    // Mixer thread only
+    private MusicTrack current;
+    private MusicTrack previous;
+
+    private static final class Transition {
+        final MusicTrack track; // Null to fade to silence
+        final int fadeFrames;
+
+        Transition(MusicTrack track, int fadeFrames) {
+            this.track = track;
+            this.fadeFrames = fadeFrames;
+        }
+    }
+
+    MusicPlayer(float sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Crossfade to a track from assets/sounds/. Playing the looping track
+     * already playing does nothing.
+     */
+    synchronized void play(String filename, boolean loop, int fadeMillis) {
+        if (loop && filename.equals(looping)) {
+            return;
+        }
+        MusicTrack track = new MusicTrack(filename, () -> ResourceManager.openSound(filename), loop, sampleRate);
+        streaming.add(track);
+        startStreamer();
+        transition(track, fadeMillis);
+        LockSupport.unpark(streamer); // Decode the first chunk now, not in up to 10 ms
+    }
+
+    /**
+     * Fade the music out.
+     */
+    synchronized void stop(int fadeMillis) {
+        transition(null, fadeMillis);
+    }
+
+    /**
+     * Post a crossfade to a track, or to silence for null. The track must
+     * already be streaming.
+     */
+    synchronized void transition(MusicTrack track, int fadeMillis) {
+        looping = track != null && track.isLooping() ? track.getName() : null;
+        int fadeFrames = (int) (fadeMillis * sampleRate / 1000);
+        Transition replaced = pending.getAndSet(new Transition(track, fadeFrames));
+        if (replaced != null && replaced.track != null) {
+            replaced.track.retire(); // Superseded before it ever played
+        }
+    }
+
+    /**
+     * Apply a posted transition, then add the next frames of music into the
+     * mix. Mixer thread only.
+     */
+    void mix(float[] left, float[] right, int frames) {
+        Transition transition = pending.getAndSet(null);
+        if (transition != null) {
+            if (previous != null) {
+                previous.retire(); // A third track cuts the oldest one short
+            }
+            previous = current;
+            if (previous != null) {
+                previous.fadeTo(0f, transition.fadeFrames);
+            }
+            current = transition.track;
+            if (current != null) {
+                current.fadeTo(1f, transition.fadeFrames);
+            }
+        }
+
+        if (current != null) {
+            current.mixInto(left, right, frames);
+            if (current.isFinished()) {
+                current.retire();
+                current = null;
+            }
+        }
+        if (previous != null) {
+            previous.mixInto(left, right, frames);
+            if (previous.isFinished() || previous.isFadedOut()) {
+                previous.retire();
+                previous = null;
+            }
+        }
+    }
+
+    private void startStreamer() {
+        if (streamer == null) {
+            streamer = new Thread(this::stream, "Music streamer");
+            streamer.setDaemon(true);
+            streamer.start();
+        }
+    }
+
+    private void stream() {
+        while (true) {
+            for (MusicTrack track : streaming) {
+                if (track.isRetired()) {
+                    track.close();
+                    streaming.remove(track);
+                } else {
+                    track.fill();
+                }
+            }
+            LockSupport.parkNanos(STREAM_INTERVAL_NANOS);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.lo3ba.audio;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * One music track streamed from its file. The streamer thread decodes it
+ * chunk by chunk into a ring buffer, converted to stereo at the mixer's
+ * rate; the mixer thread drains the ring with the track's fade applied.
+ * Only the ring and one read chunk are held, whatever the track's length.
+ *
+ * A looping track reopens its file when it ends and carries on writing
+ * into the same ring, so the loop point has no gap.
+ */
+final class MusicTrack {
+    static final int RING_FRAMES = 8192; // ~190 ms at 44.1 kHz, a power of two
+    private static final int CHUNK_BYTES = 4096;
+
+    private final String name;
+    private final Supplier<AudioInputStream> source;
+    private final boolean loop;
+    private final float sampleRate;
+
+    // Ring of samples in 16-bit scale; written by the streamer, read by the mixer
+    private final float[] ringLeft = new float[RING_FRAMES];
+    private final float[] ringRight = new float[RING_FRAMES];
+    private volatile long written = 0;
+    private volatile long read = 0;
+    private volatile boolean ended = false;   // Nothing more will be written
+    private volatile boolean retired = false; // The mixer is done with the track
+
+    // Decoder state, streamer thread only
+    private AudioInputStream in;
+    private int frameBytes;
+    private boolean stereo;
+    private double step;      // Source frames per output frame
+    private double phase = 2; // Position past prev, in source frames; 2 reads two frames first
+    private float prevLeft, prevRight, curLeft, curRight;
+    private final byte[] chunk = new byte[CHUNK_BYTES];
+    private int chunkStart = 0;
+    private int chunkEnd = 0;
+    private long framesSinceOpen = 0;
+    private boolean exhausted = false; // Read to the end, not looping
+
+    // Fade, mixer thread only
+    private float gain = 0f;
+    private float targetGain = 0f;
+    private float gainStep = 0f;
+
+    MusicTrack(String name, Supplier<AudioInputStream> source, boolean loop, float sampleRate) {
+        this.name = name;
+        this.source = source;
+        this.loop = loop;
+        this.sampleRate = sampleRate;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    boolean isLooping() {
+        return loop;
+    }
+
+    /**
+     * Decode until the ring is full or the track ends. Streamer thread only.
+     *
+     * @return Frames written
+     */
+    int fill() {
+        if (ended || retired) {
+            return 0;
+        }
+        long start = written;
+        int space = (int) (RING_FRAMES - (start - read));
+        int produced = 0;
+        while (produced < space) {
+            while (phase >= 1) {
+                if (!nextSourceFrame()) {
+                    ended = true;
+                    written = start + produced;
+                    return produced;
+                }
+                phase -= 1;
+            }
+            int i = (int) (start + produced) & (RING_FRAMES - 1);
+            ringLeft[i] = prevLeft + (curLeft - prevLeft) * (float) phase;
+            ringRight[i] = prevRight + (curRight - prevRight) * (float) phase;
+            phase += step;
+            produced++;
+        }
+        written = start + produced;
+        return produced;
+    }
+
+    /**
+     * Close the file. Streamer thread only, once the track is retired.
+     */
+    void close() {
+        if (in != null) {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // Nothing left to read from it anyway
+            }
+            in = null;
+        }
+    }
+
+    /**
+     * Ramp the gain linearly to target over the given number of frames.
+     * Mixer thread only.
+     */
+    void fadeTo(float target, int frames) {
+        targetGain = target;
+        if (frames <= 0) {
+            gain = target;
+            gainStep = 0f;
+        } else {
+            gainStep = (target - gain) / frames;
+        }
+    }
+
+    /**
+     * Add the next frames, faded, into the mix. Frames the streamer has not
+     * decoded yet are skipped, not waited for. Mixer thread only.
+     */
+    void mixInto(float[] left, float[] right, int frames) {
+        long start = read;
+        int available = (int) Math.min(frames, written - start);
+        for (int f = 0; f < available; f++) {
+            if (gain != targetGain) {
+                gain += gainStep;
+                if ((gainStep > 0) == (gain > targetGain)) gain = targetGain; // Overshot
+            }
+            int i = (int) (start + f) & (RING_FRAMES - 1);
+            left[f] += ringLeft[i] * gain;
+            right[f] += ringRight[i] * gain;
+        }
+        read = start + available;
+    }
+
+    /**
+     * Whether the track has played to its end. Mixer thread only.
+     */
+    boolean isFinished() {
+        return ended && read == written;
+    }
+
+    /**
+     * Whether the track has faded out completely. Mixer thread only.
+     */
+    boolean isFadedOut() {
+        return gain == 0f && targetGain == 0f;
+    }
+
+    void retire() {
+        retired = true;
+    }
+
+    boolean isRetired() {
+        return retired;
+    }
+
+    /**
+     * Move to the next source frame, reading a chunk or reopening the file
+     * for the next loop when needed.
+     */
+    private boolean nextSourceFrame() {
+        if (exhausted) {
+            return false;
+        }
+        while (chunkEnd - chunkStart < frameBytes || in == null) {
+            if (in == null && !open()) {
+                return false;
+            }
+            System.arraycopy(chunk, chunkStart, chunk, 0, chunkEnd - chunkStart);
+            chunkEnd -= chunkStart;
+            chunkStart = 0;
+            int count;
+            try {
+                count = in.read(chunk, chunkEnd, chunk.length - chunkEnd);
+            } catch (IOException e) {
+                System.err.println("⚠️ Error streaming music: " + name + " (" + e.getMessage() + ")");
+                count = -1;
+            }
+            if (count > 0) {
+                chunkEnd += count;
+            } else if (count < 0) {
+                boolean empty = framesSinceOpen == 0;
+                close();
+                chunkStart = chunkEnd = 0;
+                if (!loop || empty) {
+                    exhausted = true;
+                    return holdLastFrame();
+                }
+            }
+        }
+
+        prevLeft = curLeft;
+        prevRight = curRight;
+        curLeft = sample(chunkStart);
+        curRight = stereo ? sample(chunkStart + 2) : curLeft;
+        chunkStart += frameBytes;
+        framesSinceOpen++;
+        return true;
+    }
+
+    /**
+     * At the end of the track, repeat the last frame once so that it is
+     * interpolated to, and played, like every other frame.
+     */
+    private boolean holdLastFrame() {
+        if (framesSinceOpen == 0) {
+            return false;
+        }
+        prevLeft = curLeft;
+        prevRight = curRight;
+        return true;
+    }
+
+    private float sample(int offset) {
+        return (short) ((chunk[offset] & 0xFF) | chunk[offset + 1] << 8);
+    }
+
+    private boolean open() {
+        AudioInputStream stream = source.get();
+        if (stream == null) {
+            return false;
+        }
+        AudioFormat format = stream.getFormat();
+        int channels = format.getChannels();
+        AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                                          channels, channels * 2, format.getSampleRate(), false);
+        try {
+            in = format.matches(pcm) ? stream : AudioSystem.getAudioInputStream(pcm, stream);
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠️ Cannot stream music: " + name + " (" + e.getMessage() + ")");
+            return false;
+        }
+        frameBytes = channels * 2;
+        stereo = channels >= 2; // Extra channels beyond the first two are dropped
+        step = format.getSampleRate() / sampleRate;
+        framesSinceOpen = 0;
+        return true;
+    }
+}
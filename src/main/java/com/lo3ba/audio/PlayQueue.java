@@ -0,0 +1,90 @@
+package com.lo3ba.audio;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue of play commands from any number of threads to
+ * the mixer thread. Commands live in preallocated slots, so posting one
+ * never allocates or blocks; when the queue is full the command is
+ * dropped.
+ *
+ * Each slot carries a sequence number (Vyukov's bounded queue): a
+ * producer claims the tail with a CAS, writes the slot and then publishes
+ * it by advancing the slot's sequence; the consumer takes a slot once its
+ * sequence shows it was published, and hands it back a lap ahead.
+ */
+final class PlayQueue {
+    private final int mask;
+    private final AtomicLongArray sequence;
+    private final int[] sounds;
+    private final float[] gains;
+    private final float[] pans;
+    private final AtomicLong tail = new AtomicLong();
+    private long head = 0; // Consumer only
+
+    /**
+     * @param capacity Number of slots, a power of two
+     */
+    PlayQueue(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        mask = capacity - 1;
+        sequence = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequence.set(i, i);
+        }
+        sounds = new int[capacity];
+        gains = new float[capacity];
+        pans = new float[capacity];
+    }
+
+    /**
+     * Post a command. Any thread.
+     *
+     * @return False if the queue was full and the command dropped
+     */
+    boolean offer(int sound, float gain, float pan) {
+        long position = tail.get();
+        int slot;
+        while (true) {
+            slot = (int) position & mask;
+            long diff = sequence.get(slot) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) break;
+                position = tail.get();
+            } else if (diff < 0) {
+                return false; // The consumer has not freed this slot yet
+            } else {
+                position = tail.get(); // Another producer took it
+            }
+        }
+        sounds[slot] = sound;
+        gains[slot] = gain;
+        pans[slot] = pan;
+        sequence.set(slot, position + 1);
+        return true;
+    }
+
+    /**
+     * Slot of the oldest published command, or -1 if there is none. Read it
+     * with the getters, then release() it. Mixer thread only.
+     */
+    int poll() {
+        int slot = (int) head & mask;
+        return sequence.get(slot) == head + 1 ? slot : -1;
+    }
+
+    /**
+     * Hand the polled slot back to the producers. Mixer thread only.
+     */
+    void release(int slot) {
+        sequence.set(slot, head + mask + 1);
+        head++;
+    }
+
+    int getSound(int slot) { return sounds[slot]; }
+    float getGain(int slot) { return gains[slot]; }
+    float getPan(int slot) { return pans[slot]; }
+}
@@ -0,0 +1,25 @@
+package com.lo3ba.audio;
+
+/**
+ * The sound effects AudioEngine decodes at startup and can play.
+ */
+public enum Sound {
+    JUMP("jump.wav"),
+    DEATH("death.wav"),
+    DOOR("door.wav"),
+    BOMB_COLLECT("bomb_collect.wav"),
+    EXPLOSION("explosion.wav");
+
+    private final String filename;
+
+    Sound(String filename) {
+        this.filename = filename;
+    }
+
+    /**
+     * File name under assets/sounds/.
+     */
+    public String getFilename() {
+        return filename;
+    }
+}
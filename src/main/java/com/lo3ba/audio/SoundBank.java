@@ -0,0 +1,109 @@
+package com.lo3ba.audio;
+
+import com.lo3ba.util.ResourceManager;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decodes sound files to the mixer's format: mono 16-bit samples at the
+ * mixer's rate. Other bit depths and encodings go through Java Sound's
+ * converters; channels are averaged and the rate is converted by linear
+ * interpolation, which is plenty for short effects.
+ *
+ * Decoded sounds are cached by filename, so sounds preloaded on other
+ * threads are not decoded again by loadAll().
+ */
+final class SoundBank {
+    private static final short[] SILENCE = new short[0];
+    private static final Map<String, short[]> cache = new ConcurrentHashMap<>();
+
+    private SoundBank() {
+    }
+
+    /**
+     * Decode every Sound, indexed by ordinal. Sounds that fail to load
+     * decode to no samples and play as silence.
+     */
+    static short[][] loadAll(float sampleRate) {
+        Sound[] sounds = Sound.values();
+        short[][] samples = new short[sounds.length][];
+        for (Sound sound : sounds) {
+            samples[sound.ordinal()] = load(sound.getFilename(), sampleRate);
+        }
+        return samples;
+    }
+
+    /**
+     * Decode a sound file from assets/sounds/, or return it from the cache.
+     * Any thread. A file that fails to load decodes to no samples.
+     */
+    static short[] load(String filename, float sampleRate) {
+        short[] cached = cache.get(filename);
+        if (cached != null) {
+            return cached;
+        }
+
+        short[] samples = SILENCE;
+        AudioInputStream in = ResourceManager.openSound(filename);
+        if (in != null) {
+            try (AudioInputStream stream = in) {
+                samples = decode(stream, sampleRate);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("⚠️ Error decoding sound: " + filename + " (" + e.getMessage() + ")");
+            }
+        }
+        cache.put(filename, samples);
+        return samples;
+    }
+
+    /**
+     * Read a whole stream as mono 16-bit samples at the given rate.
+     *
+     * @throws IllegalArgumentException If Java Sound cannot convert the stream to PCM
+     */
+    static short[] decode(AudioInputStream in, float sampleRate) throws IOException {
+        AudioFormat source = in.getFormat();
+        int channels = source.getChannels();
+        AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, source.getSampleRate(), 16,
+                                          channels, channels * 2, source.getSampleRate(), false);
+        byte[] bytes;
+        try (AudioInputStream converted = source.matches(pcm) ? in : AudioSystem.getAudioInputStream(pcm, in)) {
+            bytes = converted.readAllBytes();
+        }
+
+        int frames = bytes.length / (channels * 2);
+        float[] mono = new float[frames];
+        for (int frame = 0; frame < frames; frame++) {
+            int sum = 0;
+            for (int channel = 0; channel < channels; channel++) {
+                int i = (frame * channels + channel) * 2;
+                sum += (short) ((bytes[i] & 0xFF) | bytes[i + 1] << 8);
+            }
+            mono[frame] = (float) sum / channels;
+        }
+        return resample(mono, source.getSampleRate(), sampleRate);
+    }
+
+    private static short[] resample(float[] samples, float fromRate, float toRate) {
+        if (samples.length == 0) {
+            return SILENCE;
+        }
+        double step = fromRate / toRate;
+        int length = (int) Math.max(1, Math.round(samples.length / step));
+        short[] out = new short[length];
+        for (int i = 0; i < length; i++) {
+            double position = i * step;
+            int index = (int) position;
+            int next = Math.min(index + 1, samples.length - 1);
+            index = Math.min(index, samples.length - 1);
+            double fraction = position - (int) position;
+            out[i] = (short) Math.round(samples[index] + (samples[next] - samples[index]) * fraction);
+        }
+        return out;
+    }
+}
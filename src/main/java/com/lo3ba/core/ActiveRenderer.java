@@ -0,0 +1,172 @@
+package com.lo3ba.core;
+
+import com.lo3ba.util.StartupTimeline;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Active rendering on a dedicated render thread.
+ * Draws each frame through a BufferStrategy on a heavyweight Canvas and flips
+ * it once per frame, so game frames never wait on the EDT's repaint queue.
+ * The EDT is left with input handling and the Swing overlays.
+ *
+ * Responsibilities:
+ * - Own the Canvas and its (accelerated, VolatileImage-backed) BufferStrategy
+ * - Run the render thread, woken by requestFrame() from the game thread
+ * - Recover from lost or restored back buffers
+ * - Step aside (suspend) while translucent Swing overlays are on screen
+ */
+public class ActiveRenderer {
+    /** Set -Dlo3ba.activeRendering=true to draw through the render thread. */
+    public static final String ENABLE_PROPERTY = "lo3ba.activeRendering";
+
+    private static final int BUFFER_COUNT = 2;
+
+    private final Canvas canvas;
+    private final GameRenderer gameRenderer;
+    private final Supplier<GameRenderContext> contextSupplier;
+    private final Color background;
+
+    private Thread renderThread;
+    private volatile boolean running = false;
+    private volatile boolean suspended = false;
+    private volatile boolean frameRequested = false;
+    private volatile boolean drawing = false;
+
+    /**
+     * Creates an active renderer.
+     *
+     * @param gameRenderer Drawing code, shared with passive painting
+     * @param contextSupplier Builds the context for the frame being drawn
+     * @param background Color cleared behind each frame
+     */
+    public ActiveRenderer(GameRenderer gameRenderer, Supplier<GameRenderContext> contextSupplier,
+                          Color background) {
+        this.gameRenderer = gameRenderer;
+        this.contextSupplier = contextSupplier;
+        this.background = background;
+
+        canvas = new Canvas();
+        canvas.setIgnoreRepaint(true);
+        canvas.setFocusable(false); // Keyboard focus stays on the GameLoop panel
+        canvas.setBackground(background);
+    }
+
+    /**
+     * Active rendering needs a display; it is opt-in via a system property.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLE_PROPERTY) && !GraphicsEnvironment.isHeadless();
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        renderThread = new Thread(this::renderLoop, "GameRender-Thread");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (renderThread != null) {
+            LockSupport.unpark(renderThread);
+            try {
+                renderThread.join(500);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            renderThread = null;
+        }
+    }
+
+    /**
+     * Ask the render thread to draw and flip one frame.
+     * Requests made while a frame is in flight are coalesced into one.
+     */
+    public void requestFrame() {
+        frameRequested = true;
+        Thread t = renderThread;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    /**
+     * Hide the canvas and stop drawing while Swing overlays are shown,
+     * letting passive painting draw the game behind them. Call on the EDT.
+     */
+    public void setSuspended(boolean suspended) {
+        this.suspended = suspended;
+        // Hand the snapshot reader side back to the EDT only once the
+        // in-flight frame (if any) is done
+        while (suspended && drawing) {
+            Thread.onSpinWait();
+        }
+        canvas.setVisible(!suspended);
+    }
+
+    public boolean isSuspended() {
+        return suspended;
+    }
+
+    private void renderLoop() {
+        while (running) {
+            if (!frameRequested) {
+                LockSupport.park(this);
+                continue;
+            }
+            frameRequested = false;
+
+            drawing = true;
+            try {
+                if (suspended || !canvas.isDisplayable() || canvas.getWidth() <= 0 || canvas.getHeight() <= 0) {
+                    continue;
+                }
+
+                BufferStrategy strategy = canvas.getBufferStrategy();
+                if (strategy == null) {
+                    canvas.createBufferStrategy(BUFFER_COUNT);
+                    strategy = canvas.getBufferStrategy();
+                    if (strategy == null) continue;
+                }
+
+                drawFrame(strategy);
+            } catch (IllegalStateException e) {
+                // Canvas was removed from its window mid-frame; rebuild next time
+            } finally {
+                drawing = false;
+            }
+        }
+    }
+
+    private void drawFrame(BufferStrategy strategy) {
+        do {
+            do {
+                Graphics g = strategy.getDrawGraphics();
+                try {
+                    if (!gameRenderer.coversWindow()) {
+                        g.setColor(background);
+                        g.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+                    }
+                    gameRenderer.render(g, contextSupplier.get());
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+
+            strategy.show();
+        } while (strategy.contentsLost());
+        StartupTimeline.mark(StartupTimeline.Milestone.FIRST_GAME_FRAME);
+
+        // Flush the pipeline so the frame reaches the screen now (X11)
+        Toolkit.getDefaultToolkit().sync();
+    }
+}
@@ -0,0 +1,156 @@
+package com.lo3ba.core;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Paces the game loop: fixed-rate simulation ticks, display-rate frames.
+ *
+ * Responsibilities:
+ * - Read the display refresh rate to choose the frame period
+ * - Count how many simulation ticks are due each frame, capped so a GC
+ *   pause or window drag cannot trigger a burst of catch-up ticks
+ * - Wait for the next frame deadline with a coarse park followed by a
+ *   short spin-yield, instead of waking every couple of milliseconds
+ * - Record actual frame times in a FrameTimeHistogram
+ *
+ * Used only by the game thread.
+ */
+public class FramePacer {
+    /** Most ticks run in one frame; older backlog is dropped. */
+    public static final int MAX_CATCH_UP_TICKS = 5;
+
+    // Park until this close to the deadline, then spin-yield the rest
+    private static final long SPIN_THRESHOLD_NANOS = 1_500_000L;
+
+    private final long nanosPerTick;
+    private final long nanosPerFrame;
+    private final int refreshRate;
+    private final FrameTimeHistogram histogram;
+    private final LongSupplier clock; // Nanoseconds
+
+    private long lastTickTime;
+    private double delta;
+    private long nextFrameDeadline;
+    private long lastFrameStart;
+    private long droppedTicks;
+
+    /**
+     * @param tickRate Simulation ticks per second
+     * @param refreshRate Frames per second to present, usually the display refresh rate
+     */
+    public FramePacer(int tickRate, int refreshRate) {
+        this(tickRate, refreshRate, System::nanoTime);
+    }
+
+    /**
+     * Pacer reading time from the given clock; for tests.
+     */
+    FramePacer(int tickRate, int refreshRate, LongSupplier clock) {
+        this.clock = clock;
+        this.nanosPerTick = 1_000_000_000L / tickRate;
+        this.refreshRate = refreshRate;
+        this.nanosPerFrame = 1_000_000_000L / refreshRate;
+        this.histogram = new FrameTimeHistogram(nanosPerFrame);
+        reset();
+    }
+
+    /**
+     * Refresh rate of the display showing the game, or the fallback when the
+     * display does not report one (headless, some Linux drivers).
+     *
+     * @param gc Configuration of the game component, may be null before it is shown
+     * @param fallback Rate to use when unknown
+     */
+    public static int detectRefreshRate(GraphicsConfiguration gc, int fallback) {
+        if (gc == null || GraphicsEnvironment.isHeadless()) {
+            return fallback;
+        }
+        int rate = gc.getDevice().getDisplayMode().getRefreshRate();
+        if (rate == DisplayMode.REFRESH_RATE_UNKNOWN || rate < 30 || rate > 500) {
+            return fallback;
+        }
+        return rate;
+    }
+
+    /**
+     * Restart timing from now, e.g. when the loop (re)starts.
+     */
+    public void reset() {
+        long now = clock.getAsLong();
+        lastTickTime = now;
+        lastFrameStart = now;
+        nextFrameDeadline = now + nanosPerFrame;
+        delta = 0;
+    }
+
+    /**
+     * Start a frame: record the previous frame time and return how many
+     * simulation ticks are due.
+     */
+    public int beginFrame() {
+        long now = clock.getAsLong();
+        histogram.record(now - lastFrameStart);
+        lastFrameStart = now;
+
+        delta += (now - lastTickTime) / (double) nanosPerTick;
+        lastTickTime = now;
+
+        int ticks = (int) delta;
+        if (ticks > MAX_CATCH_UP_TICKS) {
+            // Too far behind: run a bounded burst and forget the rest
+            droppedTicks += ticks - MAX_CATCH_UP_TICKS;
+            ticks = MAX_CATCH_UP_TICKS;
+            delta = 0;
+        } else {
+            delta -= ticks;
+        }
+        return ticks;
+    }
+
+    /**
+     * Wait until the next frame deadline.
+     */
+    public void endFrame() {
+        long deadline = nextFrameDeadline;
+        long remaining;
+        while ((remaining = deadline - clock.getAsLong()) > SPIN_THRESHOLD_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        while (deadline - clock.getAsLong() > 0) {
+            Thread.yield();
+        }
+
+        nextFrameDeadline += nanosPerFrame;
+        long now = clock.getAsLong();
+        if (now - nextFrameDeadline > nanosPerFrame) {
+            // Missed more than a whole frame: resync instead of racing to catch up
+            nextFrameDeadline = now + nanosPerFrame;
+        }
+    }
+
+    /**
+     * Fraction of a tick accumulated but not yet simulated, in [0, 1).
+     */
+    public double getTickFraction() {
+        return delta;
+    }
+
+    /**
+     * Time the current frame should end at, on the pacer's clock.
+     */
+    long getNextFrameDeadline() {
+        return nextFrameDeadline;
+    }
+
+    public int getRefreshRate() { return refreshRate; }
+    public long getDroppedTicks() { return droppedTicks; }
+    public FrameTimeHistogram getHistogram() { return histogram; }
+}
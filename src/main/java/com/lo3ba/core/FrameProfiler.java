@@ -0,0 +1,230 @@
+package com.lo3ba.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-phase frame timings for the F3 debug overlay.
+ * Keeps the last HISTORY samples of every phase in fixed ring buffers, so
+ * recording is allocation-free and costs nothing but a branch while disabled.
+ *
+ * Simulation phases are written by the game thread once per tick, render
+ * phases by whichever thread draws (render thread or EDT) once per frame.
+ * The overlay reads both without locking; a sample caught mid-write only
+ * skews one bar of a debug display.
+ */
+public class FrameProfiler {
+    /** Number of samples kept per phase (and bars in the sparkline). */
+    public static final int HISTORY = 240;
+
+    private static final long ALLOC_SAMPLE_NANOS = 500_000_000L;
+
+    /**
+     * Timed phases, in the order they run.
+     */
+    public enum Phase {
+        INPUT("Input", false),
+        PLAYER("Player", false),
+        LEVEL("Level", false),
+        PARTICLES("Particles", false),
+        CAMERA_SHAKE("Shake", false),
+        BACKGROUND("Background", true),
+        WORLD("World", true),
+        HUD("HUD", true);
+
+        private final String label;
+        private final boolean render;
+
+        Phase(String label, boolean render) {
+            this.label = label;
+            this.render = render;
+        }
+
+        public String getLabel() { return label; }
+
+        /** True if timed by the renderer, false if by the simulation. */
+        public boolean isRender() { return render; }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[][] history = new long[PHASES.length][HISTORY];
+    private final long[] pending = new long[PHASES.length];
+    private volatile int simulationCursor = 0; // Next slot for simulation phases
+    private volatile int renderCursor = 0;     // Next slot for render phases
+    private volatile int simulationFilled = 0;
+    private volatile int renderFilled = 0;
+    private volatile boolean enabled = false;
+    private final LongSupplier clock; // Nanoseconds
+
+    // Game thread allocation rate, sampled by the game thread itself
+    private final com.sun.management.ThreadMXBean threadBean;
+    private long allocSampleTime = 0;
+    private long allocSampleBytes = -1;
+    private volatile double allocBytesPerSecond = -1;
+
+    // Reader-side scratch for percentiles (only one reader draws at a time)
+    private final long[] sorted = new long[HISTORY];
+
+    public FrameProfiler() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Profiler timing phases with the given clock; for tests.
+     */
+    FrameProfiler(LongSupplier clock) {
+        this.clock = clock;
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threadBean = (com.sun.management.ThreadMXBean) bean;
+        } else {
+            threadBean = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turn recording on or off. Turning it on starts with an empty history.
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            for (long[] samples : history) {
+                Arrays.fill(samples, 0);
+            }
+            Arrays.fill(pending, 0);
+            simulationFilled = 0;
+            renderFilled = 0;
+            allocSampleBytes = -1;
+            allocBytesPerSecond = -1;
+            if (threadBean != null) {
+                threadBean.setThreadAllocatedMemoryEnabled(true);
+            }
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Start timing. Returns 0 while disabled.
+     */
+    public long mark() {
+        return enabled ? clock.getAsLong() : 0;
+    }
+
+    /**
+     * Charge the time since {@code start} to a phase and start the next one.
+     *
+     * @param phase Phase that just finished
+     * @param start Value from mark() or the previous lap()
+     * @return Start time for the next phase
+     */
+    public long lap(Phase phase, long start) {
+        if (!enabled) return 0;
+        long now = clock.getAsLong();
+        pending[phase.ordinal()] += now - start;
+        return now;
+    }
+
+    /**
+     * Close the current tick's simulation phases. Call on the game thread.
+     */
+    public void endTick() {
+        if (!enabled) return;
+        simulationCursor = commit(false, simulationCursor);
+        simulationFilled = Math.min(HISTORY, simulationFilled + 1);
+        sampleAllocations();
+    }
+
+    /**
+     * Close the current frame's render phases. Call on the drawing thread.
+     */
+    public void endFrame() {
+        if (!enabled) return;
+        renderCursor = commit(true, renderCursor);
+        renderFilled = Math.min(HISTORY, renderFilled + 1);
+    }
+
+    private int commit(boolean render, int cursor) {
+        for (Phase phase : PHASES) {
+            if (phase.render == render) {
+                history[phase.ordinal()][cursor] = pending[phase.ordinal()];
+                pending[phase.ordinal()] = 0;
+            }
+        }
+        return (cursor + 1) % HISTORY;
+    }
+
+    private void sampleAllocations() {
+        if (threadBean == null) return;
+        long now = clock.getAsLong();
+        if (allocSampleBytes >= 0 && now - allocSampleTime < ALLOC_SAMPLE_NANOS) return;
+
+        long bytes = threadBean.getCurrentThreadAllocatedBytes();
+        if (bytes < 0) return;
+        if (allocSampleBytes >= 0) {
+            allocBytesPerSecond = (bytes - allocSampleBytes) * 1e9 / (now - allocSampleTime);
+        }
+        allocSampleBytes = bytes;
+        allocSampleTime = now;
+    }
+
+    /**
+     * Sample from the given number of frames ago (0 = most recent), in nanoseconds.
+     */
+    public long getSample(Phase phase, int framesAgo) {
+        int cursor = phase.render ? renderCursor : simulationCursor;
+        int index = Math.floorMod(cursor - 1 - framesAgo, HISTORY);
+        return history[phase.ordinal()][index];
+    }
+
+    /**
+     * Number of samples recorded for a phase so far, up to HISTORY.
+     */
+    public int getSampleCount(Phase phase) {
+        return phase.render ? renderFilled : simulationFilled;
+    }
+
+    public double getMinMillis(Phase phase) {
+        int count = getSampleCount(phase);
+        if (count == 0) return 0;
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, getSample(phase, i));
+        }
+        return min / 1_000_000.0;
+    }
+
+    public double getAverageMillis(Phase phase) {
+        int count = getSampleCount(phase);
+        if (count == 0) return 0;
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += getSample(phase, i);
+        }
+        return total / (double) count / 1_000_000.0;
+    }
+
+    public double getPercentileMillis(Phase phase, double percentile) {
+        int count = getSampleCount(phase);
+        if (count == 0) return 0;
+        for (int i = 0; i < count; i++) {
+            sorted[i] = getSample(phase, i);
+        }
+        Arrays.sort(sorted, 0, count);
+        int index = (int) Math.ceil(count * percentile / 100.0) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))] / 1_000_000.0;
+    }
+
+    /**
+     * Allocation rate of the game thread in bytes per second, or -1 if the
+     * JVM cannot report it (or no interval has been sampled yet).
+     */
+    public double getAllocationRate() {
+        return allocBytesPerSecond;
+    }
+}
@@ -0,0 +1,84 @@
+package com.lo3ba.core;
+
+import com.lo3ba.effects.ParticleSnapshot;
+import com.lo3ba.levels.Level;
+import com.lo3ba.levels.LevelSnapshot;
+
+/**
+ * Everything the renderer needs to draw one frame, copied out of the
+ * simulation at the end of a game-loop iteration.
+ * Instances are preallocated inside a TripleBuffer and reused: the game
+ * thread writes one through Simulation.writeSnapshot(), and once published
+ * it is only read, never modified, until the writer gets it back.
+ */
+public class FrameSnapshot {
+    private final LevelSnapshot levelSnapshot = new LevelSnapshot();
+    private final ParticleSnapshot particleSnapshot = new ParticleSnapshot();
+    private final ParticleSnapshot weatherSnapshot = new ParticleSnapshot();
+
+    private Player player;
+    private double playerX, playerY;
+    private double playerLastTickX, playerLastTickY;
+    private boolean playerDead;
+    private int deathCount;
+    private int health;
+    private int bombCount;
+
+    private int levelNumber;
+    private int shakeOffsetX, shakeOffsetY;
+    private double alpha = 1.0;
+
+    void capturePlayer(Player player) {
+        this.player = player;
+        this.playerX = player.getX();
+        this.playerY = player.getY();
+        this.playerLastTickX = player.getLastTickX();
+        this.playerLastTickY = player.getLastTickY();
+        this.playerDead = player.isDead();
+        this.deathCount = player.getDeathCount();
+        this.health = player.getHealth();
+        this.bombCount = player.getBombCount();
+    }
+
+    void captureFrameInfo(int levelNumber, int shakeOffsetX, int shakeOffsetY, double alpha) {
+        this.levelNumber = levelNumber;
+        this.alpha = alpha;
+        this.shakeOffsetX = shakeOffsetX;
+        this.shakeOffsetY = shakeOffsetY;
+    }
+
+    /**
+     * True once the simulation has written this buffer at least once.
+     */
+    public boolean isValid() {
+        return levelSnapshot.getLevel() != null;
+    }
+
+    public LevelSnapshot getLevelSnapshot() { return levelSnapshot; }
+    public ParticleSnapshot getParticleSnapshot() { return particleSnapshot; }
+    public ParticleSnapshot getWeatherSnapshot() { return weatherSnapshot; }
+    public Level getLevel() { return levelSnapshot.getLevel(); }
+
+    // Player is only used for its sprite; position comes from the snapshot
+    public Player getPlayer() { return player; }
+    public double getPlayerX() { return playerX; }
+    public double getPlayerY() { return playerY; }
+
+    // Player position interpolated between the last two ticks, for drawing
+    public double getPlayerRenderX() { return playerLastTickX + (playerX - playerLastTickX) * alpha; }
+    public double getPlayerRenderY() { return playerLastTickY + (playerY - playerLastTickY) * alpha; }
+
+    /**
+     * Fraction of a tick elapsed between the latest tick and this frame (0..1).
+     * 1 means "draw the latest tick as is".
+     */
+    public double getAlpha() { return alpha; }
+    public boolean isPlayerDead() { return playerDead; }
+    public int getDeathCount() { return deathCount; }
+    public int getHealth() { return health; }
+    public int getBombCount() { return bombCount; }
+
+    public int getLevelNumber() { return levelNumber; }
+    public int getShakeOffsetX() { return shakeOffsetX; }
+    public int getShakeOffsetY() { return shakeOffsetY; }
+}
@@ -0,0 +1,87 @@
+package com.lo3ba.core;
+
+/**
+ * Fixed-bucket histogram of frame times, recorded against a target frame time.
+ * Recording is allocation-free so it can run every frame on the game thread.
+ * Buckets are 0.25 ms wide up to 64 ms; longer frames land in the last bucket.
+ */
+public class FrameTimeHistogram {
+    private static final long BUCKET_NANOS = 250_000L;
+    private static final int BUCKET_COUNT = 256;
+
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private final long targetNanos;
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+    private long lateFrames;
+
+    /**
+     * @param targetNanos Intended frame time (one display refresh)
+     */
+    public FrameTimeHistogram(long targetNanos) {
+        this.targetNanos = targetNanos;
+    }
+
+    /**
+     * Record the actual duration of one frame.
+     */
+    public void record(long frameNanos) {
+        int bucket = (int) Math.min(BUCKET_COUNT - 1, Math.max(0, frameNanos / BUCKET_NANOS));
+        buckets[bucket]++;
+        count++;
+        totalNanos += frameNanos;
+        if (frameNanos > maxNanos) {
+            maxNanos = frameNanos;
+        }
+        // More than half a frame late means a refresh was visibly missed
+        if (frameNanos > targetNanos + targetNanos / 2) {
+            lateFrames++;
+        }
+    }
+
+    /**
+     * Frame time below which the given fraction of frames fall.
+     *
+     * @param percentile Between 0 and 100
+     * @return Upper edge of the matching bucket, in milliseconds
+     */
+    public double getPercentileMillis(double percentile) {
+        if (count == 0) return 0;
+        long threshold = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= threshold) {
+                return (i + 1) * BUCKET_NANOS / 1_000_000.0;
+            }
+        }
+        return maxNanos / 1_000_000.0;
+    }
+
+    public void reset() {
+        java.util.Arrays.fill(buckets, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+        lateFrames = 0;
+    }
+
+    public long getCount() { return count; }
+    public long getLateFrames() { return lateFrames; }
+    public double getTargetMillis() { return targetNanos / 1_000_000.0; }
+    public double getMaxMillis() { return maxNanos / 1_000_000.0; }
+
+    public double getAverageMillis() {
+        return count == 0 ? 0 : totalNanos / (double) count / 1_000_000.0;
+    }
+
+    /**
+     * One-line summary for logs: target vs. actual.
+     */
+    public String summary() {
+        return String.format("Frames: %d, target %.2f ms, avg %.2f ms, p50 %.2f ms, p99 %.2f ms, max %.2f ms, late %d",
+            count, getTargetMillis(), getAverageMillis(), getPercentileMillis(50),
+            getPercentileMillis(99), getMaxMillis(), lateFrames);
+    }
+}
@@ -1,5 +1,6 @@
 package com.lo3ba.core;
 
+import com.lo3ba.graphics.PrescaledImageCache;
 import com.lo3ba.levels.Level;
 import com.lo3ba.ui.GameUI;
 import com.lo3ba.ui.PauseMenu;
@@ -7,6 +8,7 @@ import com.lo3ba.ui.LevelVictoryScreen;
 import com.lo3ba.ui.FinalVictoryScreen;
 import com.lo3ba.util.ResourceManager;
 import com.lo3ba.util.ScaleManager;
+import com.lo3ba.util.StartupTimeline;
 import com.lo3ba.effects.ParticleSystem;
 import com.lo3ba.effects.CameraShake;
 
@@ -17,16 +19,14 @@ import java.awt.event.ComponentEvent;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 
 /**
  * Main game loop class responsible for:
  * - Thread management (start/stop game loop)
  * - Game state coordination
+ * - Delegating game logic to the headless Simulation
  * - Delegating rendering to GameRenderer
  * - Delegating UI management to GameUIManager
- * - Updating game logic
  */
 public class GameLoop extends JPanel implements UICallbacks {
     public static final int BASE_WIDTH = 1000;
@@ -35,17 +35,21 @@ public class GameLoop extends JPanel implements UICallbacks {
 
     private Thread gameThread;
     private volatile boolean running = false;
-
-    private Player player;
-    private LevelManager levelManager;
-    private InputHandler inputHandler;
-
-    // Enhancement systems
-    private ParticleSystem particleSystem;
-    private CameraShake cameraShake;
+    private FramePacer framePacer;
+    private boolean lastTickSimulated = false; // Game thread only
+    // Set once the EDT has been asked to react, so it is asked only once (game thread only)
+    private boolean victoryScheduled = false;
+    private boolean deathReported = false;
+
+    // Headless game state: player, levels, input, particles, camera shake
+    private Simulation simulation;
+    // Frames handed from the game thread to the renderer without locks
+    private final TripleBuffer<FrameSnapshot> snapshots = new TripleBuffer<>(FrameSnapshot::new);
     
     // Rendering
     private GameRenderer gameRenderer;
+    private ActiveRenderer activeRenderer; // null when painting passively through repaint()
+    private boolean overlayShown = false;
     
     // UI Management
     private GameUIManager uiManager;
@@ -53,7 +57,7 @@ public class GameLoop extends JPanel implements UICallbacks {
     private BufferedImage backgroundImg;
     private Font retroFont;
 
-    private boolean debugOverlay = false; // Toggle with F3
+    private volatile boolean debugOverlay = false; // Toggle with F3
 
     private Runnable onLevelComplete;
     private Runnable onReturnToMenu;
@@ -83,6 +87,10 @@ public class GameLoop extends JPanel implements UICallbacks {
                 int newHeight = getHeight();
                 if (newWidth > 0 && newHeight > 0) {
                     ScaleManager.getInstance().updateDimensions(newWidth, newHeight);
+                    PrescaledImageCache.getInstance().scaleChanged();
+                    if (activeRenderer != null) {
+                        activeRenderer.getCanvas().setBounds(0, 0, newWidth, newHeight);
+                    }
                     updateUIBounds();
                     repaint();
                 }
@@ -100,14 +108,9 @@ public class GameLoop extends JPanel implements UICallbacks {
     }
 
     private void init(int startLevel) {
-        // Initialize enhancement systems
-        particleSystem = new ParticleSystem();
-        cameraShake = new CameraShake();
-        
-        // Initialize at default position first
-        player = new Player(100, 400, this); // Pass GameLoop reference
-        levelManager = new LevelManager(player, startLevel);
-        inputHandler = new InputHandler(player, levelManager);
+        simulation = new Simulation(startLevel);
+        publishSnapshot(1.0); // So the first paint has something to draw
+        InputHandler inputHandler = simulation.getInputHandler();
 
         // Key listener: send movement keys to inputHandler; F3 toggles debug; F/ESC toggles pause
         addKeyListener(new KeyAdapter() {
@@ -115,6 +118,7 @@ public class GameLoop extends JPanel implements UICallbacks {
             public void keyPressed(KeyEvent e) {
                 if (e.getKeyCode() == KeyEvent.VK_F3) {
                     debugOverlay = !debugOverlay;
+                    simulation.getProfiler().setEnabled(debugOverlay);
                     repaint();
                     return;
                 }
@@ -131,16 +135,16 @@ public class GameLoop extends JPanel implements UICallbacks {
             }
         });
 
-        // Load background image
-        try {
-            backgroundImg = ImageIO.read(getClass().getClassLoader().getResourceAsStream("assets/textures/background.png"));
-        } catch (IOException e) {
-            System.err.println("⚠ Failed to load background image: assets/textures/background.png");
-            e.printStackTrace();
-        }
+        // Load background image, usually preloaded already
+        backgroundImg = ResourceManager.loadTexture("background.png");
         
         // Initialize renderer
-        gameRenderer = new GameRenderer(retroFont, backgroundImg);
+        RenderScaling scaling = RenderScaling.fromSystemProperty();
+        ScaleManager.getInstance().setBaseResolutionRendering(scaling.isBuffered());
+        gameRenderer = new GameRenderer(retroFont, backgroundImg, scaling, getBackground());
+        if (ActiveRenderer.isEnabled()) {
+            activeRenderer = new ActiveRenderer(gameRenderer, this::createRenderContext, getBackground());
+        }
     }
 
     /**
@@ -149,6 +153,13 @@ public class GameLoop extends JPanel implements UICallbacks {
     private void setupUI() {
         uiManager = new GameUIManager(this, this);
         uiManager.setupUI();
+
+        if (activeRenderer != null) {
+            // Heavyweight canvas sits below every overlay
+            add(activeRenderer.getCanvas());
+            setComponentZOrder(activeRenderer.getCanvas(), getComponentCount() - 1);
+            activeRenderer.getCanvas().setBounds(0, 0, BASE_WIDTH, BASE_HEIGHT);
+        }
     }
     
     /**
@@ -180,6 +191,10 @@ public class GameLoop extends JPanel implements UICallbacks {
         if (running) return;
 
         running = true;
+        framePacer = new FramePacer(FPS, FramePacer.detectRefreshRate(getGraphicsConfiguration(), FPS));
+        if (activeRenderer != null) {
+            activeRenderer.start();
+        }
         gameThread = new Thread(this::runLoop, "GameLoop-Thread");
         gameThread.start();
 
@@ -202,6 +217,15 @@ public class GameLoop extends JPanel implements UICallbacks {
             }
             gameThread = null;
         }
+        if (activeRenderer != null) {
+            activeRenderer.stop();
+        }
+        simulation.getLevelManager().release(); // Let the texture cache evict its textures
+        if (framePacer != null) {
+            System.out.println("Frame pacing @" + framePacer.getRefreshRate() + " Hz - "
+                + framePacer.getHistogram().summary()
+                + ", dropped ticks " + framePacer.getDroppedTicks());
+        }
 
         // Hide UI screens on EDT
         SwingUtilities.invokeLater(() -> {
@@ -211,53 +235,71 @@ public class GameLoop extends JPanel implements UICallbacks {
     }
 
     private void runLoop() {
-        final double nsPerUpdate = 1_000_000_000.0 / FPS;
-        long lastTime = System.nanoTime();
-        double delta = 0.0;
+        framePacer.reset();
 
         while (running) {
-            long now = System.nanoTime();
-            delta += (now - lastTime) / nsPerUpdate;
-            lastTime = now;
-
-            while (delta >= 1.0) {
+            // Fixed 60 Hz ticks, at most a few per frame after a stall
+            int ticks = framePacer.beginFrame();
+            for (int i = 0; i < ticks; i++) {
                 updateGameLogic();
-                delta -= 1.0;
             }
 
-            // Request repaint (safe from background thread)
-            repaint();
+            // Draw between the last two ticks by the time not yet simulated;
+            // if the last tick was skipped (paused, dead) nothing is moving
+            publishSnapshot(lastTickSimulated ? framePacer.getTickFraction() : 1.0);
+            requestFrame();
 
-            // Sleep a little to avoid busy loop
-            try {
-                Thread.sleep(2);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+            // Wait for the next display refresh
+            framePacer.endFrame();
+        }
+    }
+
+    /**
+     * Copy the simulation state into the back buffer and publish it.
+     * Only called by the thread that ticks the simulation.
+     */
+    private void publishSnapshot(double alpha) {
+        simulation.writeSnapshot(snapshots.getBackBuffer(), alpha);
+        snapshots.publish();
+    }
+
+    /**
+     * Present the current state: through the render thread when active
+     * rendering is on and no overlay covers the game, else via repaint().
+     */
+    private void requestFrame() {
+        if (activeRenderer != null) {
+            boolean overlay = uiManager != null && uiManager.isOverlayVisible();
+            if (overlay != overlayShown) {
+                overlayShown = overlay;
+                SwingUtilities.invokeLater(() -> activeRenderer.setSuspended(overlay));
+            }
+            if (!overlay) {
+                activeRenderer.requestFrame();
+                return;
             }
         }
+
+        // Request repaint (safe from background thread)
+        repaint();
     }
 
     // Game logic update kept off the EDT. UI changes are scheduled onto the EDT.
     private void updateGameLogic() {
+        lastTickSimulated = false;
+
         // Skip update if game is paused
         if (uiManager != null && uiManager.isPaused()) return;
         
-        if (!player.isDead()) {
-            // Apply input state each frame
-            inputHandler.updateMovement();
-
-            player.update();
-            levelManager.update();
-            
-            // ENHANCEMENT: Update particles and camera shake
-            particleSystem.update();
-            cameraShake.update();
-            
-            // ENHANCEMENT: Check for landing effects after collision detection
-            player.checkLandingEffects();
-
-            Level currentLevel = levelManager.getCurrentLevel();
-            if (currentLevel != null && currentLevel.isCompleted() && !uiManager.isVictoryScreenShown()) {
+        if (!simulation.getPlayer().isDead()) {
+            deathReported = false;
+            simulation.tick();
+            lastTickSimulated = true;
+
+            if (!simulation.isLevelCompleted()) {
+                victoryScheduled = false;
+            } else if (!victoryScheduled && !uiManager.isVictoryScreenShown()) {
+                victoryScheduled = true;
                 // Use a brief delay before showing the victory screen on the EDT
                 SwingUtilities.invokeLater(() -> {
                     Timer delayTimer = new Timer(500, e -> {
@@ -268,19 +310,21 @@ public class GameLoop extends JPanel implements UICallbacks {
                     delayTimer.start();
                 });
             }
-        } else {
+        } else if (!deathReported) {
             // Player died -> show game UI on EDT
+            deathReported = true;
             SwingUtilities.invokeLater(this::showGameUI);
         }
     }
 
     private void showVictoryScreen() {
+        LevelManager levelManager = simulation.getLevelManager();
         boolean isFinalLevel = levelManager.getCurrentLevelNumber() == 10;
         Level current = levelManager.getCurrentLevel();
         VictoryData data = new VictoryData(
             current.getCollectedStars(),
             current.getTotalStars(),
-            player.getDeathCount(),
+            simulation.getPlayer().getDeathCount(),
             null
         );
         uiManager.showVictoryScreen(isFinalLevel, data);
@@ -308,55 +352,62 @@ public class GameLoop extends JPanel implements UICallbacks {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         
-        // Create rendering context
-        GameRenderContext context = new GameRenderContext(
-            player,
-            levelManager.getCurrentLevel(),
-            levelManager,
-            particleSystem,
-            cameraShake,
-            debugOverlay,
-            BASE_WIDTH,
-            BASE_HEIGHT
-        );
+        // The render thread owns the snapshot reader side while it is drawing
+        if (activeRenderer != null && !activeRenderer.isSuspended()) {
+            return;
+        }
         
         // Delegate rendering to GameRenderer
-        gameRenderer.render(g, context);
+        gameRenderer.render(g, createRenderContext());
+        StartupTimeline.mark(StartupTimeline.Milestone.FIRST_GAME_FRAME);
+    }
+
+    /**
+     * Create the rendering context for one frame from the newest published
+     * snapshot. Called by exactly one reader at a time (EDT or render thread).
+     */
+    private GameRenderContext createRenderContext() {
+        return new GameRenderContext(snapshots.acquire(), debugOverlay, BASE_WIDTH, BASE_HEIGHT,
+                                     simulation.getProfiler());
     }
 
     // Public method to reset player position
     public void resetPlayer() {
-        if (levelManager != null && levelManager.getCurrentLevel() != null) {
-            player.reset(levelManager.getCurrentLevel().getSpawnX(),
-                        levelManager.getCurrentLevel().getSpawnY());
+        if (simulation != null) {
+            simulation.resetPlayer();
         }
     }
 
+    // Public method to get the headless simulation this panel displays
+    public Simulation getSimulation() {
+        return simulation;
+    }
+
     // Public method to get player
     public Player getPlayer() {
-        return player;
+        return simulation.getPlayer();
     }
 
     // Public method to get level manager
     public LevelManager getLevelManager() {
-        return levelManager;
+        return simulation.getLevelManager();
     }
 
     // Restored accessor expected by Main.java
     public int getCurrentLevel() {
-        if (levelManager != null) {
-            return levelManager.getCurrentLevelNumber();
+        if (simulation != null) {
+            return simulation.getLevelManager().getCurrentLevelNumber();
         }
         return 0;
     }
     
     // ENHANCEMENT: Getters for particle system and camera shake
     public ParticleSystem getParticleSystem() {
-        return particleSystem;
+        return simulation.getParticleSystem();
     }
     
     public CameraShake getCameraShake() {
-        return cameraShake;
+        return simulation.getCameraShake();
     }
     
     // ========== UICallbacks Implementation ==========
@@ -384,14 +435,12 @@ public class GameLoop extends JPanel implements UICallbacks {
 
     @Override
     public void onRepeatLevel() {
-        levelManager.resetCurrentLevel();
-        player.reset(levelManager.getCurrentLevel().getSpawnX(),
-                     levelManager.getCurrentLevel().getSpawnY());
+        simulation.repeatLevel();
     }
 
     @Override
     public void onNextLevel() {
-        levelManager.nextLevel();
+        simulation.getLevelManager().nextLevel();
     }
 
     @Override
@@ -1,54 +1,29 @@
 package com.lo3ba.core;
 
-import com.lo3ba.levels.Level;
-import com.lo3ba.effects.ParticleSystem;
-import com.lo3ba.effects.CameraShake;
-
 /**
  * Context object containing all data needed for game rendering.
  * This is a value object passed to GameRenderer to avoid tight coupling.
+ * Game state comes only from a published FrameSnapshot, never from the
+ * live objects the game thread is mutating.
  */
 public class GameRenderContext {
-    private final Player player;
-    private final Level currentLevel;
-    private final LevelManager levelManager;
-    private final ParticleSystem particleSystem;
-    private final CameraShake cameraShake;
+    private final FrameSnapshot snapshot;
     private final boolean debugOverlay;
     private final int baseWidth;
     private final int baseHeight;
+    private final FrameProfiler profiler;
 
-    public GameRenderContext(Player player, Level currentLevel, LevelManager levelManager,
-                            ParticleSystem particleSystem, CameraShake cameraShake,
-                            boolean debugOverlay, int baseWidth, int baseHeight) {
-        this.player = player;
-        this.currentLevel = currentLevel;
-        this.levelManager = levelManager;
-        this.particleSystem = particleSystem;
-        this.cameraShake = cameraShake;
+    public GameRenderContext(FrameSnapshot snapshot, boolean debugOverlay,
+                            int baseWidth, int baseHeight, FrameProfiler profiler) {
+        this.snapshot = snapshot;
         this.debugOverlay = debugOverlay;
         this.baseWidth = baseWidth;
         this.baseHeight = baseHeight;
+        this.profiler = profiler;
     }
 
-    public Player getPlayer() {
-        return player;
-    }
-
-    public Level getCurrentLevel() {
-        return currentLevel;
-    }
-
-    public LevelManager getLevelManager() {
-        return levelManager;
-    }
-
-    public ParticleSystem getParticleSystem() {
-        return particleSystem;
-    }
-
-    public CameraShake getCameraShake() {
-        return cameraShake;
+    public FrameSnapshot getSnapshot() {
+        return snapshot;
     }
 
     public boolean isDebugOverlay() {
@@ -62,4 +37,8 @@ public class GameRenderContext {
     public int getBaseHeight() {
         return baseHeight;
     }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
 }
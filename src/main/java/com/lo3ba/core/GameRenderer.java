@@ -1,10 +1,16 @@
 package com.lo3ba.core;
 
+import com.lo3ba.effects.ParticleSnapshot;
+import com.lo3ba.effects.ParticleSystem;
+import com.lo3ba.graphics.PrescaledImage;
+import com.lo3ba.graphics.PrescaledImageCache;
 import com.lo3ba.levels.Level;
+import com.lo3ba.util.ResourceManager;
 import com.lo3ba.util.ScaleManager;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
 
 /**
  * Handles all rendering logic for the game.
@@ -15,11 +21,50 @@ import java.awt.image.BufferedImage;
  * - Render game world (background, level, player, particles)
  * - Render HUD (stats, counters)
  * - Render death screen
- * - Render debug overlay
+ * - Render debug overlay and per-phase frame profiler
+ *
+ * All game state is read from the context's FrameSnapshot, so rendering
+ * never races with the game thread.
+ *
+ * HUD text is drawn from a BitmapFont into an image that is only redrawn
+ * when a counter changes (HudPanel); the death message is drawn once.
+ *
+ * With a buffered RenderScaling the whole frame, HUD included, is drawn at
+ * base resolution into one back buffer, which is then scaled to the window
+ * in a single nearest-neighbour blit.
  */
 public class GameRenderer {
-    private final BufferedImage backgroundImg;
+    private static final double FRAME_BUDGET_MS = 1000.0 / 60;
+    private static final int SPARKLINE_HEIGHT = 60;
+    private static final double SPARKLINE_MAX_MS = 20.0;
+
+    // One color per FrameProfiler.Phase, in declaration order
+    private static final Color[] PHASE_COLORS = {
+        new Color(120, 120, 255), // Input
+        new Color(80, 200, 255),  // Player
+        new Color(80, 255, 120),  // Level
+        new Color(255, 230, 80),  // Particles
+        new Color(255, 160, 60),  // Shake
+        new Color(180, 180, 180), // Background
+        new Color(255, 80, 80),   // World
+        new Color(230, 120, 255)  // HUD
+    };
+
+    private static final String DEATH_MESSAGE = "YOU DIED!";
+    private static final int DEATH_MESSAGE_MARGIN = 4; // Room for glyphs past their advance
+
+    private final PrescaledImage background; // Null without a background image
     private final Font retroFont;
+    private final HudPanel hud;
+    private BufferedImage deathMessage; // Shadow and gradient text, drawn once
+    private int deathMessageWidth;
+    private int deathMessageAscent;
+    private final Font debugFont = new Font("Monospaced", Font.PLAIN, 12);
+
+    private final RenderScaling scaling;
+    private final Color clearColor;
+    private VolatileImage frameBuffer; // Base-resolution frame for buffered scaling
+    private final Rectangle viewport = new Rectangle();
 
     /**
      * Creates a new GameRenderer.
@@ -28,8 +73,22 @@ public class GameRenderer {
      * @param backgroundImg Background image to render
      */
     public GameRenderer(Font retroFont, BufferedImage backgroundImg) {
+        this(retroFont, backgroundImg, RenderScaling.STRETCH, Color.BLACK);
+    }
+
+    /**
+     * Creates a new GameRenderer with a choice of scaling.
+     *
+     * @param scaling How frames are scaled to the window
+     * @param clearColor Color behind the frame in the back buffer
+     */
+    public GameRenderer(Font retroFont, BufferedImage backgroundImg, RenderScaling scaling, Color clearColor) {
+        this.scaling = scaling;
+        this.clearColor = clearColor;
         this.retroFont = retroFont;
-        this.backgroundImg = backgroundImg;
+        this.hud = new HudPanel(retroFont);
+        this.background = backgroundImg == null ? null : PrescaledImageCache.getInstance()
+            .prescale(backgroundImg, ScaleManager.BASE_WIDTH, ScaleManager.BASE_HEIGHT);
     }
 
     /**
@@ -39,21 +98,84 @@ public class GameRenderer {
      * @param context Rendering context containing all game state
      */
     public void render(Graphics g, GameRenderContext context) {
+        if (!context.getSnapshot().isValid()) {
+            return; // Nothing published yet
+        }
         Graphics2D g2d = (Graphics2D) g.create();
+        if (scaling.isBuffered()) {
+            renderBuffered(g2d, context);
+        } else {
+            renderFrame(g2d, context);
+        }
+        g2d.dispose();
+    }
+
+    /**
+     * Whether render() paints every pixel of the window, so callers need not
+     * clear it first.
+     */
+    public boolean coversWindow() {
+        return scaling.isBuffered();
+    }
+
+    /**
+     * Draw the frame at base resolution into the back buffer, then scale it
+     * into the viewport and fill the bars around it.
+     */
+    private void renderBuffered(Graphics2D screen, GameRenderContext context) {
+        ScaleManager sm = ScaleManager.getInstance();
+        int windowWidth = sm.getCurrentWidth();
+        int windowHeight = sm.getCurrentHeight();
+        GraphicsConfiguration gc = screen.getDeviceConfiguration();
+
+        do {
+            if (frameBuffer == null || frameBuffer.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                frameBuffer = gc.createCompatibleVolatileImage(context.getBaseWidth(), context.getBaseHeight(),
+                                                               Transparency.OPAQUE);
+            }
+            Graphics2D frame = frameBuffer.createGraphics();
+            frame.setColor(clearColor);
+            frame.fillRect(0, 0, context.getBaseWidth(), context.getBaseHeight());
+            renderFrame(frame, context);
+            frame.dispose();
+
+            scaling.viewport(windowWidth, windowHeight, viewport);
+            screen.setColor(Color.BLACK);
+            screen.fillRect(0, 0, windowWidth, viewport.y);
+            screen.fillRect(0, viewport.y + viewport.height, windowWidth, windowHeight - viewport.y - viewport.height);
+            screen.fillRect(0, viewport.y, viewport.x, viewport.height);
+            screen.fillRect(viewport.x + viewport.width, viewport.y,
+                            windowWidth - viewport.x - viewport.width, viewport.height);
+            screen.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                                    RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            screen.drawImage(frameBuffer, viewport.x, viewport.y, viewport.width, viewport.height, null);
+        } while (frameBuffer.contentsLost());
+    }
+
+    /**
+     * Draw one frame: world, HUD and overlays.
+     */
+    private void renderFrame(Graphics2D g2d, GameRenderContext context) {
+        FrameProfiler profiler = context.getProfiler();
+        long t = profiler != null ? profiler.mark() : 0;
 
         // Configure rendering hints for pixel-perfect retro look
         configureRenderingHints(g2d);
 
         // Render game world
         renderBackground(g2d);
+        if (profiler != null) t = profiler.lap(FrameProfiler.Phase.BACKGROUND, t);
         renderGameWorld(g2d, context);
+        if (profiler != null) t = profiler.lap(FrameProfiler.Phase.WORLD, t);
 
         // Render HUD and overlays
         renderHUD(g2d, context);
         renderDeathMessage(g2d, context);
+        if (profiler != null) {
+            profiler.lap(FrameProfiler.Phase.HUD, t);
+            profiler.endFrame();
+        }
         renderDebugOverlay(g2d, context);
-
-        g2d.dispose();
     }
 
     /**
@@ -69,12 +191,16 @@ public class GameRenderer {
     }
 
     /**
-     * Render the background image scaled to current window size.
+     * Render the background image scaled to current window size, from a
+     * pre-scaled copy once one has been built for that size.
      */
     private void renderBackground(Graphics2D g2d) {
-        ScaleManager sm = ScaleManager.getInstance();
-        if (backgroundImg != null) {
-            g2d.drawImage(backgroundImg, 0, 0, sm.getCurrentWidth(), sm.getCurrentHeight(), null);
+        if (background != null) {
+            ScaleManager sm = ScaleManager.getInstance();
+            Graphics2D scaled = (Graphics2D) g2d.create();
+            scaled.scale(sm.getRenderScaleX(), sm.getRenderScaleY());
+            background.draw(scaled, 0, 0);
+            scaled.dispose();
         }
     }
 
@@ -82,90 +208,80 @@ public class GameRenderer {
      * Render the game world (level, player, particles) with camera shake applied.
      */
     private void renderGameWorld(Graphics2D g2d, GameRenderContext context) {
+        FrameSnapshot snapshot = context.getSnapshot();
+
         // Apply camera shake offset
-        g2d.translate(context.getCameraShake().getOffsetX(), 
-                     context.getCameraShake().getOffsetY());
+        g2d.translate(snapshot.getShakeOffsetX(), snapshot.getShakeOffsetY());
+
+        // Weather behind the level, in level coordinates like the level itself
+        ParticleSnapshot weather = snapshot.getWeatherSnapshot();
+        if (weather.getCount() > 0) {
+            ScaleManager sm = ScaleManager.getInstance();
+            Graphics2D weatherG = (Graphics2D) g2d.create();
+            weatherG.scale(sm.getRenderScaleX(), sm.getRenderScaleY());
+            ParticleSystem.render(weatherG, weather, snapshot.getAlpha());
+            weatherG.dispose();
+        }
 
         // Render level
-        Level currentLevel = context.getCurrentLevel();
+        Level currentLevel = snapshot.getLevel();
         if (currentLevel != null) {
-            currentLevel.render(g2d);
+            currentLevel.render(g2d, snapshot.getLevelSnapshot(), snapshot.getAlpha());
         }
 
         // Render player
-        context.getPlayer().render(g2d);
+        snapshot.getPlayer().render(g2d, snapshot.getPlayerRenderX(), snapshot.getPlayerRenderY());
 
         // Render particles on top
-        context.getParticleSystem().render(g2d);
+        ParticleSystem.render(g2d, snapshot.getParticleSnapshot(), snapshot.getAlpha());
 
         // Reset translation for UI
-        g2d.translate(-context.getCameraShake().getOffsetX(), 
-                     -context.getCameraShake().getOffsetY());
+        g2d.translate(-snapshot.getShakeOffsetX(), -snapshot.getShakeOffsetY());
     }
 
     /**
-     * Render the HUD (level info, stats, counters).
+     * Render the HUD (level info, stats, counters), redrawn only when a
+     * value changes.
      */
     private void renderHUD(Graphics2D g2d, GameRenderContext context) {
-        g2d.setFont(retroFont);
-        Player player = context.getPlayer();
-        LevelManager levelManager = context.getLevelManager();
-        Level currentLevel = context.getCurrentLevel();
-
-        // Level indicator with shadow
-        drawTextWithShadow(g2d, "LEVEL: " + levelManager.getCurrentLevelNumber(), 
-                          10, 30, new Color(255, 200, 0));
-
-        // Deaths counter with shadow
-        drawTextWithShadow(g2d, "DEATHS: " + player.getDeathCount(), 
-                          10, 60, new Color(255, 100, 100));
-
-        // Stars counter with shadow
-        String starsText = "STARS: " + currentLevel.getCollectedStars() + 
-                          " / " + currentLevel.getTotalStars();
-        drawTextWithShadow(g2d, starsText, 10, 90, Color.YELLOW);
-
-        // HP counter with shadow
-        drawTextWithShadow(g2d, "HP: " + player.getHealth(), 10, 110, Color.GREEN);
-
-        // Bomb counter with shadow
-        drawTextWithShadow(g2d, "BOMBS: " + player.getBombCount(), 10, 140, Color.ORANGE);
-
-        // Stuck timer (only show if stuck)
-        int stuckTimer = currentLevel.getStuckTimer();
-        if (stuckTimer > 0) {
-            int remainingSeconds = (300 - stuckTimer) / 60 + 1;
-            drawTextWithShadow(g2d, "STUCK: " + remainingSeconds + "s", 10, 120, Color.RED);
-        }
+        hud.render(g2d, context.getSnapshot());
     }
 
     /**
-     * Render the death message if player is dead.
+     * Render the death message if player is dead, from an image drawn the
+     * first time it is needed.
      */
     private void renderDeathMessage(Graphics2D g2d, GameRenderContext context) {
-        if (!context.getPlayer().isDead()) {
+        if (!context.getSnapshot().isPlayerDead()) {
             return;
         }
 
-        Font bigFont = retroFont.deriveFont(32f);
-        g2d.setFont(bigFont);
-        String msg = "YOU DIED!";
-        FontMetrics fm = g2d.getFontMetrics();
-        int msgWidth = fm.stringWidth(msg);
-        int x = context.getBaseWidth() / 2 - msgWidth / 2;
-        int y = context.getBaseHeight() / 2 - 20;
+        if (deathMessage == null) {
+            Font bigFont = retroFont.deriveFont(32f);
+            FontMetrics fm = g2d.getFontMetrics(bigFont);
+            deathMessageWidth = fm.stringWidth(DEATH_MESSAGE);
+            deathMessageAscent = fm.getAscent();
+            deathMessage = ResourceManager.createCompatibleImage(deathMessageWidth + 3 + DEATH_MESSAGE_MARGIN,
+                fm.getAscent() + fm.getDescent() + 3 + DEATH_MESSAGE_MARGIN, Transparency.TRANSLUCENT);
+            Graphics2D g = deathMessage.createGraphics();
+            configureRenderingHints(g);
+            g.setFont(bigFont);
+            int y = deathMessageAscent;
+
+            // Shadow
+            g.setColor(Color.BLACK);
+            g.drawString(DEATH_MESSAGE, 3, y + 3);
+
+            // Main text with gradient effect
+            g.setPaint(new GradientPaint(0, y - 20, new Color(255, 50, 0),
+                                         0, y + 10, new Color(200, 0, 0)));
+            g.drawString(DEATH_MESSAGE, 0, y);
+            g.dispose();
+        }
 
-        // Shadow
-        g2d.setColor(Color.BLACK);
-        g2d.drawString(msg, x + 3, y + 3);
-
-        // Main text with gradient effect
-        GradientPaint gp = new GradientPaint(
-            x, y - 20, new Color(255, 50, 0),
-            x, y + 10, new Color(200, 0, 0)
-        );
-        g2d.setPaint(gp);
-        g2d.drawString(msg, x, y);
+        int x = context.getBaseWidth() / 2 - deathMessageWidth / 2;
+        int y = context.getBaseHeight() / 2 - 20;
+        g2d.drawImage(deathMessage, x, y - deathMessageAscent, null);
     }
 
     /**
@@ -176,41 +292,84 @@ public class GameRenderer {
             return;
         }
 
-        Level currentLevel = context.getCurrentLevel();
+        FrameSnapshot snapshot = context.getSnapshot();
+        Level currentLevel = snapshot.getLevel();
         if (currentLevel == null) {
             return;
         }
 
         // Player bounds (magenta)
-        Rectangle pb = context.getPlayer().getBounds();
         g2d.setColor(Color.MAGENTA);
-        g2d.drawRect(pb.x, pb.y, pb.width, pb.height);
+        g2d.drawRect((int) snapshot.getPlayerX(), (int) snapshot.getPlayerY(), Player.WIDTH, Player.HEIGHT);
 
         // Level debug shapes
         currentLevel.debugRender(g2d);
 
         // Debug legend
-        g2d.setFont(new Font("Monospaced", Font.PLAIN, 12));
+        g2d.setFont(debugFont);
         g2d.setColor(Color.WHITE);
         g2d.drawString("DEBUG: F3 toggles overlay", 12, context.getBaseHeight() - 10);
+
+        if (context.getProfiler() != null && context.getProfiler().isEnabled()) {
+            renderProfiler(g2d, context.getProfiler(), snapshot, context.getBaseWidth());
+        }
     }
 
     /**
-     * Helper method to draw text with a black shadow for better readability.
-     * 
-     * @param g2d Graphics context
-     * @param text Text to draw
-     * @param x X position
-     * @param y Y position
-     * @param color Main text color
+     * Render the per-phase timing table and a stacked sparkline of the
+     * last FrameProfiler.HISTORY frames, with the 60 Hz budget marked.
      */
-    private void drawTextWithShadow(Graphics2D g2d, String text, int x, int y, Color color) {
-        // Shadow
-        g2d.setColor(Color.BLACK);
-        g2d.drawString(text, x + 2, y + 2);
-        
-        // Main text
-        g2d.setColor(color);
-        g2d.drawString(text, x, y);
+    private void renderProfiler(Graphics2D g2d, FrameProfiler profiler, FrameSnapshot snapshot, int baseWidth) {
+        FrameProfiler.Phase[] phases = FrameProfiler.Phase.values();
+        int width = FrameProfiler.HISTORY + 20;
+        int lineHeight = 14;
+        int height = (phases.length + 3) * lineHeight + SPARKLINE_HEIGHT + 20;
+        int left = baseWidth - width - 10;
+        int top = 10;
+
+        g2d.setColor(new Color(0, 0, 0, 180));
+        g2d.fillRect(left, top, width, height);
+        g2d.setFont(debugFont);
+
+        int x = left + 10;
+        int y = top + lineHeight;
+        g2d.setColor(Color.WHITE);
+        g2d.drawString(String.format("%-10s %5s %5s %5s", "ms", "min", "avg", "p99"), x, y);
+        for (FrameProfiler.Phase phase : phases) {
+            y += lineHeight;
+            g2d.setColor(PHASE_COLORS[phase.ordinal()]);
+            g2d.drawString(String.format("%-10s %5.2f %5.2f %5.2f", phase.getLabel(),
+                profiler.getMinMillis(phase), profiler.getAverageMillis(phase),
+                profiler.getPercentileMillis(phase, 99)), x, y);
+        }
+
+        y += lineHeight;
+        g2d.setColor(Color.WHITE);
+        g2d.drawString("Particles: " + snapshot.getParticleSnapshot().getCount()
+                       + " + " + snapshot.getWeatherSnapshot().getCount() + " weather", x, y);
+        y += lineHeight;
+        double allocRate = profiler.getAllocationRate();
+        g2d.drawString(allocRate < 0 ? "Alloc: n/a"
+            : String.format("Alloc: %.1f MB/s", allocRate / (1024 * 1024)), x, y);
+
+        // Stacked sparkline, newest frame on the right
+        int graphBottom = y + 10 + SPARKLINE_HEIGHT;
+        double pixelsPerMs = SPARKLINE_HEIGHT / SPARKLINE_MAX_MS;
+        for (int i = 0; i < FrameProfiler.HISTORY; i++) {
+            int barX = x + FrameProfiler.HISTORY - 1 - i;
+            int barY = graphBottom;
+            for (FrameProfiler.Phase phase : phases) {
+                if (i >= profiler.getSampleCount(phase)) continue;
+                int barHeight = (int) Math.round(profiler.getSample(phase, i) / 1_000_000.0 * pixelsPerMs);
+                barHeight = Math.min(barHeight, barY - (graphBottom - SPARKLINE_HEIGHT));
+                if (barHeight <= 0) continue;
+                barY -= barHeight;
+                g2d.setColor(PHASE_COLORS[phase.ordinal()]);
+                g2d.drawLine(barX, barY, barX, barY + barHeight - 1);
+            }
+        }
+        int budgetY = graphBottom - (int) Math.round(FRAME_BUDGET_MS * pixelsPerMs);
+        g2d.setColor(Color.RED);
+        g2d.drawLine(x, budgetY, x + FrameProfiler.HISTORY - 1, budgetY);
     }
 }
@@ -393,4 +393,11 @@ public class GameUIManager {
     public boolean isVictoryScreenShown() {
         return victoryScreenShown;
     }
+    
+    /**
+     * Check if any full-screen overlay (pause, death, victory) is shown.
+     */
+    public boolean isOverlayVisible() {
+        return isPaused || victoryScreenShown || gameUIShown;
+    }
 }
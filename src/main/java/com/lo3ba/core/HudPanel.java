@@ -0,0 +1,125 @@
+package com.lo3ba.core;
+
+import com.lo3ba.graphics.BitmapFont;
+import com.lo3ba.levels.LevelSnapshot;
+import com.lo3ba.util.ResourceManager;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The HUD counters (level, deaths, stars, HP, bombs and the stuck timer),
+ * drawn into an image that is redrawn only when one of the values shown
+ * changes. Every other frame is a single blit, with no strings built and
+ * no text laid out. Redraws use a BitmapFont.
+ *
+ * Rendering thread only.
+ */
+final class HudPanel {
+    private static final int SHADOW_OFFSET = 2;
+    private static final int LEFT = 10;
+    private static final int BOTTOM_LINE = 140;
+
+    // Baseline and color of each row, drawn in this order; the stuck timer
+    // is last and only shown while the player is stuck
+    private static final int[] ROW_Y = {30, 60, 90, 110, BOTTOM_LINE, 120};
+    private static final Color[] ROW_COLORS = {
+        new Color(255, 200, 0), new Color(255, 100, 100), Color.YELLOW, Color.GREEN, Color.ORANGE, Color.RED
+    };
+
+    private final BitmapFont font;
+    private final StringBuilder line = new StringBuilder(32);
+    private BufferedImage image;
+    private int redrawCount = 0;
+
+    // Values the image shows; valid once image is set
+    private int levelNumber;
+    private int deathCount;
+    private int collectedStars;
+    private int totalStars;
+    private int health;
+    private int bombCount;
+    private int stuckSeconds;
+
+    HudPanel(Font font) {
+        this.font = BitmapFont.get(font);
+    }
+
+    /**
+     * Draw the HUD at the top left, redrawing the image first if any value
+     * changed since the last frame.
+     */
+    void render(Graphics2D g2d, FrameSnapshot snapshot) {
+        LevelSnapshot level = snapshot.getLevelSnapshot();
+        int stuckTimer = level.getStuckTimer();
+        int stuck = stuckTimer > 0 ? (300 - stuckTimer) / 60 + 1 : 0;
+
+        if (image == null
+                || levelNumber != snapshot.getLevelNumber()
+                || deathCount != snapshot.getDeathCount()
+                || collectedStars != level.getCollectedStars()
+                || totalStars != level.getTotalStars()
+                || health != snapshot.getHealth()
+                || bombCount != snapshot.getBombCount()
+                || stuckSeconds != stuck) {
+            levelNumber = snapshot.getLevelNumber();
+            deathCount = snapshot.getDeathCount();
+            collectedStars = level.getCollectedStars();
+            totalStars = level.getTotalStars();
+            health = snapshot.getHealth();
+            bombCount = snapshot.getBombCount();
+            stuckSeconds = stuck;
+            redraw();
+        }
+        g2d.drawImage(image, 0, 0, null);
+    }
+
+    /**
+     * How many times the image has been redrawn.
+     */
+    int getRedrawCount() {
+        return redrawCount;
+    }
+
+    private void redraw() {
+        int rows = stuckSeconds > 0 ? ROW_Y.length : ROW_Y.length - 1;
+        int width = 1;
+        for (int row = 0; row < rows; row++) {
+            width = Math.max(width, LEFT + SHADOW_OFFSET + font.stringWidth(format(row)) + 1);
+        }
+        int height = BOTTOM_LINE + SHADOW_OFFSET + font.getDescent() + 1;
+        if (image == null || image.getWidth() < width) {
+            image = ResourceManager.createCompatibleImage(width + 64, height, Transparency.TRANSLUCENT);
+        }
+
+        Graphics2D g = image.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.setComposite(AlphaComposite.SrcOver);
+        for (int row = 0; row < rows; row++) {
+            drawLine(g, format(row), ROW_Y[row], ROW_COLORS[row]);
+        }
+        g.dispose();
+        redrawCount++;
+    }
+
+    /**
+     * The text of one row, in the shared builder.
+     */
+    private CharSequence format(int row) {
+        line.setLength(0);
+        switch (row) {
+            case 0: return line.append("LEVEL: ").append(levelNumber);
+            case 1: return line.append("DEATHS: ").append(deathCount);
+            case 2: return line.append("STARS: ").append(collectedStars).append(" / ").append(totalStars);
+            case 3: return line.append("HP: ").append(health);
+            case 4: return line.append("BOMBS: ").append(bombCount);
+            default: return line.append("STUCK: ").append(stuckSeconds).append('s');
+        }
+    }
+
+    private void drawLine(Graphics2D g, CharSequence text, int y, Color color) {
+        font.drawString(g, text, LEFT + SHADOW_OFFSET, y + SHADOW_OFFSET, Color.BLACK);
+        font.drawString(g, text, LEFT, y, color);
+    }
+}
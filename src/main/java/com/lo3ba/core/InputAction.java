@@ -0,0 +1,11 @@
+package com.lo3ba.core;
+
+/**
+ * Logical player actions, independent of the physical key that triggers them.
+ */
+public enum InputAction {
+    LEFT,
+    RIGHT,
+    JUMP,
+    BOMB
+}
@@ -5,8 +5,8 @@ import java.awt.event.KeyEvent;
 public class InputHandler {
     private Player player;
     private LevelManager levelManager;
-    private boolean leftPressed = false;
-    private boolean rightPressed = false;
+    private volatile boolean leftPressed = false;
+    private volatile boolean rightPressed = false;
     
     public InputHandler(Player player, LevelManager levelManager) {
         this.player = player;
@@ -19,26 +19,22 @@ public class InputHandler {
         switch (key) {
             case KeyEvent.VK_LEFT:
             case KeyEvent.VK_A:
-                leftPressed = true;
-                updateMovement();
+                setLeftPressed(true);
                 break;
                 
             case KeyEvent.VK_RIGHT:
             case KeyEvent.VK_D:
-                rightPressed = true;
-                updateMovement();
+                setRightPressed(true);
                 break;
                 
             case KeyEvent.VK_SPACE:
             case KeyEvent.VK_UP:
             case KeyEvent.VK_W:
-                player.jump();
+                jump();
                 break;
                 
             case KeyEvent.VK_E:
-                if (levelManager != null && levelManager.getCurrentLevel() != null) {
-                    levelManager.getCurrentLevel().tryUseBomb();
-                }
+                useBomb();
                 break;
         }
     }
@@ -49,18 +45,57 @@ public class InputHandler {
         switch (key) {
             case KeyEvent.VK_LEFT:
             case KeyEvent.VK_A:
-                leftPressed = false;
-                updateMovement();
+                setLeftPressed(false);
                 break;
                 
             case KeyEvent.VK_RIGHT:
             case KeyEvent.VK_D:
-                rightPressed = false;
-                updateMovement();
+                setRightPressed(false);
                 break;
         }
     }
     
+    /**
+     * Apply a logical action without going through a KeyEvent.
+     * Used by scripted input sources in headless simulation.
+     */
+    public void apply(InputAction action, boolean pressed) {
+        switch (action) {
+            case LEFT:
+                setLeftPressed(pressed);
+                break;
+            case RIGHT:
+                setRightPressed(pressed);
+                break;
+            case JUMP:
+                if (pressed) jump();
+                break;
+            case BOMB:
+                if (pressed) useBomb();
+                break;
+        }
+    }
+    
+    public void setLeftPressed(boolean pressed) {
+        leftPressed = pressed;
+        updateMovement();
+    }
+    
+    public void setRightPressed(boolean pressed) {
+        rightPressed = pressed;
+        updateMovement();
+    }
+    
+    public void jump() {
+        player.jump();
+    }
+    
+    public void useBomb() {
+        if (levelManager != null && levelManager.getCurrentLevel() != null) {
+            levelManager.getCurrentLevel().tryUseBomb();
+        }
+    }
+    
     // Make this public so the game loop can call it every frame to apply current input state
     public void updateMovement() {
         if (leftPressed && !rightPressed) {
@@ -0,0 +1,17 @@
+package com.lo3ba.core;
+
+/**
+ * Source of player input for the Simulation.
+ * Polled once per tick, before movement is applied.
+ * Keyboard input does not need an InputSource: the Swing key listener
+ * writes straight into the InputHandler.
+ */
+public interface InputSource {
+    /**
+     * Push the input for the given tick into the handler.
+     *
+     * @param tick Zero-based tick index of the simulation
+     * @param input Input handler to drive
+     */
+    void poll(long tick, InputHandler input);
+}
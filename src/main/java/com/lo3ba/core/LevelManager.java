@@ -1,18 +1,22 @@
 package com.lo3ba.core;
 
-import com.lo3ba.levels.*;
+import com.lo3ba.audio.AudioEngine;
+import com.lo3ba.audio.Sound;
+import com.lo3ba.levels.Level;
+import com.lo3ba.levels.LevelRegistry;
 import com.lo3ba.util.ResourceManager;
 
-import javax.sound.sampled.*;
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 
+/**
+ * Holds the level being played. Levels are built from LevelRegistry when
+ * they are started, and the previous one is dropped, so only the current
+ * level is ever in memory or has its textures pinned in the cache.
+ */
 public class LevelManager {
     private Player player;
-    private Level[] levels;
+    private Level currentLevel;
     private int currentLevelIndex = 0;
-    private Clip doorSound;
     
     public LevelManager(Player player) {
         this(player, 1); 
@@ -22,63 +26,47 @@ public class LevelManager {
         System.out.println("LevelManager constructor called with startLevel: " + startLevel);
         this.player = player;
         this.currentLevelIndex = startLevel - 1; // Convert to 0-based index
-        initializeLevels();
-        loadSounds();
+        currentLevel = LevelRegistry.create(startLevel, player);
 
         // Initialize player at the correct starting position
-        Level startingLevel = levels[currentLevelIndex];
-        player.reset(startingLevel.getSpawnX(), startingLevel.getSpawnY());
+        player.reset(currentLevel.getSpawnX(), currentLevel.getSpawnY());
         System.out.println("LevelManager initialized with level " + startLevel);
     }
     
-    private void initializeLevels() {
-        levels = new Level[] {
-            new Level1(player),
-            new Level2(player),
-            new Level3(player),
-            new Level4(player),
-            new Level5(player),
-            new Level6(player),
-            new Level7(player),
-            new Level8(player),
-            new Level9(player),
-            new Level10(player)
-        };
-    }
-    
-    private void loadSounds() {
-        doorSound = ResourceManager.loadSound("door.wav");
-    }
-    
     public void update() {
-        Level currentLevel = levels[currentLevelIndex];
         currentLevel.update();
         
         // Auto-advancement removed. GameLoop handles this now.
     }
     
     public void nextLevel() {
-        if (doorSound != null) {
-            doorSound.setFramePosition(0);
-            doorSound.start();
-        }
+        AudioEngine.getInstance().play(Sound.DOOR);
         
         currentLevelIndex++;
-        if (currentLevelIndex >= levels.length) {
+        if (currentLevelIndex >= LevelRegistry.getLevelCount()) {
             currentLevelIndex = 0; // Loop back to first level
         }
         
-        Level nextLevel = levels[currentLevelIndex];
-        player.reset(nextLevel.getSpawnX(), nextLevel.getSpawnY());
+        // The finished level is released; a revisited level starts fresh
+        Level finished = currentLevel;
+        currentLevel = LevelRegistry.create(currentLevelIndex + 1, player);
+        finished.release(); // After the next level pinned the textures they share
+        player.reset(currentLevel.getSpawnX(), currentLevel.getSpawnY());
     }
     
     public void resetCurrentLevel() {
-        Level currentLevel = levels[currentLevelIndex];
         currentLevel.reset();
     }
     
+    /**
+     * Release the current level's textures when the game is left.
+     */
+    public void release() {
+        currentLevel.release();
+    }
+    
     public Level getCurrentLevel() {
-        return levels[currentLevelIndex];
+        return currentLevel;
     }
     
     public int getCurrentLevelNumber() {
@@ -86,12 +74,6 @@ public class LevelManager {
     }
     
     public BufferedImage loadImage(String filename) {
-        try {
-            return ImageIO.read(getClass().getClassLoader()
-                .getResourceAsStream("assets/textures/" + filename));
-        } catch (IOException e) {
-            e.printStackTrace();
-            return null;
-        }
+        return ResourceManager.loadTexture(filename);
     }
 }
\ No newline at end of file
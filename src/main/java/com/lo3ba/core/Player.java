@@ -1,9 +1,12 @@
 package com.lo3ba.core;
 
+import com.lo3ba.audio.AudioEngine;
+import com.lo3ba.audio.Sound;
+import com.lo3ba.graphics.PrescaledImage;
+import com.lo3ba.graphics.PrescaledImageCache;
 import com.lo3ba.util.ResourceManager;
 import com.lo3ba.util.ScaleManager;
 
-import javax.sound.sampled.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
@@ -27,15 +30,18 @@ public class Player {
     private int health = 100; // Player health
     private int bombCount = 0; // NEW
     private static final int MAX_BOMBS = 3; // NEW
+    private static final Color DEATH_PARTICLE_COLOR = new Color(255, 100, 100);
     
     // Enhancement system reference
-    private GameLoop gameLoop;
+    private Simulation simulation;
     private boolean wasOnGround = false;
     private double previousY = 0;
     
+    // Position at the start of the current tick, for render interpolation
+    private double lastTickX, lastTickY;
+    
     private BufferedImage sprite;
-    private Clip jumpSound;
-    private Clip deathSound;
+    private PrescaledImage scaledSprite; // Sprite at the current window scale
     
     // Avatar customization
     private String avatarSpriteFile = "player.png"; // Default avatar
@@ -47,41 +53,47 @@ public class Player {
         this(x, y, "player.png", null);
     }
     
-    public Player(double x, double y, GameLoop gameLoop) {
-        this(x, y, "player.png", gameLoop);
+    public Player(double x, double y, Simulation simulation) {
+        this(x, y, "player.png", simulation);
     }
     
     public Player(double x, double y, String avatarSpriteFile) {
         this(x, y, avatarSpriteFile, null);
     }
     
-    public Player(double x, double y, String avatarSpriteFile, GameLoop gameLoop) {
+    public Player(double x, double y, String avatarSpriteFile, Simulation simulation) {
         this.x = x;
         this.y = y;
+        this.lastTickX = x;
+        this.lastTickY = y;
         this.avatarSpriteFile = avatarSpriteFile;
-        this.gameLoop = gameLoop;
+        this.simulation = simulation;
         loadAssets();
     }
     
     private void loadAssets() {
         sprite = ResourceManager.loadTexture(avatarSpriteFile);
-        jumpSound = ResourceManager.loadSound("jump.wav");
-        deathSound = ResourceManager.loadSound("death.wav");
+        scaledSprite = prescale(sprite);
     }
     
     public void setAvatarSprite(String spriteFile) {
         this.avatarSpriteFile = spriteFile;
         sprite = ResourceManager.loadTexture(spriteFile);
+        scaledSprite = prescale(sprite);
     }
     
-    private void playSound(Clip clip) {
-        if (clip != null) {
-            clip.setFramePosition(0);
-            clip.start();
-        }
+    private static PrescaledImage prescale(BufferedImage sprite) {
+        return sprite == null ? null : PrescaledImageCache.getInstance().prescale(sprite, WIDTH, HEIGHT);
+    }
+    
+    private void playSound(Sound sound) {
+        AudioEngine.getInstance().play(sound, 1f, AudioEngine.panAt(x + WIDTH / 2));
     }
     
     public void update() {
+        lastTickX = x;
+        lastTickY = y;
+        
         if (dead) {
             deathTimer++;
             return;
@@ -109,12 +121,12 @@ public class Player {
      * Call this after collision detection to trigger landing effects
      */
     public void checkLandingEffects() {
-        if (onGround && !wasOnGround && gameLoop != null) {
+        if (onGround && !wasOnGround && simulation != null) {
             double fallDistance = y - previousY;
             if (fallDistance > 3) {
                 // Create dust particles on landing
                 int dustCount = (int)Math.min(12, fallDistance / 2);
-                gameLoop.getParticleSystem().createDustParticles(
+                simulation.getParticleSystem().createDustParticles(
                     x + WIDTH/2, 
                     y + HEIGHT, 
                     dustCount
@@ -122,7 +134,7 @@ public class Player {
                 
                 // Camera shake for hard landings
                 if (fallDistance > 12) {
-                    gameLoop.getCameraShake().shake(2f + (float)(fallDistance / 10), 6);
+                    simulation.getCameraShake().shake(2f + (float)(fallDistance / 10), 6);
                 }
             }
         }
@@ -144,7 +156,7 @@ public class Player {
         if (onGround && !dead) {
             velocityY = JUMP_STRENGTH;
             onGround = false;
-            playSound(jumpSound);
+            playSound(Sound.JUMP);
         }
     }
     
@@ -167,19 +179,19 @@ public class Player {
             dead = true;
             deaths++; // Incrementing the death counter
             deathTimer = 0;
-            playSound(deathSound);
+            playSound(Sound.DEATH);
             
             // ENHANCEMENT: Death effects
-            if (gameLoop != null) {
+            if (simulation != null) {
                 // Camera shake
-                gameLoop.getCameraShake().shake(10f, 20);
+                simulation.getCameraShake().shake(10f, 20);
                 
                 // Explosion particles
-                gameLoop.getParticleSystem().createExplosionParticles(
+                simulation.getParticleSystem().createExplosionParticles(
                     x + WIDTH/2, 
                     y + HEIGHT/2, 
                     30, 
-                    new Color(255, 100, 100)
+                    DEATH_PARTICLE_COLOR
                 );
             }
         }
@@ -188,6 +200,9 @@ public class Player {
     public void reset(double x, double y) {
         this.x = x;
         this.y = y;
+        // Teleport: nothing to interpolate from
+        this.lastTickX = x;
+        this.lastTickY = y;
         velocityX = 0;
         velocityY = 0;
         dead = false;
@@ -213,13 +228,20 @@ public class Player {
     }
     
     public void render(Graphics2D g) {
+        render(g, x, y);
+    }
+    
+    /**
+     * Render at a position captured in a frame snapshot.
+     */
+    public void render(Graphics2D g, double x, double y) {
         // Apply scaling transformation
         ScaleManager sm = ScaleManager.getInstance();
         Graphics2D g2d = (Graphics2D) g.create();
-        g2d.scale(sm.getScaleX(), sm.getScaleY());
+        g2d.scale(sm.getRenderScaleX(), sm.getRenderScaleY());
         
         if (sprite != null) {
-            g2d.drawImage(sprite, (int)x, (int)y, WIDTH, HEIGHT, null);
+            scaledSprite.draw(g2d, (int)x, (int)y);
         } else {
             g2d.setColor(Color.CYAN);
             g2d.fillRect((int)x, (int)y, WIDTH, HEIGHT);
@@ -231,6 +253,8 @@ public class Player {
     // Getters
     public double getX() { return x; }
     public double getY() { return y; }
+    public double getLastTickX() { return lastTickX; }
+    public double getLastTickY() { return lastTickY; }
     public void setX(double x) { this.x = x; }
     public void setY(double y) { this.y = y; }
     public double getVelocityY() { return velocityY; }
@@ -258,8 +282,8 @@ public class Player {
         return deaths;
     }
     
-    // ENHANCEMENT: Getter for GameLoop reference
-    public GameLoop getGameLoop() {
-        return gameLoop;
+    // ENHANCEMENT: Getter for the owning Simulation (null for standalone players)
+    public Simulation getSimulation() {
+        return simulation;
     }
 }
\ No newline at end of file
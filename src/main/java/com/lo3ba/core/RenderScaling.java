@@ -0,0 +1,71 @@
+package com.lo3ba.core;
+
+import com.lo3ba.util.ScaleManager;
+
+import java.awt.*;
+
+/**
+ * How a frame gets from base coordinates (1000x600) to the window.
+ * Set -Dlo3ba.renderScaling=stretch|integer|letterbox to choose.
+ */
+public enum RenderScaling {
+    /** Every object scales itself straight to the window; the HUD is drawn unscaled. */
+    STRETCH,
+    /** Draw at base resolution, then scale by the largest whole factor that fits, centered. */
+    INTEGER,
+    /** Draw at base resolution, then scale as large as fits with the aspect ratio kept, centered. */
+    LETTERBOX;
+
+    public static final String PROPERTY = "lo3ba.renderScaling";
+
+    /**
+     * The mode named by the system property, STRETCH if unset or unknown.
+     */
+    public static RenderScaling fromSystemProperty() {
+        String value = System.getProperty(PROPERTY);
+        if (value == null) {
+            return STRETCH;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠ Unknown " + PROPERTY + ": " + value + ", using stretch");
+            return STRETCH;
+        }
+    }
+
+    /**
+     * Whether frames are drawn at base resolution into one back buffer.
+     */
+    public boolean isBuffered() {
+        return this != STRETCH;
+    }
+
+    /**
+     * Where the base-resolution frame goes in a window of the given size.
+     * A window smaller than the base resolution gets the frame scaled down
+     * to fit, in every mode.
+     *
+     * @param viewport Receives the destination rectangle
+     */
+    public void viewport(int windowWidth, int windowHeight, Rectangle viewport) {
+        if (this == STRETCH) {
+            viewport.setBounds(0, 0, windowWidth, windowHeight);
+            return;
+        }
+
+        int width;
+        int height;
+        int factor = Math.min(windowWidth / ScaleManager.BASE_WIDTH, windowHeight / ScaleManager.BASE_HEIGHT);
+        if (this == INTEGER && factor >= 1) {
+            width = ScaleManager.BASE_WIDTH * factor;
+            height = ScaleManager.BASE_HEIGHT * factor;
+        } else {
+            double scale = Math.min((double) windowWidth / ScaleManager.BASE_WIDTH,
+                                    (double) windowHeight / ScaleManager.BASE_HEIGHT);
+            width = (int) Math.round(ScaleManager.BASE_WIDTH * scale);
+            height = (int) Math.round(ScaleManager.BASE_HEIGHT * scale);
+        }
+        viewport.setBounds((windowWidth - width) / 2, (windowHeight - height) / 2, width, height);
+    }
+}
@@ -0,0 +1,91 @@
+package com.lo3ba.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Input source that replays a fixed script of presses and releases.
+ * Used for headless batch runs, replay checks and benchmarks.
+ *
+ * Example:
+ * <pre>
+ * ScriptedInput script = new ScriptedInput()
+ *     .hold(InputAction.RIGHT, 0, 120)
+ *     .tap(InputAction.JUMP, 30);
+ * </pre>
+ */
+public class ScriptedInput implements InputSource {
+    private final List<Event> events = new ArrayList<>();
+    private boolean sorted = true;
+    private int cursor = 0;
+
+    /**
+     * Press an action at the given tick.
+     */
+    public ScriptedInput press(InputAction action, long tick) {
+        return add(tick, action, true);
+    }
+
+    /**
+     * Release an action at the given tick.
+     */
+    public ScriptedInput release(InputAction action, long tick) {
+        return add(tick, action, false);
+    }
+
+    /**
+     * Hold an action from one tick (inclusive) to another (exclusive).
+     */
+    public ScriptedInput hold(InputAction action, long fromTick, long toTick) {
+        press(action, fromTick);
+        return release(action, toTick);
+    }
+
+    /**
+     * Press and release an action on the same tick (jump, bomb).
+     */
+    public ScriptedInput tap(InputAction action, long tick) {
+        return hold(action, tick, tick);
+    }
+
+    /**
+     * Rewind the script so it can be replayed from tick 0.
+     */
+    public void rewind() {
+        cursor = 0;
+    }
+
+    @Override
+    public void poll(long tick, InputHandler input) {
+        if (!sorted) {
+            // Stable sort keeps press-before-release order for taps
+            events.sort(Comparator.comparingLong(e -> e.tick));
+            sorted = true;
+        }
+        while (cursor < events.size() && events.get(cursor).tick <= tick) {
+            Event e = events.get(cursor++);
+            input.apply(e.action, e.pressed);
+        }
+    }
+
+    private ScriptedInput add(long tick, InputAction action, boolean pressed) {
+        if (!events.isEmpty() && events.get(events.size() - 1).tick > tick) {
+            sorted = false;
+        }
+        events.add(new Event(tick, action, pressed));
+        return this;
+    }
+
+    private static class Event {
+        final long tick;
+        final InputAction action;
+        final boolean pressed;
+
+        Event(long tick, InputAction action, boolean pressed) {
+            this.tick = tick;
+            this.action = action;
+            this.pressed = pressed;
+        }
+    }
+}
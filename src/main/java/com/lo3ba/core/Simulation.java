@@ -0,0 +1,204 @@
+package com.lo3ba.core;
+
+import com.lo3ba.effects.CameraShake;
+import com.lo3ba.effects.ParticleSystem;
+import com.lo3ba.effects.WeatherEmitter;
+import com.lo3ba.levels.Level;
+
+/**
+ * Headless game simulation.
+ * Owns all game state and advances it one fixed tick at a time, with no
+ * Swing, no repaint and no sleeping. GameLoop drives it at 60 Hz for play;
+ * tests, replays and benchmarks drive it as fast as the CPU allows.
+ *
+ * Responsibilities:
+ * - Own Player, LevelManager, InputHandler, ParticleSystem and CameraShake
+ * - Run the current level's weather in a particle system of its own
+ * - Poll an optional scripted InputSource each tick
+ * - Run one tick of game logic on demand
+ * - Copy render state into FrameSnapshots for the renderer
+ * - Time each phase of a tick when profiling is enabled
+ */
+public class Simulation {
+    private final Player player;
+    private final LevelManager levelManager;
+    private final InputHandler inputHandler;
+    private final ParticleSystem particleSystem;
+    // Weather has its own system so it can't crowd out gameplay effects
+    private final ParticleSystem weatherParticles =
+        new ParticleSystem(WeatherEmitter.MAX_PARTICLES, ParticleSystem.CapacityPolicy.REFUSE);
+    private Level weatherLevel; // Level the weather particles belong to
+    private final CameraShake cameraShake;
+    private final FrameProfiler profiler = new FrameProfiler();
+
+    private InputSource inputSource;
+    private long tickCount = 0;
+
+    public Simulation(int startLevel) {
+        this(startLevel, null);
+    }
+
+    /**
+     * Creates a simulation starting at the given level.
+     *
+     * @param startLevel 1-based level number
+     * @param inputSource Scripted input, or null when input comes from the keyboard
+     */
+    public Simulation(int startLevel, InputSource inputSource) {
+        this.inputSource = inputSource;
+        this.particleSystem = new ParticleSystem();
+        this.cameraShake = new CameraShake();
+
+        // Initialize at default position first; LevelManager moves it to the spawn
+        this.player = new Player(100, 400, this);
+        this.levelManager = new LevelManager(player, startLevel);
+        this.inputHandler = new InputHandler(player, levelManager);
+    }
+
+    /**
+     * Advance the game by one fixed tick.
+     * Does nothing but count the tick while the player is dead.
+     */
+    public void tick() {
+        long tick = tickCount++;
+        if (player.isDead()) return;
+
+        long t = profiler.mark();
+        if (inputSource != null) {
+            inputSource.poll(tick, inputHandler);
+        }
+
+        // Apply input state each frame
+        inputHandler.updateMovement();
+        t = profiler.lap(FrameProfiler.Phase.INPUT, t);
+
+        player.update();
+        t = profiler.lap(FrameProfiler.Phase.PLAYER, t);
+        levelManager.update();
+        t = profiler.lap(FrameProfiler.Phase.LEVEL, t);
+
+        // ENHANCEMENT: Update particles and camera shake
+        particleSystem.update();
+        updateWeather();
+        t = profiler.lap(FrameProfiler.Phase.PARTICLES, t);
+        cameraShake.update();
+        t = profiler.lap(FrameProfiler.Phase.CAMERA_SHAKE, t);
+
+        // ENHANCEMENT: Check for landing effects after collision detection
+        player.checkLandingEffects();
+        profiler.lap(FrameProfiler.Phase.PLAYER, t);
+        profiler.endTick();
+    }
+
+    // Keep the current level's weather going; a new level starts with clear skies
+    private void updateWeather() {
+        Level level = levelManager.getCurrentLevel();
+        if (level != weatherLevel) {
+            weatherParticles.clear();
+            weatherLevel = level;
+        }
+        WeatherEmitter weather = level != null ? level.getWeather() : null;
+        if (weather != null) {
+            weather.emit(weatherParticles);
+        }
+        weatherParticles.update();
+    }
+
+    /**
+     * Run a batch of ticks back to back.
+     *
+     * @param ticks Number of ticks to run
+     */
+    public void run(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Copy the state needed for rendering into a preallocated snapshot,
+     * drawn exactly at the latest tick.
+     * Must be called on the thread that ticks the simulation.
+     */
+    public void writeSnapshot(FrameSnapshot snapshot) {
+        writeSnapshot(snapshot, 1.0);
+    }
+
+    /**
+     * Copy the state needed for rendering into a preallocated snapshot.
+     * Must be called on the thread that ticks the simulation.
+     *
+     * @param alpha Fraction of a tick elapsed since the latest tick; the
+     *              renderer interpolates moving objects by this much
+     */
+    public void writeSnapshot(FrameSnapshot snapshot, double alpha) {
+        snapshot.capturePlayer(player);
+        snapshot.captureFrameInfo(levelManager.getCurrentLevelNumber(),
+                                  cameraShake.getOffsetX(), cameraShake.getOffsetY(), alpha);
+        levelManager.getCurrentLevel().writeSnapshot(snapshot.getLevelSnapshot());
+        particleSystem.writeSnapshot(snapshot.getParticleSnapshot());
+        weatherParticles.writeSnapshot(snapshot.getWeatherSnapshot());
+    }
+
+    /**
+     * Respawn the player at the current level's spawn point (or checkpoint).
+     */
+    public void resetPlayer() {
+        Level current = levelManager.getCurrentLevel();
+        if (current != null) {
+            player.reset(current.getSpawnX(), current.getSpawnY());
+        }
+    }
+
+    /**
+     * Reset the current level and respawn the player.
+     */
+    public void repeatLevel() {
+        levelManager.resetCurrentLevel();
+        resetPlayer();
+    }
+
+    public boolean isLevelCompleted() {
+        Level current = levelManager.getCurrentLevel();
+        return current != null && current.isCompleted();
+    }
+
+    public void setInputSource(InputSource inputSource) {
+        this.inputSource = inputSource;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public LevelManager getLevelManager() {
+        return levelManager;
+    }
+
+    public InputHandler getInputHandler() {
+        return inputHandler;
+    }
+
+    public ParticleSystem getParticleSystem() {
+        return particleSystem;
+    }
+
+    public ParticleSystem getWeatherParticles() {
+        return weatherParticles;
+    }
+
+    public CameraShake getCameraShake() {
+        return cameraShake;
+    }
+
+    /**
+     * Per-phase tick timings; disabled until the debug overlay turns it on.
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+}
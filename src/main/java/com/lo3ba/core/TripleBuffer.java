@@ -0,0 +1,59 @@
+package com.lo3ba.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free triple buffer handing frames from one writer to one reader.
+ * The writer fills the back buffer and publishes it with a single atomic
+ * swap; the reader picks up the newest published buffer with another swap.
+ * Neither side ever blocks or sees a buffer the other is still using.
+ *
+ * Only one thread may write, and only one thread may read at a time.
+ *
+ * @param <T> Preallocated, mutable frame type
+ */
+public class TripleBuffer<T> {
+    private static final int INDEX_MASK = 0b011;
+    private static final int DIRTY = 0b100;
+
+    private final Object[] buffers = new Object[3];
+
+    // Index of the buffer in between writer and reader, plus a "newer frame" flag
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;            // Owned by the writer
+    private volatile int front = 2;  // Owned by the current reader
+
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Buffer the writer may fill for the next frame.
+     */
+    @SuppressWarnings("unchecked")
+    public T getBackBuffer() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Publish the back buffer and take over the previous middle buffer.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | DIRTY) & INDEX_MASK;
+    }
+
+    /**
+     * Newest published buffer. Returns the same buffer again if nothing
+     * new was published since the last call.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & DIRTY) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) buffers[front];
+    }
+}
@@ -0,0 +1,69 @@
+package com.lo3ba.effects;
+
+import java.util.Arrays;
+
+/**
+ * Preallocated copy of the live particles for one rendered frame.
+ * Written only by the game thread through ParticleSystem.writeSnapshot(),
+ * then read only by the renderer once published.
+ * Arrays grow when a burst exceeds the current capacity and are reused afterwards.
+ */
+public class ParticleSnapshot {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] lastTickX = new double[INITIAL_CAPACITY];
+    private double[] lastTickY = new double[INITIAL_CAPACITY];
+    private int[] size = new int[INITIAL_CAPACITY];
+    private int[] color = new int[INITIAL_CAPACITY];
+    private int[] age = new int[INITIAL_CAPACITY];
+    private int[] lifetime = new int[INITIAL_CAPACITY];
+    private ParticleSystem.ParticleType[] type = new ParticleSystem.ParticleType[INITIAL_CAPACITY];
+    private int count = 0;
+
+    /**
+     * Make room for at least the given number of particles.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= x.length) return;
+        int newCapacity = Math.max(capacity, x.length * 2);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        lastTickX = Arrays.copyOf(lastTickX, newCapacity);
+        lastTickY = Arrays.copyOf(lastTickY, newCapacity);
+        size = Arrays.copyOf(size, newCapacity);
+        color = Arrays.copyOf(color, newCapacity);
+        age = Arrays.copyOf(age, newCapacity);
+        lifetime = Arrays.copyOf(lifetime, newCapacity);
+        type = Arrays.copyOf(type, newCapacity);
+    }
+
+    void set(int i, double px, double py, double plastX, double plastY, int psize, int pcolor,
+             int page, int plifetime, ParticleSystem.ParticleType ptype) {
+        x[i] = px;
+        y[i] = py;
+        lastTickX[i] = plastX;
+        lastTickY[i] = plastY;
+        size[i] = psize;
+        color[i] = pcolor;
+        age[i] = page;
+        lifetime[i] = plifetime;
+        type[i] = ptype;
+    }
+
+    void setCount(int count) {
+        this.count = count;
+    }
+
+    public int getCount() { return count; }
+    public double getX(int i) { return x[i]; }
+    public double getY(int i) { return y[i]; }
+    public double getLastTickX(int i) { return lastTickX[i]; }
+    public double getLastTickY(int i) { return lastTickY[i]; }
+    public int getSize(int i) { return size[i]; }
+    public int getColor(int i) { return color[i]; }
+    public int getAge(int i) { return age[i]; }
+    public int getLifetime(int i) { return lifetime[i]; }
+    public ParticleSystem.ParticleType getType(int i) { return type[i]; }
+}
@@ -0,0 +1,122 @@
+package com.lo3ba.effects;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Pre-rasterized particle sprites, so drawing a particle is one drawImage()
+ * blit instead of a shape through Java2D's slow path.
+ *
+ * A sprite is keyed by particle type, size, color and one of ALPHA_LEVELS
+ * alpha levels. Color is reduced to 4 bits per channel for the key, which
+ * keeps the number of sprites small even for randomly tinted explosions.
+ * Sprites are made on first use and kept; a typical session needs a few
+ * hundred, a few dozen pixels each.
+ *
+ * Not thread-safe on its own. Renderers take turns on the published
+ * snapshots (see GameLoop.createRenderContext()), and that handoff orders
+ * their access to the cache as well.
+ */
+final class ParticleSprites {
+    /** Alpha levels a fading particle is drawn with. */
+    static final int ALPHA_LEVELS = 16;
+
+    // Open addressing, linear probing; key 0 marks an empty slot
+    private static int[] keys = new int[1024];
+    private static BufferedImage[] sprites = new BufferedImage[1024];
+    private static int size = 0;
+
+    private ParticleSprites() {
+    }
+
+    /**
+     * Alpha level for an effective alpha of 0..255; level 0 is invisible.
+     */
+    static int alphaLevel(int alpha) {
+        return (alpha * (ALPHA_LEVELS - 1) + 127) / 255;
+    }
+
+    /**
+     * Offset from the particle position to the sprite's top-left corner.
+     */
+    static int offset(ParticleSystem.ParticleType type, int particleSize) {
+        return type == ParticleSystem.ParticleType.SPARKLE ? -particleSize : -(particleSize / 2);
+    }
+
+    /**
+     * Sprite for a particle, rasterized on first use.
+     *
+     * @param alphaLevel 1 to ALPHA_LEVELS - 1
+     */
+    static BufferedImage get(ParticleSystem.ParticleType type, int particleSize, int rgb, int alphaLevel) {
+        particleSize = Math.min(particleSize, 63);
+        int rgb444 = ((rgb >> 12) & 0xF00) | ((rgb >> 8) & 0xF0) | ((rgb >> 4) & 0xF);
+        // Key: type (3 bits) | size (6 bits) | rgb444 (12 bits) | alpha level (4 bits), never 0
+        int key = 1 << 30 | type.ordinal() << 22 | particleSize << 16 | rgb444 << 4 | alphaLevel;
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return sprites[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        BufferedImage sprite = rasterize(type, particleSize, rgb444, alphaLevel);
+        keys[slot] = key;
+        sprites[slot] = sprite;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return sprite;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static void grow() {
+        int[] oldKeys = keys;
+        BufferedImage[] oldSprites = sprites;
+        keys = new int[oldKeys.length * 2];
+        sprites = new BufferedImage[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0) continue;
+            int slot = mix(oldKeys[i]) & mask;
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            sprites[slot] = oldSprites[i];
+        }
+    }
+
+    // Draw the particle shape once, the same way the old per-particle code did
+    private static BufferedImage rasterize(ParticleSystem.ParticleType type, int particleSize, int rgb444, int alphaLevel) {
+        int alpha = alphaLevel * 255 / (ALPHA_LEVELS - 1);
+        Color color = new Color(((rgb444 >> 8) & 0xF) * 17, ((rgb444 >> 4) & 0xF) * 17, (rgb444 & 0xF) * 17, alpha);
+
+        boolean sparkle = type == ParticleSystem.ParticleType.SPARKLE;
+        int dim = sparkle ? 2 * particleSize + 1 : Math.max(1, particleSize);
+        BufferedImage sprite = new BufferedImage(dim, dim, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = sprite.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        g.setComposite(AlphaComposite.Src); // Keep the color's alpha instead of blending onto nothing
+        g.setColor(color);
+        if (sparkle) {
+            // Star shape around the center, plus a cross
+            int c = particleSize;
+            int[] xPoints = {c, c + particleSize / 2, c, c - particleSize / 2};
+            int[] yPoints = {c - particleSize, c, c + particleSize, c};
+            g.fillPolygon(xPoints, yPoints, 4);
+            g.drawLine(c, 0, c, 2 * particleSize);
+            g.drawLine(0, c, 2 * particleSize, c);
+        } else {
+            g.fillOval(0, 0, particleSize, particleSize);
+        }
+        g.dispose();
+        return sprite;
+    }
+}
@@ -1,24 +1,174 @@
 package com.lo3ba.effects;
 
 import java.awt.*;
-import java.awt.geom.Ellipse2D;
-import java.util.List;
 import java.util.Random;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Generic particle system for visual effects
- * Supports various particle types: dust, sparkle, explosion, trail
+ * Supports various particle types: dust, sparkle, explosion, trail,
+ * and the ambient rain, snow and embers spawned by a WeatherEmitter
+ *
+ * Particles are stored structure-of-arrays in fixed-capacity arrays: one
+ * array per field, index i across them is particle i. Updating walks plain
+ * double/int arrays, and a dead particle is removed by moving the last live
+ * particle into its slot (swap-remove), so nothing allocates after the
+ * constructor. When the system is full a CapacityPolicy decides whether a
+ * new particle replaces the oldest one or is dropped.
+ *
+ * From parallelThreshold live particles up, update() splits the arrays
+ * into index slices and integrates them on a ForkJoinPool. The game thread
+ * works through slices too, so it never blocks on a busy pool; removing
+ * expired particles stays serial. Results are identical either way.
+ *
+ * Live particles belong to the game thread only. The renderer draws a
+ * ParticleSnapshot copied once per frame, so no thread-safe list is needed.
+ *
+ * Effect particles are drawn as pre-rendered sprites (see ParticleSprites),
+ * one drawImage() each; weather stays on fillRect(), already the cheapest
+ * primitive for a solid streak or square.
  */
 public class ParticleSystem {
-    private List<Particle> particles;
-    private Random random;
-    
+    public static final int DEFAULT_CAPACITY = 8192;
+    /** Live particles from which update() goes parallel; below it forking costs more than it saves. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 16_384;
+    private static final int SLICE_SIZE = 4096;
+
+    private static final int DUST_ARGB = new Color(200, 180, 150, 200).getRGB();
+    private static final int SPARKLE_ARGB = new Color(255, 255, 0, 255).getRGB();
+    private static final int RAIN_ARGB = new Color(170, 190, 230, 160).getRGB();
+    private static final int SNOW_ARGB = new Color(250, 250, 255, 220).getRGB();
+    private static final int EMBER_ARGB = new Color(255, 140, 30, 230).getRGB();
+    private static final ParticleType[] TYPES = ParticleType.values();
+
+    // Per type, indexed by ordinal: added to vy each tick, then velocity is scaled by drag
+    private static final double[] GRAVITY = {0.2, 0, 0.2, 0, 0, 0, 0};
+    private static final double[] DRAG = {0.98, 0.98, 0.98, 0.98, 1, 1, 1};
+
+    /**
+     * What to do with a new particle when the system is full.
+     */
+    public enum CapacityPolicy {
+        DROP_OLDEST, // Replace the particle furthest into its life
+        REFUSE       // Keep the existing particles, drop the new one
+    }
+
+    private final int capacity;
+    private final CapacityPolicy policy;
+    private final Random random;
+
+    // Particle i lives at index i of every array, for i < count
+    private final double[] x, y;
+    private final double[] lastX, lastY; // Position before the latest update
+    private final double[] vx, vy;
+    private final int[] age, life;
+    private final int[] size;
+    private final int[] argb;
+    private final byte[] type;
+    private int count = 0;
+
+    // Parallel update: slices are claimed from the claim word by the game
+    // thread and the helpers alike; finishedSlices tells the game thread when
+    // all are done. The claim word packs the update's generation, its slice
+    // count and the next slice, so a helper left over from an earlier update
+    // can only claim a slice of the update it read them from, and its
+    // compare-and-set fails once a new update has started.
+    private static final int SLICE_BITS = 16;
+    private static final long SLICE_MASK = (1L << SLICE_BITS) - 1;
+    private final ForkJoinPool pool;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private final Helper[] helpers;
+    private final AtomicLong claim = new AtomicLong();
+    private final AtomicInteger finishedSlices = new AtomicInteger();
+    private long generation = 0; // Game thread only
+    private int sliceEnd; // Slices cover [0, sliceEnd); stable while any slice is unfinished
+
     public ParticleSystem() {
-        particles = new CopyOnWriteArrayList<>(); // Thread-safe list
-        random = new Random();
+        this(DEFAULT_CAPACITY, CapacityPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * @param capacity Maximum number of live particles
+     * @param policy What happens to new particles once capacity is reached
+     */
+    public ParticleSystem(int capacity, CapacityPolicy policy) {
+        this(capacity, policy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param capacity Maximum number of live particles
+     * @param policy What happens to new particles once capacity is reached
+     * @param pool Pool for the parallel update of large particle counts
+     */
+    public ParticleSystem(int capacity, CapacityPolicy policy, ForkJoinPool pool) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if ((capacity - 1L) / SLICE_SIZE > SLICE_MASK) {
+            throw new IllegalArgumentException("Capacity too large: " + capacity);
+        }
+        this.capacity = capacity;
+        this.policy = policy;
+        this.random = new Random();
+        x = new double[capacity];
+        y = new double[capacity];
+        lastX = new double[capacity];
+        lastY = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        age = new int[capacity];
+        life = new int[capacity];
+        size = new int[capacity];
+        argb = new int[capacity];
+        type = new byte[capacity];
+
+        this.pool = pool;
+        int helperCount = Math.max(1, Math.min(pool.getParallelism(), capacity / SLICE_SIZE));
+        helpers = new Helper[helperCount];
+        for (int i = 0; i < helperCount; i++) {
+            helpers[i] = new Helper();
+        }
+    }
+
+    // Write a new particle into a free slot (or the slot the policy frees up)
+    private void spawn(double px, double py, double pvx, double pvy, int psize, int lifetime,
+                       int color, ParticleType ptype) {
+        int i;
+        if (count < capacity) {
+            i = count++;
+        } else if (policy == CapacityPolicy.DROP_OLDEST) {
+            i = oldest();
+        } else {
+            return;
+        }
+        x[i] = px;
+        y[i] = py;
+        lastX[i] = px;
+        lastY[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        age[i] = 0;
+        life[i] = lifetime;
+        size[i] = psize;
+        argb[i] = color;
+        type[i] = (byte) ptype.ordinal();
+    }
+
+    // Index of the particle with the largest share of its lifetime used up
+    private int oldest() {
+        int oldest = 0;
+        for (int i = 1; i < count; i++) {
+            // age[i] / life[i] > age[oldest] / life[oldest], without dividing
+            if ((long) age[i] * life[oldest] > (long) age[oldest] * life[i]) {
+                oldest = i;
+            }
+        }
+        return oldest;
     }
-    
+
     /**
      * Create dust particles (landing, walking)
      */
@@ -26,11 +176,10 @@ public class ParticleSystem {
         for (int i = 0; i < count; i++) {
             double vx = (random.nextDouble() - 0.5) * 3;
             double vy = -random.nextDouble() * 2 - 1;
-            Color color = new Color(200, 180, 150, 200);
-            particles.add(new Particle(x, y, vx, vy, 3 + random.nextInt(3), 30, color, ParticleType.DUST));
+            spawn(x, y, vx, vy, 3 + random.nextInt(3), 30, DUST_ARGB, ParticleType.DUST);
         }
     }
-    
+
     /**
      * Create sparkle particles (star collection)
      */
@@ -40,11 +189,10 @@ public class ParticleSystem {
             double speed = random.nextDouble() * 4 + 2;
             double vx = Math.cos(angle) * speed;
             double vy = Math.sin(angle) * speed;
-            Color color = new Color(255, 255, 0, 255);
-            particles.add(new Particle(x, y, vx, vy, 4 + random.nextInt(3), 40, color, ParticleType.SPARKLE));
+            spawn(x, y, vx, vy, 4 + random.nextInt(3), 40, SPARKLE_ARGB, ParticleType.SPARKLE);
         }
     }
-    
+
     /**
      * Create explosion particles (death)
      */
@@ -57,129 +205,267 @@ public class ParticleSystem {
             int r = Math.min(255, baseColor.getRed() + random.nextInt(50));
             int g = Math.min(255, baseColor.getGreen() + random.nextInt(50));
             int b = Math.min(255, baseColor.getBlue() + random.nextInt(50));
-            Color color = new Color(r, g, b, 255);
-            particles.add(new Particle(x, y, vx, vy, 5 + random.nextInt(4), 50, color, ParticleType.EXPLOSION));
+            int color = 0xFF000000 | (r << 16) | (g << 8) | b;
+            spawn(x, y, vx, vy, 5 + random.nextInt(4), 50, color, ParticleType.EXPLOSION);
         }
     }
-    
+
+    /**
+     * Create rain drops anywhere in the area, falling fast and slightly slanted
+     */
+    public void createRainParticles(Rectangle area, int count) {
+        for (int i = 0; i < count; i++) {
+            double x = area.x + random.nextDouble() * area.width;
+            double y = area.y + random.nextDouble() * area.height;
+            spawn(x, y, -1.5, 11 + random.nextDouble() * 3, 6 + random.nextInt(4),
+                  40 + random.nextInt(20), RAIN_ARGB, ParticleType.RAIN);
+        }
+    }
+
+    /**
+     * Create snowflakes anywhere in the area, drifting slowly down
+     */
+    public void createSnowParticles(Rectangle area, int count) {
+        for (int i = 0; i < count; i++) {
+            double x = area.x + random.nextDouble() * area.width;
+            double y = area.y + random.nextDouble() * area.height;
+            spawn(x, y, (random.nextDouble() - 0.5) * 0.8, 0.8 + random.nextDouble() * 1.2,
+                  2 + random.nextInt(2), 300 + random.nextInt(200), SNOW_ARGB, ParticleType.SNOW);
+        }
+    }
+
+    /**
+     * Create embers anywhere in the area, rising slowly
+     */
+    public void createEmberParticles(Rectangle area, int count) {
+        for (int i = 0; i < count; i++) {
+            double x = area.x + random.nextDouble() * area.width;
+            double y = area.y + random.nextDouble() * area.height;
+            spawn(x, y, (random.nextDouble() - 0.5) * 0.6, -0.6 - random.nextDouble() * 1.4,
+                  2, 120 + random.nextInt(180), EMBER_ARGB, ParticleType.EMBER);
+        }
+    }
+
     /**
      * Create trail particles (moving platforms)
      */
     public void createTrailParticle(double x, double y, Color color) {
         double vx = (random.nextDouble() - 0.5) * 0.5;
         double vy = random.nextDouble() * 0.5;
-        particles.add(new Particle(x, y, vx, vy, 2 + random.nextInt(2), 20, color, ParticleType.TRAIL));
+        spawn(x, y, vx, vy, 2 + random.nextInt(2), 20, color.getRGB(), ParticleType.TRAIL);
     }
-    
+
     /**
      * Update all particles
      */
     public void update() {
-        // CopyOnWriteArrayList is thread-safe, can safely remove while iterating
-        particles.removeIf(p -> {
-            p.update();
-            return p.isDead();
-        });
+        if (count >= parallelThreshold) {
+            integrateParallel();
+        } else {
+            integrate(0, count);
+        }
+
+        // Walk backwards so the particle swapped into a dead slot was already checked
+        for (int i = count - 1; i >= 0; i--) {
+            if (age[i] >= life[i]) {
+                remove(i);
+            }
+        }
     }
-    
+
+    // Move and age particles [from, to); touches nothing outside that range
+    private void integrate(int from, int to) {
+        for (int i = from; i < to; i++) {
+            lastX[i] = x[i];
+            lastY[i] = y[i];
+            x[i] += vx[i];
+            y[i] += vy[i];
+
+            int t = type[i];
+            vy[i] += GRAVITY[t];
+            // Air resistance
+            vx[i] *= DRAG[t];
+            vy[i] *= DRAG[t];
+
+            age[i]++;
+        }
+    }
+
+    private void integrateParallel() {
+        int sliceCount = (count + SLICE_SIZE - 1) / SLICE_SIZE;
+        sliceEnd = count;
+        finishedSlices.set(0);
+        generation++;
+        // Publishes sliceEnd to whoever claims a slice of this generation
+        claim.set(generation << (2 * SLICE_BITS) | (long) sliceCount << SLICE_BITS);
+
+        // A helper still queued from an earlier update joins in when it runs
+        int wanted = Math.min(helpers.length, sliceCount - 1);
+        for (int i = 0; i < wanted; i++) {
+            if (helpers[i].isDone()) {
+                helpers[i].reinitialize();
+                pool.execute(helpers[i]);
+            }
+        }
+
+        runSlices();
+        while (finishedSlices.get() < sliceCount) {
+            Thread.onSpinWait(); // Only the slices helpers already claimed are left
+        }
+    }
+
+    // Claim and integrate slices of the current update until none are left.
+    // A claimed slice is unfinished, so the update, and sliceEnd, cannot move
+    // on until it is integrated.
+    private void runSlices() {
+        while (true) {
+            long current = claim.get();
+            int slice = (int) (current & SLICE_MASK);
+            int sliceCount = (int) (current >>> SLICE_BITS & SLICE_MASK);
+            if (slice >= sliceCount) {
+                return;
+            }
+            if (claim.compareAndSet(current, current + 1)) {
+                int from = slice * SLICE_SIZE;
+                integrate(from, Math.min(from + SLICE_SIZE, sliceEnd));
+                finishedSlices.incrementAndGet();
+            }
+        }
+    }
+
+    private final class Helper extends RecursiveAction {
+        @Override
+        protected void compute() {
+            runSlices();
+        }
+    }
+
+    // Swap-remove: the last particle takes the dead one's slot
+    private void remove(int i) {
+        int last = --count;
+        if (i == last) return;
+        x[i] = x[last];
+        y[i] = y[last];
+        lastX[i] = lastX[last];
+        lastY[i] = lastY[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        age[i] = age[last];
+        life[i] = life[last];
+        size[i] = size[last];
+        argb[i] = argb[last];
+        type[i] = type[last];
+    }
+
     /**
-     * Render all particles
+     * Copy all live particles into a preallocated snapshot for rendering
      */
-    public void render(Graphics2D g) {
-        for (Particle p : particles) {
-            p.render(g);
+    public void writeSnapshot(ParticleSnapshot snapshot) {
+        snapshot.ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            snapshot.set(i, x[i], y[i], lastX[i], lastY[i], size[i], argb[i], age[i], life[i], TYPES[type[i]]);
         }
+        snapshot.setCount(count);
     }
-    
+
+    /**
+     * Render all particles of a published snapshot, interpolated between
+     * the last two ticks
+     * @param alpha Fraction of a tick elapsed since the latest tick (0..1)
+     */
+    public static void render(Graphics2D g, ParticleSnapshot snapshot, double alpha) {
+        for (int i = 0; i < snapshot.getCount(); i++) {
+            double x = snapshot.getLastTickX(i) + (snapshot.getX(i) - snapshot.getLastTickX(i)) * alpha;
+            double y = snapshot.getLastTickY(i) + (snapshot.getY(i) - snapshot.getLastTickY(i)) * alpha;
+            renderParticle(g, x, y, snapshot.getSize(i),
+                           snapshot.getColor(i), snapshot.getAge(i), snapshot.getLifetime(i),
+                           snapshot.getType(i));
+        }
+    }
+
+    private static void renderParticle(Graphics2D g, double x, double y, int size, int argb,
+                                       int age, int lifetime, ParticleType type) {
+        // Weather doesn't fade: there is a lot of it, and it must stay cheap to draw
+        if (type == ParticleType.RAIN) {
+            g.setColor(ColorCache.get(argb));
+            g.fillRect((int)x, (int)y, 1, size); // Streak
+            return;
+        }
+        if (type == ParticleType.SNOW || type == ParticleType.EMBER) {
+            g.setColor(ColorCache.get(argb));
+            g.fillRect((int)x, (int)y, size, size);
+            return;
+        }
+
+        float alpha = 1.0f - ((float)age / lifetime);
+        if (alpha < 0) alpha = 0;
+        if (alpha > 1) alpha = 1;
+        int level = ParticleSprites.alphaLevel((int)(((argb >>> 24) & 0xFF) * alpha));
+        if (level == 0) return; // Faded out
+
+        // One blit of a pre-rendered star (sparkles) or circle (everything else)
+        int offset = ParticleSprites.offset(type, size);
+        g.drawImage(ParticleSprites.get(type, size, argb, level), (int)x + offset, (int)y + offset, null);
+    }
+
+    /**
+     * Colors by packed ARGB, so fading particles reuse Color objects instead
+     * of creating one per particle per frame. Direct-mapped: a slot holds the
+     * last color that hashed to it. Colors are immutable, so the renderer
+     * thread and the EDT may both read it.
+     */
+    private static final class ColorCache {
+        private static final int SLOTS = 1024;
+        private static final Color[] colors = new Color[SLOTS];
+
+        static Color get(int argb) {
+            int slot = (argb ^ (argb >>> 11) ^ (argb >>> 22)) & (SLOTS - 1);
+            Color c = colors[slot];
+            if (c == null || c.getRGB() != argb) {
+                c = new Color(argb, true);
+                colors[slot] = c;
+            }
+            return c;
+        }
+    }
+
     /**
      * Get particle count (for debugging/performance)
      */
     public int getParticleCount() {
-        return particles.size();
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Set the live particle count from which update() runs in parallel.
+     * Integer.MAX_VALUE keeps it serial.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = Math.max(1, parallelThreshold);
     }
-    
+
     /**
      * Clear all particles
      */
     public void clear() {
-        particles.clear();
-    }
-    
-    // Inner class for individual particles
-    private class Particle {
-        private double x, y;
-        private double vx, vy;
-        private int size;
-        private int lifetime;
-        private int age;
-        private Color color;
-        private ParticleType type;
-        
-        public Particle(double x, double y, double vx, double vy, int size, int lifetime, Color color, ParticleType type) {
-            this.x = x;
-            this.y = y;
-            this.vx = vx;
-            this.vy = vy;
-            this.size = size;
-            this.lifetime = lifetime;
-            this.age = 0;
-            this.color = color;
-            this.type = type;
-        }
-        
-        public void update() {
-            x += vx;
-            y += vy;
-            
-            // Apply gravity for certain particle types
-            if (type == ParticleType.DUST || type == ParticleType.EXPLOSION) {
-                vy += 0.2; // Gravity
-            }
-            
-            // Air resistance
-            vx *= 0.98;
-            vy *= 0.98;
-            
-            age++;
-        }
-        
-        public void render(Graphics2D g) {
-            float alpha = 1.0f - ((float)age / lifetime);
-            if (alpha < 0) alpha = 0;
-            if (alpha > 1) alpha = 1;
-            
-            Color renderColor = new Color(
-                color.getRed(),
-                color.getGreen(),
-                color.getBlue(),
-                (int)(color.getAlpha() * alpha)
-            );
-            
-            g.setColor(renderColor);
-            
-            if (type == ParticleType.SPARKLE) {
-                // Draw star shape for sparkles
-                int[] xPoints = {(int)x, (int)(x + size/2), (int)x, (int)(x - size/2)};
-                int[] yPoints = {(int)(y - size), (int)y, (int)(y + size), (int)y};
-                g.fillPolygon(xPoints, yPoints, 4);
-                // Cross
-                g.drawLine((int)x, (int)(y - size), (int)x, (int)(y + size));
-                g.drawLine((int)(x - size), (int)y, (int)(x + size), (int)y);
-            } else {
-                // Draw circle for other particles
-                g.fill(new Ellipse2D.Double(x - size/2, y - size/2, size, size));
-            }
-        }
-        
-        public boolean isDead() {
-            return age >= lifetime;
-        }
+        count = 0;
     }
-    
+
     public enum ParticleType {
         DUST,
         SPARKLE,
         EXPLOSION,
-        TRAIL
+        TRAIL,
+        RAIN,
+        SNOW,
+        EMBER
     }
 }
@@ -0,0 +1,78 @@
+package com.lo3ba.effects;
+
+import java.awt.*;
+
+/**
+ * Ambient weather for one level: rain, snow or embers.
+ * Keeps a population of particles alive in a ParticleSystem reserved for
+ * weather, spawning them in a band of the level (above the screen for rain
+ * and snow, along the bottom for embers).
+ *
+ * New particles are spawned at about the rate old ones expire, so their
+ * ages stay spread out and the population doesn't die off all at once.
+ * A fresh level takes one particle lifetime to fill up.
+ */
+public class WeatherEmitter {
+    /** Upper bound for targetCount, and the capacity of the weather ParticleSystem. */
+    public static final int MAX_PARTICLES = 100_000;
+
+    public enum Kind {
+        RAIN(50),
+        SNOW(400),
+        EMBERS(270);
+
+        private final int averageLifetime; // Ticks, matches ParticleSystem.create*Particles()
+
+        Kind(int averageLifetime) {
+            this.averageLifetime = averageLifetime;
+        }
+    }
+
+    private final Kind kind;
+    private final int targetCount;
+    private final Rectangle spawnArea;
+
+    /**
+     * @param kind Type of weather
+     * @param targetCount Particles to keep alive, up to MAX_PARTICLES
+     * @param spawnArea Where new particles appear, in level coordinates
+     */
+    public WeatherEmitter(Kind kind, int targetCount, Rectangle spawnArea) {
+        if (targetCount <= 0 || targetCount > MAX_PARTICLES) {
+            throw new IllegalArgumentException("Target count out of range: " + targetCount);
+        }
+        this.kind = kind;
+        this.targetCount = targetCount;
+        this.spawnArea = new Rectangle(spawnArea);
+    }
+
+    /**
+     * Top the weather system up towards the target count. Call once per tick.
+     */
+    public void emit(ParticleSystem particles) {
+        int missing = targetCount - particles.getParticleCount();
+        if (missing <= 0) return;
+
+        int perTick = (targetCount + kind.averageLifetime - 1) / kind.averageLifetime;
+        int spawn = Math.min(missing, perTick);
+        switch (kind) {
+            case RAIN:
+                particles.createRainParticles(spawnArea, spawn);
+                break;
+            case SNOW:
+                particles.createSnowParticles(spawnArea, spawn);
+                break;
+            case EMBERS:
+                particles.createEmberParticles(spawnArea, spawn);
+                break;
+        }
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getTargetCount() {
+        return targetCount;
+    }
+}
@@ -1,11 +1,17 @@
 package com.lo3ba.gameobjects;
 
+import com.lo3ba.audio.AudioEngine;
+import com.lo3ba.audio.Sound;
+import com.lo3ba.graphics.SpriteBatch;
+import com.lo3ba.graphics.TextureAtlas;
 import com.lo3ba.util.ResourceManager;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
 public class Bomb {
+    private static final int REGION = TextureAtlas.getDefault().find("bomb.png");
+
     private int x, y;
     private int width, height;
     private boolean collected = false;
@@ -27,16 +33,7 @@ public class Bomb {
 
     public void collect() {
         collected = true;
-        // Play sound if available
-        try {
-            javax.sound.sampled.Clip clip = ResourceManager.loadSound("bomb_collect.wav");
-            if (clip != null) {
-                clip.setFramePosition(0);
-                clip.start();
-            }
-        } catch (Exception e) {
-            // Ignore if sound not found
-        }
+        AudioEngine.getInstance().play(Sound.BOMB_COLLECT, 1f, AudioEngine.panAt(x + width / 2));
     }
 
     public boolean isCollected() {
@@ -48,6 +45,11 @@ public class Bomb {
     }
 
     public void render(Graphics2D g) {
+        render(g, collected);
+    }
+
+    // Render with the collected state captured in a frame snapshot
+    public void render(Graphics2D g, boolean collected) {
         if (!collected) {
             if (sprite != null) {
                 g.drawImage(sprite, x, y, width, height, null);
@@ -60,4 +62,11 @@ public class Bomb {
             }
         }
     }
+
+    // Queue into a sprite batch with the collected state captured in a frame snapshot
+    public void render(SpriteBatch batch, int layer, boolean collected) {
+        if (!collected) {
+            batch.draw(REGION, layer, x, y, width, height);
+        }
+    }
 }
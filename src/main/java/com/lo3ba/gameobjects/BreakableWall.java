@@ -1,11 +1,15 @@
 package com.lo3ba.gameobjects;
 
+import com.lo3ba.graphics.SpriteBatch;
+import com.lo3ba.graphics.TextureAtlas;
 import com.lo3ba.util.ResourceManager;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
 public class BreakableWall {
+    private static final int REGION = TextureAtlas.getDefault().find("breakable_wall.png");
+
     private int x, y;
     private int width, height;
     private boolean destroyed = false;
@@ -54,6 +58,11 @@ public class BreakableWall {
     public int getHeight() { return height; }
 
     public void render(Graphics2D g) {
+        render(g, destroyed);
+    }
+
+    // Render with the destroyed state captured in a frame snapshot
+    public void render(Graphics2D g, boolean destroyed) {
         if (!destroyed) {
             if (sprite != null) {
                 // Tile the sprite if wall is larger
@@ -83,4 +92,11 @@ public class BreakableWall {
             }
         }
     }
+
+    // Queue into a sprite batch with the destroyed state captured in a frame snapshot
+    public void render(SpriteBatch batch, int layer, boolean destroyed) {
+        if (!destroyed) {
+            batch.drawTiled(REGION, layer, x, y, width, height);
+        }
+    }
 }
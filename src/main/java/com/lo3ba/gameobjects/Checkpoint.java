@@ -40,6 +40,13 @@ public class Checkpoint {
     }
     
     public void render(Graphics2D g) {
+        render(g, activated, animationFrame);
+    }
+    
+    /**
+     * Render with the state captured in a frame snapshot
+     */
+    public void render(Graphics2D g, boolean activated, int animationFrame) {
         // Pole
         g.setColor(new Color(100, 70, 40));
         g.fillRect(bounds.x + FLAG_WIDTH/2 - 2, bounds.y, 4, FLAG_HEIGHT);
@@ -101,6 +108,10 @@ public class Checkpoint {
         return activated;
     }
     
+    public int getAnimationFrame() {
+        return animationFrame;
+    }
+    
     public int getSpawnX() {
         return spawnX;
     }
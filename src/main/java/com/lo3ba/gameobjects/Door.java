@@ -37,6 +37,11 @@ public class Door {
     }
 
     public void render(Graphics2D g) {
+        render(g, open);
+    }
+
+    // Render with the open state captured in a frame snapshot
+    public void render(Graphics2D g, boolean open) {
         BufferedImage img = open ? openImage : closedImage;
 
         if (img != null) {
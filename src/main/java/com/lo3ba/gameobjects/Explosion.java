@@ -1,5 +1,7 @@
 package com.lo3ba.gameobjects;
 
+import com.lo3ba.audio.AudioEngine;
+import com.lo3ba.audio.Sound;
 import com.lo3ba.util.ResourceManager;
 
 import java.awt.*;
@@ -20,20 +22,11 @@ public class Explosion {
         this.x = x;
         this.y = y;
         loadAssets();
+        AudioEngine.getInstance().play(Sound.EXPLOSION, 1f, AudioEngine.panAt(x + frameWidth / 2));
     }
 
     private void loadAssets() {
         spriteSheet = ResourceManager.loadTexture("explosion.png");
-        // Play sound
-        try {
-            javax.sound.sampled.Clip clip = ResourceManager.loadSound("explosion.wav");
-            if (clip != null) {
-                clip.setFramePosition(0);
-                clip.start();
-            }
-        } catch (Exception e) {
-            // Ignore
-        }
     }
 
     public void update() {
@@ -51,19 +44,28 @@ public class Explosion {
         return finished;
     }
 
+    public int getFrame() {
+        return frame;
+    }
+
     public void render(Graphics2D g) {
         if (!finished) {
-            if (spriteSheet != null) {
-                // Assuming sprite sheet is horizontal strip
-                int sx = frame * frameWidth;
-                g.drawImage(spriteSheet, x, y, x + frameWidth * 2, y + frameHeight * 2, // Scale up 2x
-                           sx, 0, sx + frameWidth, frameHeight, null);
-            } else {
-                // Fallback animation
-                g.setColor(new Color(255, 100, 0, 255 - (frame * 30)));
-                int size = 20 + (frame * 10);
-                g.fillOval(x + 32 - size/2, y + 32 - size/2, size, size);
-            }
+            render(g, frame);
+        }
+    }
+
+    // Render a given animation frame (captured in a frame snapshot)
+    public void render(Graphics2D g, int frame) {
+        if (spriteSheet != null) {
+            // Assuming sprite sheet is horizontal strip
+            int sx = frame * frameWidth;
+            g.drawImage(spriteSheet, x, y, x + frameWidth * 2, y + frameHeight * 2, // Scale up 2x
+                       sx, 0, sx + frameWidth, frameHeight, null);
+        } else {
+            // Fallback animation
+            g.setColor(new Color(255, 100, 0, 255 - (frame * 30)));
+            int size = 20 + (frame * 10);
+            g.fillOval(x + 32 - size/2, y + 32 - size/2, size, size);
         }
     }
 }
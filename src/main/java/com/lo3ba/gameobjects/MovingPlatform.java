@@ -13,6 +13,7 @@ public class MovingPlatform extends Platform {
     private int endX, endY;
     private double speed;
     private double currentX, currentY;
+    private double lastTickX, lastTickY; // Position before the latest update, for interpolation
     private boolean movingForward = true;
     
     // Track movement for player physics
@@ -28,6 +29,8 @@ public class MovingPlatform extends Platform {
         this.speed = speed;
         this.currentX = startX;
         this.currentY = startY;
+        this.lastTickX = startX;
+        this.lastTickY = startY;
     }
     
     // Constructor with custom size
@@ -40,9 +43,14 @@ public class MovingPlatform extends Platform {
         this.speed = speed;
         this.currentX = startX;
         this.currentY = startY;
+        this.lastTickX = startX;
+        this.lastTickY = startY;
     }
 
     public void update() {
+        lastTickX = currentX;
+        lastTickY = currentY;
+        
         double targetX = movingForward ? endX : startX;
         double targetY = movingForward ? endY : startY;
         
@@ -77,6 +85,12 @@ public class MovingPlatform extends Platform {
     public double getDeltaX() { return deltaX; }
     public double getDeltaY() { return deltaY; }
     
+    // Sub-pixel positions now and one tick ago (used for render interpolation)
+    public double getExactX() { return currentX; }
+    public double getExactY() { return currentY; }
+    public double getLastTickX() { return lastTickX; }
+    public double getLastTickY() { return lastTickY; }
+    
     // Override getX/Y to return current double precision position cast to int
     @Override
     public int getX() { return (int)currentX; }
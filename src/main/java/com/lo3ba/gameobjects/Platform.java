@@ -1,5 +1,7 @@
 package com.lo3ba.gameobjects;
 
+import com.lo3ba.graphics.SpriteBatch;
+import com.lo3ba.graphics.TextureAtlas;
 import com.lo3ba.util.ResourceManager;
 
 import java.awt.*;
@@ -38,6 +40,9 @@ public class Platform {
     private static BufferedImage iceTexture;
     private static BufferedImage lavaTexture;
 
+    // Atlas region per PlatformType, in declaration order
+    private static final int[] REGIONS;
+
     static {
         // Load textures using ResourceManager for proper classpath loading
         floorTexture = ResourceManager.loadTexture("floor.png");
@@ -47,6 +52,17 @@ public class Platform {
         brickTexture = ResourceManager.loadTexture("platform_brick_64x32.png");
         iceTexture = ResourceManager.loadTexture("platform_ice_80x32.png");
         lavaTexture = ResourceManager.loadTexture("platform_lava_64x32.png");
+
+        TextureAtlas atlas = TextureAtlas.getDefault();
+        REGIONS = new int[] {
+            atlas.find("floor.png"),
+            atlas.find("platform_stone_64x32.png"),
+            atlas.find("platform_crate_80x32.png"),
+            atlas.find("platform_metal_80x32.png"),
+            atlas.find("platform_brick_64x32.png"),
+            atlas.find("platform_ice_80x32.png"),
+            atlas.find("platform_lava_64x32.png")
+        };
         
         // Verify the main floor texture has the correct dimensions
         if (floorTexture != null) {
@@ -132,24 +148,32 @@ public class Platform {
     }
 
     public void render(Graphics2D g) {
+        render(g, visualBounds.x, visualBounds.y);
+    }
+
+    /**
+     * Render the platform at an explicit position (e.g. a moving platform's
+     * position captured in a frame snapshot).
+     */
+    public void render(Graphics2D g, int x, int y) {
         BufferedImage texture = getTextureForType();
+        int width = visualBounds.width;
+        int height = visualBounds.height;
         
         if (texture != null) {
             // Calculate how many times we need to tile the texture
-            int tilesX = (int) Math.ceil((double) visualBounds.width / texture.getWidth());
-            int tilesY = (int) Math.ceil((double) visualBounds.height / texture.getHeight());
+            int tilesX = (int) Math.ceil((double) width / texture.getWidth());
+            int tilesY = (int) Math.ceil((double) height / texture.getHeight());
             
             // Draw the texture tiled to cover the platform
             for (int tileX = 0; tileX < tilesX; tileX++) {
                 for (int tileY = 0; tileY < tilesY; tileY++) {
-                    int drawX = visualBounds.x + (tileX * texture.getWidth());
-                    int drawY = visualBounds.y + (tileY * texture.getHeight());
+                    int drawX = x + (tileX * texture.getWidth());
+                    int drawY = y + (tileY * texture.getHeight());
                     
                     // Calculate the portion of the texture to draw (for edge tiles)
-                    int drawWidth = Math.min(texture.getWidth(), 
-                                            visualBounds.x + visualBounds.width - drawX);
-                    int drawHeight = Math.min(texture.getHeight(), 
-                                             visualBounds.y + visualBounds.height - drawY);
+                    int drawWidth = Math.min(texture.getWidth(), x + width - drawX);
+                    int drawHeight = Math.min(texture.getHeight(), y + height - drawY);
                     
                     // Draw the texture (or clipped portion for edges)
                     g.drawImage(texture, 
@@ -161,9 +185,24 @@ public class Platform {
         } else {
             // Fallback rectangle if image not found
             g.setColor(new Color(100, 100, 100));
-            g.fillRect(visualBounds.x, visualBounds.y, visualBounds.width, visualBounds.height);
+            g.fillRect(x, y, width, height);
             g.setColor(Color.DARK_GRAY);
-            g.drawRect(visualBounds.x, visualBounds.y, visualBounds.width, visualBounds.height);
+            g.drawRect(x, y, width, height);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Queue the platform into a sprite batch, tiled like render(Graphics2D).
+     */
+    public void render(SpriteBatch batch, int layer) {
+        render(batch, layer, visualBounds.x, visualBounds.y);
+    }
+
+    /**
+     * Queue the platform at an explicit position into a sprite batch, tiled
+     * like render(Graphics2D, int, int).
+     */
+    public void render(SpriteBatch batch, int layer, int x, int y) {
+        batch.drawTiled(REGIONS[type.ordinal()], layer, x, y, visualBounds.width, visualBounds.height);
+    }
+}
@@ -1,5 +1,7 @@
 package com.lo3ba.gameobjects;
 
+import com.lo3ba.graphics.SpriteBatch;
+import com.lo3ba.graphics.TextureAtlas;
 import com.lo3ba.util.ResourceManager;
 
 import java.awt.*;
@@ -18,8 +20,9 @@ public class Spike {
     
     private Rectangle bounds;
     private SpikeType type;
-    // Reused hitbox rectangle to avoid per-frame allocations
-    private final Rectangle hitbox = new Rectangle();
+    // Slightly reduced hitbox for more forgiving collision; spikes never move,
+    // so it is computed once
+    private final Rectangle hitbox;
 
     // Texture images for different spike types
     private static BufferedImage normalSpike;
@@ -29,6 +32,9 @@ public class Spike {
     private static BufferedImage electricSpike;
     private static BufferedImage boneSpike;
 
+    // Atlas region per SpikeType, in declaration order
+    private static final int[] REGIONS;
+
     static {
         // Load spike textures using ResourceManager for proper classpath loading
         normalSpike = ResourceManager.loadTexture("spike_normal_32x32.png");
@@ -37,6 +43,16 @@ public class Spike {
         poisonSpike = ResourceManager.loadTexture("spike_poison_32x32.png");
         electricSpike = ResourceManager.loadTexture("spike_electric_32x32.png");
         boneSpike = ResourceManager.loadTexture("spike_bone_32x32.png");
+
+        TextureAtlas atlas = TextureAtlas.getDefault();
+        REGIONS = new int[] {
+            atlas.find("spike_normal_32x32.png"),
+            atlas.find("spike_ice_32x32.png"),
+            atlas.find("spike_fire_32x32.png"),
+            atlas.find("spike_poison_32x32.png"),
+            atlas.find("spike_electric_32x32.png"),
+            atlas.find("spike_bone_32x32.png")
+        };
     }
 
     /**
@@ -51,6 +67,7 @@ public class Spike {
      */
     public Spike(int x, int y, int width, int height, SpikeType type) {
         this.bounds = new Rectangle(x, y, width, height);
+        this.hitbox = new Rectangle(x + 2, y + 2, width - 4, height - 4);
         this.type = type;
     }
     
@@ -89,8 +106,6 @@ public class Spike {
     }
     
     public Rectangle getHitbox() {
-        // Slightly reduced hitbox for more forgiving collision; reuse cached rectangle
-        hitbox.setBounds(bounds.x + 2, bounds.y + 2, bounds.width - 4, bounds.height - 4);
         return hitbox;
     }
     
@@ -111,6 +126,13 @@ public class Spike {
         }
     }
     
+    /**
+     * Queue the spike into a sprite batch.
+     */
+    public void render(SpriteBatch batch, int layer) {
+        batch.draw(REGIONS[type.ordinal()], layer, bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+    
     /**
      * Draw a fallback spike when texture is not available
      */
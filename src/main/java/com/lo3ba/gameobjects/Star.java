@@ -1,10 +1,16 @@
 package com.lo3ba.gameobjects;
 
+import com.lo3ba.graphics.SpriteBatch;
+import com.lo3ba.graphics.TextureAtlas;
+
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
 public class Star {
+    private static final int REGION = TextureAtlas.getDefault().find("star.png");
+
     private int x, y, width, height;
+    private final Rectangle bounds; // Stars never move, so one rectangle serves every query
     private BufferedImage starImage;
     private boolean collected = false;
 
@@ -13,6 +19,7 @@ public class Star {
         this.y = y;
         this.width = width;
         this.height = height;
+        this.bounds = new Rectangle(x, y, width, height);
     }
 
     public void setStarImage(BufferedImage starImage) {
@@ -20,13 +27,25 @@ public class Star {
     }
 
     public void render(Graphics2D g) {
+        render(g, collected);
+    }
+
+    // Render with the collected state captured in a frame snapshot
+    public void render(Graphics2D g, boolean collected) {
         if (!collected && starImage != null) {
             g.drawImage(starImage, x, y, width, height, null);
         }
     }
 
+    // Queue into a sprite batch with the collected state captured in a frame snapshot
+    public void render(SpriteBatch batch, int layer, boolean collected) {
+        if (!collected) {
+            batch.draw(REGION, layer, x, y, width, height);
+        }
+    }
+
     public Rectangle getBounds() {
-        return new Rectangle(x, y, width, height);
+        return bounds;
     }
 
     public boolean isCollected() {
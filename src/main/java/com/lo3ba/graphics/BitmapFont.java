@@ -0,0 +1,188 @@
+package com.lo3ba.graphics;
+
+import com.lo3ba.util.ResourceManager;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A font rasterized once into a page of glyphs, for text drawn every
+ * frame: drawing a string blits one region of the page per character
+ * instead of shaping and rasterizing it. Glyphs are rendered without
+ * antialiasing, as the renderer draws text, which is what a pixel font
+ * like PressStart2P wants; at integer positions they match drawString()
+ * pixel for pixel.
+ *
+ * Covers printable ASCII, anything else draws as '?'. Colors come from
+ * tinted copies of the page, made once per color the first time it is
+ * used, so keep to a few fixed colors.
+ *
+ * Rendering thread only, apart from get().
+ */
+public final class BitmapFont {
+    public static final char FIRST_CHAR = ' ';
+    public static final char LAST_CHAR = '~';
+    private static final char MISSING_CHAR = '?';
+    private static final int COLUMNS = 16;
+
+    private static final Map<Font, BitmapFont> fonts = new HashMap<>();
+
+    private final BufferedImage mask; // White glyphs, tinted into the pages below
+    private final int ascent;
+    private final int descent;
+    private int[] pageColors = new int[4];
+    private BufferedImage[] pages = new BufferedImage[4];
+    private int pageCount = 0;
+
+    // Per glyph, indexed by char - FIRST_CHAR. Offsets are from the pen
+    // position on the baseline to the glyph's top left pixel.
+    private final int[] glyphX;
+    private final int[] glyphY;
+    private final int[] glyphWidth;
+    private final int[] glyphHeight;
+    private final int[] offsetX;
+    private final int[] offsetY;
+    private final int[] advance;
+
+    /**
+     * The glyph page for a font, rasterized on first use. Derive sizes once
+     * and pass the same Font each time.
+     */
+    public static synchronized BitmapFont get(Font font) {
+        BitmapFont bitmapFont = fonts.get(font);
+        if (bitmapFont == null) {
+            bitmapFont = new BitmapFont(font);
+            fonts.put(font, bitmapFont);
+        }
+        return bitmapFont;
+    }
+
+    BitmapFont(Font font) {
+        int count = LAST_CHAR - FIRST_CHAR + 1;
+        glyphX = new int[count];
+        glyphY = new int[count];
+        glyphWidth = new int[count];
+        glyphHeight = new int[count];
+        offsetX = new int[count];
+        offsetY = new int[count];
+        advance = new int[count];
+
+        // Measure with the same settings the renderer draws text with
+        BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D measure = scratch.createGraphics();
+        configure(measure);
+        FontMetrics metrics = measure.getFontMetrics(font);
+        FontRenderContext frc = measure.getFontRenderContext();
+        ascent = metrics.getAscent();
+        descent = metrics.getDescent();
+
+        int cellWidth = 1;
+        int cellHeight = 1;
+        for (int i = 0; i < count; i++) {
+            char c = (char) (FIRST_CHAR + i);
+            GlyphVector glyph = font.createGlyphVector(frc, String.valueOf(c));
+            Rectangle bounds = glyph.getPixelBounds(frc, 0, 0);
+            bounds.grow(1, 1); // Pixel bounds can be a pixel short with hinting
+            advance[i] = metrics.charWidth(c);
+            if (bounds.width > 2 && bounds.height > 2) {
+                offsetX[i] = bounds.x;
+                offsetY[i] = bounds.y;
+                glyphWidth[i] = bounds.width;
+                glyphHeight[i] = bounds.height;
+                cellWidth = Math.max(cellWidth, bounds.width);
+                cellHeight = Math.max(cellHeight, bounds.height);
+            }
+        }
+        measure.dispose();
+
+        int rows = (count + COLUMNS - 1) / COLUMNS;
+        mask = new BufferedImage(cellWidth * COLUMNS, cellHeight * rows, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = mask.createGraphics();
+        configure(g);
+        g.setFont(font);
+        g.setColor(Color.WHITE);
+        for (int i = 0; i < count; i++) {
+            glyphX[i] = (i % COLUMNS) * cellWidth;
+            glyphY[i] = (i / COLUMNS) * cellHeight;
+            if (glyphWidth[i] > 0) {
+                g.setClip(glyphX[i], glyphY[i], glyphWidth[i], glyphHeight[i]);
+                g.drawString(String.valueOf((char) (FIRST_CHAR + i)),
+                             glyphX[i] - offsetX[i], glyphY[i] - offsetY[i]);
+            }
+        }
+        g.dispose();
+    }
+
+    /**
+     * Draw text with its baseline at y, like Graphics.drawString().
+     */
+    public void drawString(Graphics2D g, CharSequence text, int x, int y, Color color) {
+        BufferedImage page = page(color.getRGB());
+        for (int i = 0; i < text.length(); i++) {
+            int glyph = glyph(text.charAt(i));
+            int width = glyphWidth[glyph];
+            if (width > 0) {
+                int dx = x + offsetX[glyph];
+                int dy = y + offsetY[glyph];
+                int sx = glyphX[glyph];
+                int sy = glyphY[glyph];
+                int height = glyphHeight[glyph];
+                g.drawImage(page, dx, dy, dx + width, dy + height, sx, sy, sx + width, sy + height, null);
+            }
+            x += advance[glyph];
+        }
+    }
+
+    /**
+     * Advance width of text, like FontMetrics.stringWidth().
+     */
+    public int stringWidth(CharSequence text) {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            width += advance[glyph(text.charAt(i))];
+        }
+        return width;
+    }
+
+    public int getAscent() { return ascent; }
+    public int getDescent() { return descent; }
+
+    private static int glyph(char c) {
+        return (c >= FIRST_CHAR && c <= LAST_CHAR ? c : MISSING_CHAR) - FIRST_CHAR;
+    }
+
+    private BufferedImage page(int argb) {
+        for (int i = 0; i < pageCount; i++) {
+            if (pageColors[i] == argb) return pages[i];
+        }
+
+        BufferedImage page = ResourceManager.createCompatibleImage(mask.getWidth(), mask.getHeight(),
+                                                                   Transparency.TRANSLUCENT);
+        Graphics2D g = page.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(mask, 0, 0, null);
+        g.setComposite(AlphaComposite.SrcIn);
+        g.setColor(new Color(argb, true));
+        g.fillRect(0, 0, page.getWidth(), page.getHeight());
+        g.dispose();
+
+        if (pageCount == pages.length) {
+            pageColors = Arrays.copyOf(pageColors, pageCount * 2);
+            pages = Arrays.copyOf(pages, pageCount * 2);
+        }
+        pageColors[pageCount] = argb;
+        pages[pageCount++] = page;
+        return page;
+    }
+
+    private static void configure(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+        g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_OFF);
+    }
+}
@@ -0,0 +1,105 @@
+package com.lo3ba.graphics;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An image drawn at a fixed size in base coordinates, with a copy kept
+ * pre-scaled by PrescaledImageCache. Drawing through a scaling transform
+ * blits the copy 1:1 when it was built for that scale, and otherwise draws
+ * the source scaled and asks for a new copy.
+ *
+ * Drawn from the rendering thread, built on the scaler thread; the copy
+ * and the scale it was built for are published together. Large copies
+ * (the background) are drawn through a VolatileSurface.
+ */
+public final class PrescaledImage {
+    private static final AffineTransform IDENTITY = new AffineTransform();
+
+    private final PrescaledImageCache cache;
+    private final BufferedImage source;
+    private final int baseWidth;
+    private final int baseHeight;
+
+    private volatile Copy copy;
+    private final AtomicBoolean building = new AtomicBoolean(); // Set before queueing, so a build ending first clears it
+
+    private static final class Copy {
+        final BufferedImage image;
+        final VolatileSurface surface; // Null for copies too small to promote
+        final double scaleX;
+        final double scaleY;
+
+        Copy(BufferedImage image, double scaleX, double scaleY) {
+            this.image = image;
+            this.surface = VolatileSurface.isWorthPromoting(image) ? new VolatileSurface(image) : null;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+        }
+    }
+
+    PrescaledImage(PrescaledImageCache cache, BufferedImage source, int baseWidth, int baseHeight) {
+        this.cache = cache;
+        this.source = source;
+        this.baseWidth = baseWidth;
+        this.baseHeight = baseHeight;
+    }
+
+    /**
+     * Draw at (x, y) in base coordinates, like
+     * g.drawImage(source, x, y, baseWidth, baseHeight, null).
+     */
+    public void draw(Graphics2D g, int x, int y) {
+        AffineTransform t = g.getTransform();
+        double scaleX = t.getScaleX();
+        double scaleY = t.getScaleY();
+        Copy current = copy;
+
+        boolean axisAligned = t.getShearX() == 0 && t.getShearY() == 0;
+        if (current != null && axisAligned && current.scaleX == scaleX && current.scaleY == scaleY) {
+            int deviceX = (int) Math.round(t.getTranslateX() + x * scaleX);
+            int deviceY = (int) Math.round(t.getTranslateY() + y * scaleY);
+            g.setTransform(IDENTITY);
+            if (current.surface != null) {
+                current.surface.draw(g, deviceX, deviceY);
+            } else {
+                g.drawImage(current.image, deviceX, deviceY, null);
+            }
+            g.setTransform(t);
+            return;
+        }
+
+        if (axisAligned && scaleX > 0 && scaleY > 0 && building.compareAndSet(false, true)
+                && !cache.request(this, scaleX, scaleY)) {
+            building.set(false);
+        }
+        g.drawImage(source, x, y, baseWidth, baseHeight, null);
+    }
+
+    /**
+     * Build the copy for a scale. Runs on the scaler thread.
+     */
+    void rebuild(double scaleX, double scaleY) {
+        try {
+            int width = Math.max(1, (int) Math.round(baseWidth * scaleX));
+            int height = Math.max(1, (int) Math.round(baseHeight * scaleY));
+            copy = new Copy(cache.scale(source, width, height), scaleX, scaleY);
+        } finally {
+            building.set(false);
+        }
+    }
+
+    /**
+     * Whether a copy for this scale is ready to blit.
+     */
+    public boolean isReady(double scaleX, double scaleY) {
+        Copy current = copy;
+        return current != null && current.scaleX == scaleX && current.scaleY == scaleY;
+    }
+
+    public BufferedImage getSource() {
+        return source;
+    }
+}
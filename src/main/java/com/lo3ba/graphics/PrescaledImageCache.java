@@ -0,0 +1,143 @@
+package com.lo3ba.graphics;
+
+import com.lo3ba.util.ResourceManager;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps copies of images scaled to the factors they are drawn at (the
+ * ScaleManager factors, times any device scale), so frames blit them 1:1
+ * instead of scaling them on every draw.
+ *
+ * Scaled copies are built on a background thread when a draw finds its
+ * copy at the wrong scale. A window resize calls scaleChanged(), which
+ * holds those builds back until resizing has been quiet for
+ * DEBOUNCE_MILLIS, so each image is rebuilt once per resize instead of
+ * once per intermediate size. Until a copy matches, PrescaledImage draws
+ * the source scaled, as before.
+ *
+ * Heavy downscales (the 1920x1080 background in a window under 960 pixels
+ * wide, the 96x96 player sprite drawn at 42x42) start from a mip chain:
+ * the source halved repeatedly with bilinear filtering, built once per
+ * source and shared by every copy of it.
+ */
+public final class PrescaledImageCache {
+    /** Quiet time after the last scale change before rebuilding. */
+    public static final long DEBOUNCE_MILLIS = 150;
+
+    private static PrescaledImageCache instance;
+
+    private ExecutorService executor;
+    private final Map<BufferedImage, BufferedImage[]> mipChains = new WeakHashMap<>(); // Scaler thread only
+    private long quietUntil = 0; // System.nanoTime() before which no copies are built
+
+    PrescaledImageCache() {
+    }
+
+    public static synchronized PrescaledImageCache getInstance() {
+        if (instance == null) {
+            instance = new PrescaledImageCache();
+        }
+        return instance;
+    }
+
+    /**
+     * A drawable that keeps a scaled copy of an image. Create it once, when
+     * the image is loaded, and draw through it every frame.
+     *
+     * @param baseWidth Width the image is drawn at, in base coordinates
+     * @param baseHeight Height the image is drawn at, in base coordinates
+     */
+    public PrescaledImage prescale(BufferedImage source, int baseWidth, int baseHeight) {
+        return new PrescaledImage(this, source, baseWidth, baseHeight);
+    }
+
+    /**
+     * Hold rebuilds back until the window has stopped changing size.
+     * Call after ScaleManager.updateDimensions().
+     */
+    public synchronized void scaleChanged() {
+        quietUntil = System.nanoTime() + DEBOUNCE_MILLIS * 1_000_000;
+    }
+
+    /**
+     * Build a copy at the given scale soon, unless a resize is in progress.
+     *
+     * @return Whether the build was queued
+     */
+    synchronized boolean request(PrescaledImage image, double scaleX, double scaleY) {
+        if (System.nanoTime() - quietUntil < 0) {
+            return false;
+        }
+        executor().execute(() -> image.rebuild(scaleX, scaleY));
+        return true;
+    }
+
+    /**
+     * Scale an image to width x height, from the smallest mip level that is
+     * at least that large. Downscales filter bilinearly; upscales stay
+     * nearest-neighbour, keeping pixel art crisp like the renderer does.
+     */
+    BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage from = source;
+        if (source.getWidth() >= 2 * width && source.getHeight() >= 2 * height) {
+            for (BufferedImage mip : mipChain(source)) {
+                if (mip.getWidth() < width || mip.getHeight() < height) break;
+                from = mip;
+            }
+        }
+
+        BufferedImage scaled = ResourceManager.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        Graphics2D g = scaled.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        boolean downscale = from.getWidth() >= width && from.getHeight() >= height;
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, downscale
+            ? RenderingHints.VALUE_INTERPOLATION_BILINEAR
+            : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(from, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+
+    private BufferedImage[] mipChain(BufferedImage source) {
+        BufferedImage[] chain = mipChains.get(source);
+        if (chain == null) {
+            List<BufferedImage> levels = new ArrayList<>();
+            BufferedImage level = source;
+            while (level.getWidth() > 1 && level.getHeight() > 1) {
+                int width = (level.getWidth() + 1) / 2;
+                int height = (level.getHeight() + 1) / 2;
+                BufferedImage half = ResourceManager.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+                Graphics2D g = half.createGraphics();
+                g.setComposite(AlphaComposite.Src);
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(level, 0, 0, width, height, null);
+                g.dispose();
+                levels.add(half);
+                level = half;
+            }
+            chain = levels.toArray(new BufferedImage[0]);
+            mipChains.put(source, chain);
+        }
+        return chain;
+    }
+
+    private ExecutorService executor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "Image scaler");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY); // Never compete with the game thread
+                return thread;
+            });
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,107 @@
+package com.lo3ba.graphics;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Collects sprite draws from one TextureAtlas and issues them in a single
+ * pass, ordered by layer and then by submission. Every draw uses the same
+ * image, so Java2D never switches source surfaces in between.
+ *
+ * Draws are recorded into growable int arrays; after the first frames
+ * have sized them, queuing and flushing allocate nothing. Not thread-safe:
+ * one batch per rendering thread.
+ */
+public class SpriteBatch {
+    private static final int FIELDS = 8; // dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2
+
+    private final TextureAtlas atlas;
+    private int[] draws = new int[64 * FIELDS];
+    private long[] order = new long[64]; // layer << 32 | draw index
+    private int count = 0;
+
+    public SpriteBatch(TextureAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    public TextureAtlas getAtlas() {
+        return atlas;
+    }
+
+    /**
+     * Queue a whole region, stretched to width x height at (x, y).
+     */
+    public void draw(int region, int layer, int x, int y, int width, int height) {
+        int sx = atlas.getX(region);
+        int sy = atlas.getY(region);
+        add(layer, x, y, x + width, y + height, sx, sy, sx + atlas.getWidth(region), sy + atlas.getHeight(region));
+    }
+
+    /**
+     * Queue part of a region at its own size, e.g. the clipped edge tile of
+     * a tiled platform.
+     *
+     * @param srcX Left of the part, relative to the region
+     * @param srcY Top of the part, relative to the region
+     */
+    public void drawPart(int region, int layer, int x, int y, int srcX, int srcY, int width, int height) {
+        int sx = atlas.getX(region) + srcX;
+        int sy = atlas.getY(region) + srcY;
+        add(layer, x, y, x + width, y + height, sx, sy, sx + width, sy + height);
+    }
+
+    /**
+     * Tile a region over a rectangle, clipping the last row and column,
+     * the way platforms and breakable walls repeat their textures.
+     */
+    public void drawTiled(int region, int layer, int x, int y, int width, int height) {
+        int tileWidth = atlas.getWidth(region);
+        int tileHeight = atlas.getHeight(region);
+        for (int drawX = x; drawX < x + width; drawX += tileWidth) {
+            for (int drawY = y; drawY < y + height; drawY += tileHeight) {
+                drawPart(region, layer, drawX, drawY, 0, 0,
+                         Math.min(tileWidth, x + width - drawX), Math.min(tileHeight, y + height - drawY));
+            }
+        }
+    }
+
+    private void add(int layer, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2) {
+        if (count == order.length) {
+            order = Arrays.copyOf(order, count * 2);
+            draws = Arrays.copyOf(draws, count * 2 * FIELDS);
+        }
+        int base = count * FIELDS;
+        draws[base] = dx1;
+        draws[base + 1] = dy1;
+        draws[base + 2] = dx2;
+        draws[base + 3] = dy2;
+        draws[base + 4] = sx1;
+        draws[base + 5] = sy1;
+        draws[base + 6] = sx2;
+        draws[base + 7] = sy2;
+        order[count] = (long) layer << 32 | count;
+        count++;
+    }
+
+    /**
+     * Draw everything queued since the last flush, lowest layer first, and
+     * empty the batch.
+     */
+    public void flush(Graphics2D g) {
+        Arrays.sort(order, 0, count);
+        Image page = atlas.getDrawablePage(g.getDeviceConfiguration());
+        for (int i = 0; i < count; i++) {
+            int base = (int) order[i] * FIELDS;
+            g.drawImage(page, draws[base], draws[base + 1], draws[base + 2], draws[base + 3],
+                        draws[base + 4], draws[base + 5], draws[base + 6], draws[base + 7], null);
+        }
+        count = 0;
+    }
+
+    /**
+     * Number of draws queued and not yet flushed.
+     */
+    public int getQueuedCount() {
+        return count;
+    }
+}
@@ -0,0 +1,167 @@
+package com.lo3ba.graphics;
+
+import com.lo3ba.util.ResourceManager;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Small sprites packed into one image (the page), with a table of named
+ * regions. Drawing every sprite from the same image lets Java2D keep one
+ * cached surface for all of them instead of one per texture.
+ *
+ * Look a region up by name once, keep the int handle it returns, and pass
+ * the handle to SpriteBatch when drawing.
+ *
+ * Packing is shelf-based: sprites are sorted by height and placed left to
+ * right in rows, with a transparent pixel between neighbours.
+ */
+public final class TextureAtlas {
+    /** Handle returned by find() for a name that isn't in the atlas. */
+    public static final int NO_REGION = -1;
+    /** Sprites wider or taller than this stay separate images. */
+    public static final int MAX_SPRITE_SIZE = 256;
+    private static final int PADDING = 1;
+
+    // Every sprite in assets/textures small enough for the atlas. The door
+    // images (1587x2245) and the background are left out.
+    private static final String[] DEFAULT_SPRITES = {
+        "floor.png",
+        "platform_stone_64x32.png", "platform_crate_80x32.png", "platform_metal_80x32.png",
+        "platform_brick_64x32.png", "platform_ice_80x32.png", "platform_lava_64x32.png",
+        "spike.png",
+        "spike_normal_32x32.png", "spike_ice_32x32.png", "spike_fire_32x32.png",
+        "spike_poison_32x32.png", "spike_electric_32x32.png", "spike_bone_32x32.png",
+        "star.png", "bomb.png", "breakable_wall.png", "fgf.png", "player.png",
+        "avatar1_idle.png", "avatar2_idle.png", "avatar3_idle.png", "avatar4_idle.png"
+    };
+
+    private static TextureAtlas defaultAtlas;
+
+    private final BufferedImage page;
+    private final VolatileSurface pageSurface; // Rendering thread only
+    private final Map<String, Integer> handles = new HashMap<>();
+    private final int[] regionX;
+    private final int[] regionY;
+    private final int[] regionWidth;
+    private final int[] regionHeight;
+
+    private TextureAtlas(BufferedImage page, String[] names, int[] x, int[] y, int[] width, int[] height) {
+        this.page = page;
+        this.pageSurface = new VolatileSurface(page);
+        this.regionX = x;
+        this.regionY = y;
+        this.regionWidth = width;
+        this.regionHeight = height;
+        for (int i = 0; i < names.length; i++) {
+            handles.put(names[i], i);
+        }
+    }
+
+    /**
+     * The atlas of the game's own sprites, packed on first use from the
+     * textures ResourceManager loads.
+     */
+    public static synchronized TextureAtlas getDefault() {
+        if (defaultAtlas == null) {
+            List<BufferedImage> images = new ArrayList<>();
+            for (String name : DEFAULT_SPRITES) {
+                images.add(ResourceManager.loadTexture(name));
+            }
+            defaultAtlas = pack(DEFAULT_SPRITES, images);
+        }
+        return defaultAtlas;
+    }
+
+    /**
+     * Pack sprites into a new atlas. Region handles follow the order of names.
+     *
+     * @param names Region names, one per image
+     * @param images Sprites, each at most MAX_SPRITE_SIZE on a side
+     */
+    public static TextureAtlas pack(String[] names, List<BufferedImage> images) {
+        int count = names.length;
+        if (images.size() != count) {
+            throw new IllegalArgumentException(count + " names for " + images.size() + " images");
+        }
+
+        // Page width: a power of two around the square root of the total area
+        long area = 0;
+        int widest = 0;
+        for (BufferedImage image : images) {
+            if (image.getWidth() > MAX_SPRITE_SIZE || image.getHeight() > MAX_SPRITE_SIZE) {
+                throw new IllegalArgumentException("Sprite too large for the atlas: "
+                        + image.getWidth() + "x" + image.getHeight());
+            }
+            area += (long) (image.getWidth() + PADDING) * (image.getHeight() + PADDING);
+            widest = Math.max(widest, image.getWidth() + PADDING);
+        }
+        int pageWidth = Integer.highestOneBit(Math.max(widest, (int) Math.ceil(Math.sqrt(area))) - 1) << 1;
+
+        // Tallest first, so each shelf wastes little height
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> images.get(b).getHeight() - images.get(a).getHeight());
+
+        int[] x = new int[count];
+        int[] y = new int[count];
+        int[] width = new int[count];
+        int[] height = new int[count];
+        int shelfX = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+        for (int i : order) {
+            BufferedImage image = images.get(i);
+            if (shelfX + image.getWidth() > pageWidth) {
+                shelfY += shelfHeight + PADDING;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            x[i] = shelfX;
+            y[i] = shelfY;
+            width[i] = image.getWidth();
+            height[i] = image.getHeight();
+            shelfX += image.getWidth() + PADDING;
+            shelfHeight = Math.max(shelfHeight, image.getHeight());
+        }
+
+        BufferedImage page = ResourceManager.createCompatibleImage(pageWidth, Math.max(1, shelfY + shelfHeight),
+                                                                   Transparency.TRANSLUCENT);
+        Graphics2D g = page.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        for (int i = 0; i < count; i++) {
+            g.drawImage(images.get(i), x[i], y[i], null);
+        }
+        g.dispose();
+        return new TextureAtlas(page, names.clone(), x, y, width, height);
+    }
+
+    /**
+     * Handle of a named region, or NO_REGION. Resolve once, not per draw.
+     */
+    public int find(String name) {
+        Integer handle = handles.get(name);
+        return handle != null ? handle : NO_REGION;
+    }
+
+    public BufferedImage getPage() { return page; }
+
+    /**
+     * The page to draw from on a configuration: in video memory where
+     * possible, else the BufferedImage. Rendering thread only.
+     */
+    public Image getDrawablePage(GraphicsConfiguration gc) {
+        return pageSurface.prepare(gc);
+    }
+
+    public int getRegionCount() { return regionX.length; }
+    public int getX(int region) { return regionX[region]; }
+    public int getY(int region) { return regionY[region]; }
+    public int getWidth(int region) { return regionWidth[region]; }
+    public int getHeight(int region) { return regionHeight[region]; }
+}
@@ -0,0 +1,102 @@
+package com.lo3ba.graphics;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * A BufferedImage promoted to a VolatileImage, for large or frequently
+ * drawn images that should stay in video memory. The BufferedImage is
+ * kept as the backing copy: whenever the VolatileImage is restored or
+ * recreated (display mode changes, another GraphicsConfiguration) its
+ * pixels are copied back in, and without acceleration (headless runs)
+ * the BufferedImage itself is drawn.
+ *
+ * Rendering thread only.
+ */
+public final class VolatileSurface {
+    /** Images with at least this many pixels are worth a VolatileImage. */
+    public static final int PROMOTE_PIXELS = 128 * 128;
+
+    private final BufferedImage source;
+    private VolatileImage image;
+
+    public VolatileSurface(BufferedImage source) {
+        this.source = source;
+    }
+
+    /**
+     * Whether an image is large enough to be worth promoting.
+     */
+    public static boolean isWorthPromoting(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() >= PROMOTE_PIXELS;
+    }
+
+    /**
+     * The image to draw for a configuration: the VolatileImage, validated
+     * and restored if needed, or the source when none can be made.
+     * Callers drawing from it several times may check contentsLost()
+     * afterwards; a lost frame is restored on the next call.
+     */
+    public Image prepare(GraphicsConfiguration gc) {
+        if (gc == null || GraphicsEnvironment.isHeadless()) {
+            return source;
+        }
+        if (image == null) {
+            image = create(gc);
+            if (image == null) return source;
+            restore();
+        }
+
+        int status = image.validate(gc);
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+            image.flush();
+            image = create(gc);
+            if (image == null) return source;
+            restore();
+        } else if (status == VolatileImage.IMAGE_RESTORED) {
+            restore();
+        }
+        return image;
+    }
+
+    /**
+     * Whether the last prepared VolatileImage lost its contents since.
+     */
+    public boolean contentsLost() {
+        return image != null && image.contentsLost();
+    }
+
+    /**
+     * Draw at (x, y) at the source's size, retrying if the contents are
+     * lost mid-draw.
+     */
+    public void draw(Graphics2D g, int x, int y) {
+        GraphicsConfiguration gc = g.getDeviceConfiguration();
+        for (int attempt = 0; attempt < 3; attempt++) {
+            g.drawImage(prepare(gc), x, y, null);
+            if (!contentsLost()) return;
+        }
+        g.drawImage(source, x, y, null);
+    }
+
+    public BufferedImage getSource() {
+        return source;
+    }
+
+    private VolatileImage create(GraphicsConfiguration gc) {
+        try {
+            return gc.createCompatibleVolatileImage(source.getWidth(), source.getHeight(),
+                                                    source.getColorModel().getTransparency());
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private void restore() {
+        Graphics2D g = image.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(source, 0, 0, null);
+        g.dispose();
+    }
+}
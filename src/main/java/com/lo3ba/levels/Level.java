@@ -10,14 +10,22 @@ import com.lo3ba.gameobjects.Checkpoint;
 import com.lo3ba.gameobjects.Bomb; // NEW
 import com.lo3ba.gameobjects.BreakableWall; // NEW
 import com.lo3ba.gameobjects.Explosion; // NEW
+import com.lo3ba.effects.WeatherEmitter;
+import com.lo3ba.graphics.SpriteBatch;
+import com.lo3ba.graphics.TextureAtlas;
+import com.lo3ba.physics.SpatialGrid;
+import com.lo3ba.physics.SweepAndPrune;
+import com.lo3ba.physics.SweptAabbSolver;
+import com.lo3ba.util.ResourceManager;
 import com.lo3ba.util.ScaleManager;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 public abstract class Level {
     protected Player player;
@@ -36,6 +44,51 @@ public abstract class Level {
     protected List<BreakableWall> breakableWalls; // NEW
     protected List<Explosion> explosions; // NEW
     protected int stuckTimer = 0;
+    protected WeatherEmitter weather; // Ambient weather, or null for clear skies
+    private int collectedStars = 0; // Kept in step with star.collect()/reset()
+    private int layoutVersion = 0; // Bumped by every init(), see StaticLayerCache
+    private final StaticLayerCache staticLayer = new StaticLayerCache();
+
+    // Sprite layers for the dynamic objects, drawn bottom to top
+    private static final int LAYER_PLATFORMS = 0;
+    private static final int LAYER_ITEMS = 1;
+    private static final int LAYER_WALLS = 2;
+    private final SpriteBatch batch = new SpriteBatch(TextureAtlas.getDefault()); // Render thread only
+
+    // Spatial index over the static objects above, rebuilt by buildSpatialIndex()
+    protected SpatialGrid<Platform> platformGrid = SpatialGrid.empty();
+    protected SpatialGrid<Spike> spikeGrid = SpatialGrid.empty();
+    protected SpatialGrid<Star> starGrid = SpatialGrid.empty();
+    protected SpatialGrid<Checkpoint> checkpointGrid = SpatialGrid.empty();
+    protected SpatialGrid<Bomb> bombGrid = SpatialGrid.empty();
+    protected SpatialGrid<BreakableWall> wallGrid = SpatialGrid.empty();
+
+    // Broadphase over objects that move every tick; handles are list indices
+    protected final SweepAndPrune<MovingPlatform> movingPlatformSweep = new SweepAndPrune<>(Platform::getBounds);
+    private int[] movingCandidates = new int[8];
+    private int movingCandidateCount = 0;
+    private final IntConsumer movingCandidate = this::addMovingCandidate;
+
+    // Reused query state and callbacks, so collision checks allocate nothing
+    private final Rectangle queryArea = new Rectangle();
+    private int firstHit = -1;
+    private final IntConsumer firstWallHit = this::recordFirstWallHit;
+    private final Consumer<Spike> spikeContact = this::touchSpike;
+    private final Consumer<Star> starContact = this::touchStar;
+    private final Consumer<Checkpoint> checkpointContact = this::touchCheckpoint;
+    private final Consumer<Bomb> bombContact = this::touchBomb;
+
+    // Swept collision against static geometry
+    private final SweptAabbSolver solver = new SweptAabbSolver();
+    private final Consumer<Platform> platformCollider = platform -> solver.addOneWay(platform.getBounds());
+    private final Consumer<BreakableWall> wallCollider = wall -> {
+        if (!wall.isDestroyed()) solver.addSolid(wall.getBounds());
+    };
+
+    private static final String[] PINNED_TEXTURES = {
+        "background.png", "spike.png", "doorClose.png", "doorOpen.png", "star.png"
+    };
+    private boolean released = false;
 
     protected BufferedImage platformImg;
     protected BufferedImage spikeImg;
@@ -59,20 +112,26 @@ public abstract class Level {
     }
 
     protected void loadTextures() {
-        try {
-            platformImg = ImageIO.read(getClass().getClassLoader()
-                    .getResourceAsStream("assets/textures/background.png"));
-            spikeImg = ImageIO.read(getClass().getClassLoader()
-                    .getResourceAsStream("assets/textures/spike.png"));
-            doorClosedImg = ImageIO.read(getClass().getClassLoader()
-                    .getResourceAsStream("assets/textures/doorClose.png")); // NEW
-            doorOpenImg = ImageIO.read(getClass().getClassLoader()
-                    .getResourceAsStream("assets/textures/doorOpen.png"));  // NEW
-            starImg = ImageIO.read(getClass().getClassLoader()
-                    .getResourceAsStream("assets/textures/star.png"));
+        // Shared with every other level through the cache, and pinned there
+        // until release()
+        platformImg = ResourceManager.pinTexture("background.png");
+        spikeImg = ResourceManager.pinTexture("spike.png");
+        doorClosedImg = ResourceManager.pinTexture("doorClose.png"); // NEW
+        doorOpenImg = ResourceManager.pinTexture("doorOpen.png");    // NEW
+        starImg = ResourceManager.pinTexture("star.png");
+    }
 
-        } catch (IOException e) {
-            System.err.println("⚠ Could not load textures: " + e.getMessage());
+    /**
+     * Unpin this level's textures once it is no longer played, so the
+     * texture cache may evict them. Later calls do nothing.
+     */
+    public void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        for (String texture : PINNED_TEXTURES) {
+            ResourceManager.unpinTexture(texture);
         }
     }
 
@@ -94,44 +153,86 @@ public abstract class Level {
         }
     }
 
+    /**
+     * Build the level's objects. Implementations must end with
+     * buildSpatialIndex() once all static objects have been added.
+     */
     public abstract void init();
     public abstract void update();
 
-    public void render(Graphics2D g) {
-        // Apply scaling transformation
-        ScaleManager sm = ScaleManager.getInstance();
-        Graphics2D g2d = (Graphics2D) g.create();
-        g2d.scale(sm.getScaleX(), sm.getScaleY());
-        
-        for (Platform platform : platforms) {
-            platform.render(g2d);
-        }
+    /**
+     * Index platforms, spikes, stars, checkpoints, bombs and breakable walls
+     * by grid cell. Call at the end of init(); these objects must not move
+     * afterwards (moving platforms are not indexed).
+     */
+    protected void buildSpatialIndex() {
+        platformGrid = SpatialGrid.build(platforms, Platform::getBounds, SpatialGrid.DEFAULT_CELL_SIZE);
+        spikeGrid = SpatialGrid.build(spikes, Spike::getBounds, SpatialGrid.DEFAULT_CELL_SIZE);
+        starGrid = SpatialGrid.build(stars, Star::getBounds, SpatialGrid.DEFAULT_CELL_SIZE);
+        checkpointGrid = SpatialGrid.build(checkpoints, Checkpoint::getBounds, SpatialGrid.DEFAULT_CELL_SIZE);
+        bombGrid = SpatialGrid.build(bombs, Bomb::getBounds, SpatialGrid.DEFAULT_CELL_SIZE);
+        wallGrid = SpatialGrid.build(breakableWalls, BreakableWall::getBounds, SpatialGrid.DEFAULT_CELL_SIZE);
+
+        movingPlatformSweep.clear();
         for (MovingPlatform mp : movingPlatforms) {
-            mp.render(g2d);
-        }
-        for (Spike spike : spikes) {
-            spike.render(g2d);
+            movingPlatformSweep.add(mp);
         }
+
+        collectedStars = 0;
         for (Star star : stars) {
-            star.render(g2d);
+            if (star.isCollected()) collectedStars++;
         }
+        layoutVersion++;
+    }
+
+    /**
+     * Copy this level's mutable state into a frame snapshot.
+     * Called on the game thread; the renderer only ever sees the snapshot.
+     */
+    public void writeSnapshot(LevelSnapshot snapshot) {
+        snapshot.capture(this);
+    }
+
+    /**
+     * Render the level using the state captured in a published snapshot.
+     * Object lists are fixed after init(), so only their changing state is
+     * read from the snapshot. Platforms, spikes, the door and inactive
+     * checkpoints come from a cached image, see StaticLayerCache; the
+     * sprites on top of it are drawn from the texture atlas in one batch.
+     *
+     * @param alpha Fraction of a tick since the latest tick, for interpolating moving platforms
+     */
+    public void render(Graphics2D g, LevelSnapshot snapshot, double alpha) {
+        staticLayer.render(g, this, snapshot);
+
+        // Apply scaling transformation
+        ScaleManager sm = ScaleManager.getInstance();
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.scale(sm.getRenderScaleX(), sm.getRenderScaleY());
         
-        // ENHANCEMENT: Render checkpoints
-        for (Checkpoint cp : checkpoints) {
-            cp.render(g2d);
+        // ENHANCEMENT: Render checkpoints (inactive ones are in the static layer)
+        for (int i = 0; i < checkpoints.size(); i++) {
+            if (snapshot.isCheckpointActivated(i)) {
+                checkpoints.get(i).render(g2d, true, snapshot.getCheckpointFrame(i));
+            }
         }
-        
-        if (door != null) {
-            door.render(g2d);
+
+        for (int i = 0; i < movingPlatforms.size(); i++) {
+            movingPlatforms.get(i).render(batch, LAYER_PLATFORMS,
+                                          snapshot.getMovingX(i, alpha), snapshot.getMovingY(i, alpha));
         }
-        for (Bomb bomb : bombs) {
-            bomb.render(g2d);
+        for (int i = 0; i < stars.size(); i++) {
+            stars.get(i).render(batch, LAYER_ITEMS, snapshot.isStarCollected(i));
         }
-        for (BreakableWall wall : breakableWalls) {
-            wall.render(g2d);
+        for (int i = 0; i < bombs.size(); i++) {
+            bombs.get(i).render(batch, LAYER_ITEMS, snapshot.isBombCollected(i));
         }
-        for (Explosion exp : explosions) {
-            exp.render(g2d);
+        for (int i = 0; i < breakableWalls.size(); i++) {
+            breakableWalls.get(i).render(batch, LAYER_WALLS, snapshot.isWallDestroyed(i));
+        }
+        batch.flush(g2d);
+        for (int i = 0; i < snapshot.getExplosionCount(); i++) {
+            snapshot.getExplosion(i).render(g2d, snapshot.getExplosionFrame(i));
         }
         
         g2d.dispose();
@@ -142,6 +243,7 @@ public abstract class Level {
         for (Star star : stars) {
             star.reset();
         }
+        collectedStars = 0;
         // ENHANCEMENT: Reset checkpoints
         for (Checkpoint cp : checkpoints) {
             cp.reset();
@@ -156,22 +258,24 @@ public abstract class Level {
     
     // ENHANCEMENT: Update checkpoints
     protected void updateCheckpoints() {
-        Rectangle playerBounds = player.getBounds();
-        for (Checkpoint cp : checkpoints) {
-            cp.update();
+        for (int i = 0; i < checkpoints.size(); i++) {
+            checkpoints.get(i).update();
+        }
+        checkpointGrid.query(player.getBounds(), checkpointContact);
+    }
+
+    private void touchCheckpoint(Checkpoint cp) {
+        if (!cp.isActivated() && checkCollision(player.getBounds(), cp.getBounds())) {
+            cp.activate();
+            lastCheckpoint = cp;
             
-            if (!cp.isActivated() && checkCollision(playerBounds, cp.getBounds())) {
-                cp.activate();
-                lastCheckpoint = cp;
-                
-                // Sparkle effect on activation
-                if (player.getGameLoop() != null) {
-                    player.getGameLoop().getParticleSystem().createSparkleParticles(
-                        cp.getBounds().x + cp.getBounds().width/2,
-                        cp.getBounds().y + cp.getBounds().height/2,
-                        15
-                    );
-                }
+            // Sparkle effect on activation
+            if (player.getSimulation() != null) {
+                player.getSimulation().getParticleSystem().createSparkleParticles(
+                    cp.getBounds().x + cp.getBounds().width/2,
+                    cp.getBounds().y + cp.getBounds().height/2,
+                    15
+                );
             }
         }
     }
@@ -180,11 +284,7 @@ public abstract class Level {
 }
 
 public int getCollectedStars() {
-    int count = 0;
-    for (Star star : stars) {
-        if (star.isCollected()) count++;
-    }
-    return count;
+    return collectedStars;
 }
 
     public boolean isCompleted() {
@@ -192,12 +292,7 @@ public int getCollectedStars() {
     }
 
     public boolean allStarsCollected() {
-        for (Star star : stars) {
-            if (!star.isCollected()) {
-                return false;
-            }
-        }
-        return true;
+        return collectedStars == stars.size();
     }
 
     // ENHANCEMENT: Return checkpoint spawn if activated
@@ -217,6 +312,10 @@ public int getCollectedStars() {
 
     public int getStuckTimer() { return stuckTimer; }
 
+    int getLayoutVersion() { return layoutVersion; }
+
+    public WeatherEmitter getWeather() { return weather; }
+
     protected boolean checkCollision(Rectangle a, Rectangle b) {
         return a.intersects(b);
     }
@@ -234,19 +333,21 @@ public int getCollectedStars() {
     }
 
     protected void checkStarCollection() {
-        Rectangle playerBounds = player.getBounds();
-        for (Star star : stars) {
-            if (!star.isCollected() && checkCollision(playerBounds, star.getBounds())) {
-                star.collect();
-                
-                // ENHANCEMENT: Sparkle particles on collection
-                if (player.getGameLoop() != null) {
-                    player.getGameLoop().getParticleSystem().createSparkleParticles(
-                        star.getBounds().x + star.getBounds().width/2,
-                        star.getBounds().y + star.getBounds().height/2,
-                        20
-                    );
-                }
+        starGrid.query(player.getBounds(), starContact);
+    }
+
+    private void touchStar(Star star) {
+        if (!star.isCollected() && checkCollision(player.getBounds(), star.getBounds())) {
+            star.collect();
+            collectedStars++;
+            
+            // ENHANCEMENT: Sparkle particles on collection
+            if (player.getSimulation() != null) {
+                player.getSimulation().getParticleSystem().createSparkleParticles(
+                    star.getBounds().x + star.getBounds().width/2,
+                    star.getBounds().y + star.getBounds().height/2,
+                    20
+                );
             }
         }
     }
@@ -258,45 +359,51 @@ public int getCollectedStars() {
     }
 
     /**
-     * Handles collision between player and static platforms.
-     * Only processes collisions when player is falling (velocityY > 0).
-     * Uses sweep collision detection to prevent tunneling through platforms.
+     * Moves the player from where it started this tick to where it wants to
+     * be, through platforms (one-way, landed on from above), intact breakable
+     * walls and a closed door (solid from every side).
+     * Uses swept AABB collision, so no speed lets the player pass through a
+     * thin obstacle; contacts on a top face put the player on the ground and
+     * a ceiling stops a jump.
      */
-    protected void handlePlatformCollision() {
-        for (Platform platform : platforms) {
-            if (player.getVelocityY() > 0) {
-                double playerBottom = player.getY() + Player.HEIGHT;
-                double playerBottomPrev = playerBottom - player.getVelocityY();
-                
-                boolean horizontalOverlap = player.getX() + Player.WIDTH > platform.getBounds().x &&
-                                            player.getX() < platform.getBounds().x + platform.getBounds().width;
-                
-                if (horizontalOverlap &&
-                    playerBottomPrev <= platform.getBounds().y &&
-                    playerBottom >= platform.getBounds().y) {
-                    
-                    player.setY(platform.getBounds().y - Player.HEIGHT);
-                    player.setOnGround(true);
-                    break;
-                }
-            }
+    protected void resolveCollisions() {
+        double startX = player.getLastTickX();
+        double startY = player.getLastTickY();
+        double dx = player.getX() - startX;
+        double dy = player.getY() - startY;
+
+        // Candidates: everything touching the box swept from start to end
+        int left = (int) Math.floor(Math.min(startX, player.getX())) - 1;
+        int top = (int) Math.floor(Math.min(startY, player.getY())) - 1;
+        int right = (int) Math.ceil(Math.max(startX, player.getX())) + Player.WIDTH + 1;
+        int bottom = (int) Math.ceil(Math.max(startY, player.getY())) + Player.HEIGHT + 1;
+        queryArea.setBounds(left, top, right - left, bottom - top);
+
+        solver.clear();
+        platformGrid.query(queryArea, platformCollider);
+        wallGrid.query(queryArea, wallCollider);
+        if (door != null && !door.isOpen()) {
+            solver.addSolid(door.getBounds());
+        }
+
+        solver.move(startX, startY, Player.WIDTH, Player.HEIGHT, dx, dy);
+        player.setX(solver.getX());
+        player.setY(solver.getY());
+        if (solver.isLanded()) {
+            player.setOnGround(true);
+        } else if (solver.isCeilingHit() && player.getVelocityY() < 0) {
+            player.setVelocityY(0);
         }
     }
 
     /**
-     * Handles collision detection and response for door objects.
-     * Closed doors block player movement; open doors complete the level.
+     * Handles the door objective: entering an open door completes the level.
+     * Closed doors are solid and already blocked by resolveCollisions().
      */
     protected void handleDoorCollision() {
         if (door == null) return;
         
-        Rectangle playerBounds = player.getBounds();
-        
-        if (!door.isOpen() && checkCollision(playerBounds, door.getBounds())) {
-            // Push player back from closed door
-            player.setX(player.getX() - player.getVelocityX());
-            player.setY(player.getY() - player.getVelocityY());
-        } else if (door.isOpen() && checkCollision(playerBounds, door.getBounds())) {
+        if (door.isOpen() && checkCollision(player.getBounds(), door.getBounds())) {
             // Level completed when entering open door
             completed = true;
         }
@@ -335,7 +442,7 @@ public int getCollectedStars() {
         }
         
         // Handle collision detection
-        handlePlatformCollision();
+        resolveCollisions();
         checkSpikeCollision();
         
         // Handle collectibles and objectives
@@ -356,21 +463,98 @@ public int getCollectedStars() {
     }
 
     public void checkSpikeCollision() {
-        Rectangle playerBounds = player.getBounds();
-        for (Spike spike : spikes) {
-            Rectangle spikeHitbox = spike.getHitbox();
-            if (checkCollision(playerBounds, spikeHitbox)) {
-                player.takeDamage(getSpikeDamage(spike.getType()));
-                if (player.getHealth() <= 0) {
-                    player.die();
-                }
+        spikeGrid.query(player.getBounds(), spikeContact);
+    }
+
+    private void touchSpike(Spike spike) {
+        if (checkCollision(player.getBounds(), spike.getHitbox())) {
+            player.takeDamage(getSpikeDamage(spike.getType()));
+            if (player.getHealth() <= 0) {
+                player.die();
+            }
+        }
+    }
+
+    /**
+     * Collect the moving platforms near the player into movingCandidates, in
+     * list order. The area is padded so platforms the player may be carried
+     * onto during the same pass (and the 8 px stickiness band) are included.
+     *
+     * @return Number of candidates
+     */
+    protected int findMovingPlatformCandidates() {
+        movingPlatformSweep.update();
+
+        int margin = 16;
+        int reachX = (int) Math.ceil(Math.abs(player.getVelocityX())) + margin;
+        int reachY = (int) Math.ceil(Math.abs(player.getVelocityY())) + margin;
+        queryArea.setBounds((int) player.getX() - reachX, (int) player.getY() - reachY,
+                            Player.WIDTH + 2 * reachX, Player.HEIGHT + 2 * reachY);
+
+        movingCandidateCount = 0;
+        movingPlatformSweep.queryHandles(queryArea, movingCandidate);
+
+        // Few candidates, so an insertion sort restores list order cheaply
+        for (int i = 1; i < movingCandidateCount; i++) {
+            int key = movingCandidates[i];
+            int j = i - 1;
+            while (j >= 0 && movingCandidates[j] > key) {
+                movingCandidates[j + 1] = movingCandidates[j];
+                j--;
+            }
+            movingCandidates[j + 1] = key;
+        }
+        return movingCandidateCount;
+    }
+
+    private void addMovingCandidate(int handle) {
+        if (movingCandidateCount == movingCandidates.length) {
+            movingCandidates = Arrays.copyOf(movingCandidates, movingCandidateCount * 2);
+        }
+        movingCandidates[movingCandidateCount++] = handle;
+    }
+
+    /**
+     * Land the player on the first moving platform it falls onto and carry
+     * it along. Used by levels with their own update(); call after the
+     * platforms have moved this tick.
+     */
+    protected void handleMovingPlatformLanding() {
+        if (player.getVelocityY() <= 0) return;
+
+        int count = findMovingPlatformCandidates();
+        for (int k = 0; k < count; k++) {
+            MovingPlatform mp = movingPlatforms.get(movingCandidates[k]);
+            double playerBottom = player.getY() + Player.HEIGHT;
+            double playerBottomPrev = playerBottom - player.getVelocityY();
+            
+            boolean horizontalOverlap = player.getX() + Player.WIDTH > mp.getBounds().x &&
+                                        player.getX() < mp.getBounds().x + mp.getBounds().width;
+            
+            if (horizontalOverlap &&
+                playerBottomPrev <= mp.getBounds().y &&
+                playerBottom >= mp.getBounds().y) {
+                
+                player.setY(mp.getBounds().y - Player.HEIGHT);
+                player.setOnGround(true);
+                
+                // Move player with platform
+                player.setX(player.getX() + mp.getDeltaX());
+                player.setY(player.getY() + mp.getDeltaY());
+                break;
             }
         }
     }
 
     protected void updateMovingPlatforms() {
-        for (MovingPlatform mp : movingPlatforms) {
-            mp.update();
+        for (int i = 0; i < movingPlatforms.size(); i++) {
+            movingPlatforms.get(i).update();
+        }
+
+        // Only platforms near the player can touch it; visit them in list order
+        int count = findMovingPlatformCandidates();
+        for (int k = 0; k < count; k++) {
+            MovingPlatform mp = movingPlatforms.get(movingCandidates[k]);
             
             // Check for landing on the platform (similar to static platform logic)
             if (player.getVelocityY() > 0) {
@@ -412,24 +596,8 @@ public int getCollectedStars() {
 
 
     public void updateBombsAndWalls() {
-        Rectangle playerBounds = player.getBounds();
-        
-        // Collect bombs
-        for (Bomb bomb : bombs) {
-            if (!bomb.isCollected() && checkCollision(playerBounds, bomb.getBounds())) {
-                bomb.collect();
-                player.collectBomb();
-            }
-        }
-        
-        // Wall collision (prevent movement)
-        for (BreakableWall wall : breakableWalls) {
-            if (!wall.isDestroyed() && checkCollision(playerBounds, wall.getBounds())) {
-                // Simple push back
-                player.setX(player.getX() - player.getVelocityX());
-                player.setY(player.getY() - player.getVelocityY());
-            }
-        }
+        // Collect bombs (intact walls are solid, see resolveCollisions())
+        bombGrid.query(player.getBounds(), bombContact);
         
         // Update explosions
         for (int i = 0; i < explosions.size(); i++) {
@@ -442,21 +610,28 @@ public int getCollectedStars() {
         }
     }
     
+    private void touchBomb(Bomb bomb) {
+        if (!bomb.isCollected() && checkCollision(player.getBounds(), bomb.getBounds())) {
+            bomb.collect();
+            player.collectBomb();
+        }
+    }
+
     public void tryUseBomb() {
         if (player.useBomb()) {
             // Find wall in front of player (or near player)
-            Rectangle searchArea = new Rectangle((int)player.getX() - 20, (int)player.getY() - 20, 
-                                                Player.WIDTH + 40, Player.HEIGHT + 40);
+            queryArea.setBounds((int)player.getX() - 20, (int)player.getY() - 20, 
+                                Player.WIDTH + 40, Player.HEIGHT + 40);
             
+            // Destroy one wall: the first in list order, as the linear scan did
+            firstHit = -1;
+            wallGrid.queryIndices(queryArea, firstWallHit);
             boolean wallDestroyed = false;
-            for (BreakableWall wall : breakableWalls) {
-                if (!wall.isDestroyed() && wall.getBounds().intersects(searchArea)) {
-                    wall.destroy();
-                    explosions.add(new Explosion(wall.getX(), wall.getY()));
-                    wallDestroyed = true;
-                    // Break? Or destroy all nearby? Let's destroy one.
-                    break; 
-                }
+            if (firstHit >= 0) {
+                BreakableWall wall = breakableWalls.get(firstHit);
+                wall.destroy();
+                explosions.add(new Explosion(wall.getX(), wall.getY()));
+                wallDestroyed = true;
             }
             
             // If no wall found, maybe just spawn explosion at player?
@@ -466,6 +641,14 @@ public int getCollectedStars() {
         }
     }
 
+    private void recordFirstWallHit(int index) {
+        BreakableWall wall = breakableWalls.get(index);
+        if ((firstHit < 0 || index < firstHit) && !wall.isDestroyed()
+                && wall.getBounds().intersects(queryArea)) {
+            firstHit = index;
+        }
+    }
+
     public void debugRender(Graphics2D g) {
         for (Platform p : platforms) {
             g.setColor(Color.GRAY);
@@ -68,6 +68,7 @@ public class Level1 extends Level {
         door = new Door(870, 320, 50, 80);
 
         setImagesForObjects();
+        buildSpatialIndex();
     }
 
     @Override
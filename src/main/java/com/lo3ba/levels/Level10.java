@@ -112,61 +112,23 @@ public class Level10 extends Level {
         checkpoints.add(new Checkpoint(810, 168, 800, 168)); // Before descent
 
         setImagesForObjects();
+        buildSpatialIndex();
     }
 
     @Override
     public void update() {
         completed = false;
-        Rectangle playerBounds = player.getBounds();
 
         // Update moving platforms first
-        for (MovingPlatform mp : movingPlatforms) {
-            mp.update();
+        for (int i = 0; i < movingPlatforms.size(); i++) {
+            movingPlatforms.get(i).update();
         }
 
-        // Platform collision - only when falling
-        for (Platform platform : platforms) {
-            if (player.getVelocityY() > 0) {
-                double playerBottom = player.getY() + Player.HEIGHT;
-                double playerBottomPrev = playerBottom - player.getVelocityY();
-                
-                boolean horizontalOverlap = player.getX() + Player.WIDTH > platform.getBounds().x &&
-                                            player.getX() < platform.getBounds().x + platform.getBounds().width;
-                
-                if (horizontalOverlap &&
-                    playerBottomPrev <= platform.getBounds().y &&
-                    playerBottom >= platform.getBounds().y) {
-                    
-                    player.setY(platform.getBounds().y - Player.HEIGHT);
-                    player.setOnGround(true);
-                    break;
-                }
-            }
-        }
+        // Swept collision against platforms and the closed door
+        resolveCollisions();
 
         // Moving platform collision
-        for (MovingPlatform mp : movingPlatforms) {
-            if (player.getVelocityY() > 0) {
-                double playerBottom = player.getY() + Player.HEIGHT;
-                double playerBottomPrev = playerBottom - player.getVelocityY();
-                
-                boolean horizontalOverlap = player.getX() + Player.WIDTH > mp.getBounds().x &&
-                                            player.getX() < mp.getBounds().x + mp.getBounds().width;
-                
-                if (horizontalOverlap &&
-                    playerBottomPrev <= mp.getBounds().y &&
-                    playerBottom >= mp.getBounds().y) {
-                    
-                    player.setY(mp.getBounds().y - Player.HEIGHT);
-                    player.setOnGround(true);
-                    
-                    // Move player with platform
-                    player.setX(player.getX() + mp.getDeltaX());
-                    player.setY(player.getY() + mp.getDeltaY());
-                    break;
-                }
-            }
-        }
+        handleMovingPlatformLanding();
 
         checkSpikeCollision();
         checkStarCollection();
@@ -177,17 +139,8 @@ public class Level10 extends Level {
             updateCheckpoints();
         }
 
-        // Door collision
-        if (door != null) {
-            if (!door.isOpen() && checkCollision(playerBounds, door.getBounds())) {
-                // Push player back from closed door
-                player.setX(player.getX() - player.getVelocityX());
-                player.setY(player.getY() - player.getVelocityY());
-            } else if (door.isOpen() && checkCollision(playerBounds, door.getBounds())) {
-                // Level completed when entering open door
-                completed = true;
-            }
-        }
+        // Door collision (closed doors already blocked the player)
+        handleDoorCollision();
 
         // Fall off screen
         if (player.getY() > ScaleManager.BASE_HEIGHT + 50) {
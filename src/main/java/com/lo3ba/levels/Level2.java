@@ -77,6 +77,7 @@ public class Level2 extends Level {
         door = new Door(720, 400, 50, 80);
 
         setImagesForObjects();
+        buildSpatialIndex();
     }
 
     @Override
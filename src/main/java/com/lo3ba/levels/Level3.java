@@ -1,6 +1,7 @@
 package com.lo3ba.levels;
 
 import com.lo3ba.core.Player;
+import com.lo3ba.effects.WeatherEmitter;
 import com.lo3ba.util.ScaleManager;
 import com.lo3ba.gameobjects.Platform;
 import com.lo3ba.gameobjects.Platform.PlatformType;
@@ -23,6 +24,9 @@ public class Level3 extends Level {
         super(player);
         spawnX = 50;
         spawnY = 500;
+        // Snow drifting over the peaks
+        weather = new WeatherEmitter(WeatherEmitter.Kind.SNOW, 20_000,
+                                     new Rectangle(-50, -20, ScaleManager.BASE_WIDTH + 100, 20));
         init();
     }
 
@@ -80,6 +84,7 @@ public class Level3 extends Level {
         door = new Door(650, 420, 50, 80);
 
         setImagesForObjects();
+        buildSpatialIndex();
     }
 
     @Override
@@ -84,6 +84,7 @@ public class Level5 extends Level {
         door = new Door(880, 380, 50, 80);
 
         setImagesForObjects();
+        buildSpatialIndex();
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.lo3ba.levels;
 
 import com.lo3ba.core.Player;
+import com.lo3ba.effects.WeatherEmitter;
 import com.lo3ba.util.ScaleManager;
 import com.lo3ba.gameobjects.Platform;
 import com.lo3ba.gameobjects.Platform.PlatformType;
@@ -24,6 +25,9 @@ public class Level7 extends Level {
         super(player);
         spawnX = 50;
         spawnY = 448; // Fixed: platform at Y=490, player HEIGHT=42, spawn at 490-42=448
+        // Rain lashing the fortress
+        weather = new WeatherEmitter(WeatherEmitter.Kind.RAIN, 30_000,
+                                     new Rectangle(0, -100, ScaleManager.BASE_WIDTH + 100, 100));
         init();
     }
 
@@ -90,6 +94,7 @@ public class Level7 extends Level {
         checkpoints.add(new Checkpoint(860, 208, 850, 168)); // Sky fortress section
 
         setImagesForObjects();
+        buildSpatialIndex();
     }
 
     @Override
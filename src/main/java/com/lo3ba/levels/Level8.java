@@ -1,6 +1,7 @@
 package com.lo3ba.levels;
 
 import com.lo3ba.core.Player;
+import com.lo3ba.effects.WeatherEmitter;
 import com.lo3ba.util.ScaleManager;
 import com.lo3ba.gameobjects.Platform;
 import com.lo3ba.gameobjects.Platform.PlatformType;
@@ -25,6 +26,9 @@ public class Level8 extends Level {
         super(player);
         spawnX = 50;
         spawnY = 458; // Fixed: platform at Y=500, player HEIGHT=42, spawn at 500-42=458
+        // Embers rising from the lava below
+        weather = new WeatherEmitter(WeatherEmitter.Kind.EMBERS, 20_000,
+                                     new Rectangle(0, ScaleManager.BASE_HEIGHT - 40, ScaleManager.BASE_WIDTH, 40));
         init();
     }
 
@@ -96,61 +100,23 @@ public class Level8 extends Level {
         checkpoints.add(new Checkpoint(720, 248, 710, 248)); // Before furnace
 
         setImagesForObjects();
+        buildSpatialIndex();
     }
 
     @Override
     public void update() {
         completed = false;
-        Rectangle playerBounds = player.getBounds();
 
         // Update moving platforms first
-        for (MovingPlatform mp : movingPlatforms) {
-            mp.update();
+        for (int i = 0; i < movingPlatforms.size(); i++) {
+            movingPlatforms.get(i).update();
         }
 
-        // Platform collision - only when falling
-        for (Platform platform : platforms) {
-            if (player.getVelocityY() > 0) {
-                double playerBottom = player.getY() + Player.HEIGHT;
-                double playerBottomPrev = playerBottom - player.getVelocityY();
-                
-                boolean horizontalOverlap = player.getX() + Player.WIDTH > platform.getBounds().x &&
-                                            player.getX() < platform.getBounds().x + platform.getBounds().width;
-                
-                if (horizontalOverlap &&
-                    playerBottomPrev <= platform.getBounds().y &&
-                    playerBottom >= platform.getBounds().y) {
-                    
-                    player.setY(platform.getBounds().y - Player.HEIGHT);
-                    player.setOnGround(true);
-                    break;
-                }
-            }
-        }
+        // Swept collision against platforms and the closed door
+        resolveCollisions();
 
         // Moving platform collision
-        for (MovingPlatform mp : movingPlatforms) {
-            if (player.getVelocityY() > 0) {
-                double playerBottom = player.getY() + Player.HEIGHT;
-                double playerBottomPrev = playerBottom - player.getVelocityY();
-                
-                boolean horizontalOverlap = player.getX() + Player.WIDTH > mp.getBounds().x &&
-                                            player.getX() < mp.getBounds().x + mp.getBounds().width;
-                
-                if (horizontalOverlap &&
-                    playerBottomPrev <= mp.getBounds().y &&
-                    playerBottom >= mp.getBounds().y) {
-                    
-                    player.setY(mp.getBounds().y - Player.HEIGHT);
-                    player.setOnGround(true);
-                    
-                    // Move player with platform
-                    player.setX(player.getX() + mp.getDeltaX());
-                    player.setY(player.getY() + mp.getDeltaY());
-                    break;
-                }
-            }
-        }
+        handleMovingPlatformLanding();
 
         checkSpikeCollision();
         checkStarCollection();
@@ -161,17 +127,8 @@ public class Level8 extends Level {
             updateCheckpoints();
         }
 
-        // Door collision
-        if (door != null) {
-            if (!door.isOpen() && checkCollision(playerBounds, door.getBounds())) {
-                // Push player back from closed door
-                player.setX(player.getX() - player.getVelocityX());
-                player.setY(player.getY() - player.getVelocityY());
-            } else if (door.isOpen() && checkCollision(playerBounds, door.getBounds())) {
-                // Level completed when entering open door
-                completed = true;
-            }
-        }
+        // Door collision (closed doors already blocked the player)
+        handleDoorCollision();
 
         // Fall off screen
         if (player.getY() > ScaleManager.BASE_HEIGHT + 50) {
@@ -99,6 +99,7 @@ public class Level9 extends Level {
         checkpoints.add(new Checkpoint(490, 148, 480, 148)); // Switch point
 
         setImagesForObjects();
+        buildSpatialIndex();
     }
 
     @Override
@@ -0,0 +1,47 @@
+package com.lo3ba.levels;
+
+import com.lo3ba.core.Player;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The game's levels by number, built on demand. Nothing is constructed
+ * until a level is started, and only that level; the textures levels use
+ * come from ResourceManager's cache, so building one decodes nothing that
+ * another level already loaded.
+ */
+public final class LevelRegistry {
+    private static final List<Function<Player, Level>> factories = List.of(
+        Level1::new,
+        Level2::new,
+        Level3::new,
+        Level4::new,
+        Level5::new,
+        Level6::new,
+        Level7::new,
+        Level8::new,
+        Level9::new,
+        Level10::new
+    );
+
+    private LevelRegistry() {
+    }
+
+    public static int getLevelCount() {
+        return factories.size();
+    }
+
+    /**
+     * Build a level in its initial state.
+     *
+     * @param number Level number, from 1 to getLevelCount()
+     * @throws IllegalArgumentException If there is no such level
+     */
+    public static Level create(int number, Player player) {
+        if (number < 1 || number > factories.size()) {
+            throw new IllegalArgumentException("No level " + number + ", levels are 1 to " + factories.size());
+        }
+        return factories.get(number - 1).apply(player);
+    }
+}
@@ -0,0 +1,135 @@
+package com.lo3ba.levels;
+
+import com.lo3ba.gameobjects.Explosion;
+import com.lo3ba.gameobjects.MovingPlatform;
+
+import java.util.Arrays;
+
+/**
+ * Preallocated copy of a level's mutable state for one rendered frame.
+ * Written only by the game thread through Level.writeSnapshot(), then read
+ * only by the renderer once published. The level's object lists themselves
+ * are fixed after init(), so the snapshot keeps a reference to the level and
+ * copies just the state that changes from tick to tick.
+ */
+public class LevelSnapshot {
+    private Level level;
+
+    private double[] movingX = new double[0];
+    private double[] movingY = new double[0];
+    private double[] movingLastX = new double[0];
+    private double[] movingLastY = new double[0];
+    private boolean[] starCollected = new boolean[0];
+    private boolean[] checkpointActivated = new boolean[0];
+    private int[] checkpointFrame = new int[0];
+    private boolean[] bombCollected = new boolean[0];
+    private boolean[] wallDestroyed = new boolean[0];
+    private Explosion[] explosions = new Explosion[4];
+    private int[] explosionFrame = new int[4];
+    private int explosionCount = 0;
+    private boolean doorOpen = false;
+    private int layoutVersion = 0;
+
+    private int collectedStars = 0;
+    private int totalStars = 0;
+    private int stuckTimer = 0;
+
+    void capture(Level level) {
+        this.level = level;
+
+        int moving = level.movingPlatforms.size();
+        if (movingX.length < moving) {
+            movingX = new double[moving];
+            movingY = new double[moving];
+            movingLastX = new double[moving];
+            movingLastY = new double[moving];
+        }
+        for (int i = 0; i < moving; i++) {
+            MovingPlatform mp = level.movingPlatforms.get(i);
+            movingX[i] = mp.getExactX();
+            movingY[i] = mp.getExactY();
+            movingLastX[i] = mp.getLastTickX();
+            movingLastY[i] = mp.getLastTickY();
+        }
+
+        int starCount = level.stars.size();
+        if (starCollected.length < starCount) {
+            starCollected = new boolean[starCount];
+        }
+        for (int i = 0; i < starCount; i++) {
+            starCollected[i] = level.stars.get(i).isCollected();
+        }
+
+        int checkpointCount = level.checkpoints.size();
+        if (checkpointActivated.length < checkpointCount) {
+            checkpointActivated = new boolean[checkpointCount];
+            checkpointFrame = new int[checkpointCount];
+        }
+        for (int i = 0; i < checkpointCount; i++) {
+            checkpointActivated[i] = level.checkpoints.get(i).isActivated();
+            checkpointFrame[i] = level.checkpoints.get(i).getAnimationFrame();
+        }
+
+        int bombCount = level.bombs.size();
+        if (bombCollected.length < bombCount) {
+            bombCollected = new boolean[bombCount];
+        }
+        for (int i = 0; i < bombCount; i++) {
+            bombCollected[i] = level.bombs.get(i).isCollected();
+        }
+
+        int wallCount = level.breakableWalls.size();
+        if (wallDestroyed.length < wallCount) {
+            wallDestroyed = new boolean[wallCount];
+        }
+        for (int i = 0; i < wallCount; i++) {
+            wallDestroyed[i] = level.breakableWalls.get(i).isDestroyed();
+        }
+
+        explosionCount = level.explosions.size();
+        if (explosions.length < explosionCount) {
+            explosions = Arrays.copyOf(explosions, explosionCount * 2);
+            explosionFrame = Arrays.copyOf(explosionFrame, explosionCount * 2);
+        }
+        for (int i = 0; i < explosionCount; i++) {
+            explosions[i] = level.explosions.get(i);
+            explosionFrame[i] = explosions[i].getFrame();
+        }
+        // Drop references to explosions that finished since the last capture
+        Arrays.fill(explosions, explosionCount, explosions.length, null);
+
+        doorOpen = level.door != null && level.door.isOpen();
+        layoutVersion = level.getLayoutVersion();
+        collectedStars = level.getCollectedStars();
+        totalStars = level.getTotalStars();
+        stuckTimer = level.getStuckTimer();
+    }
+
+    public Level getLevel() { return level; }
+
+    /**
+     * Moving platform position interpolated between the last two ticks.
+     * @param alpha Fraction of a tick elapsed since the latest tick (0..1)
+     */
+    public int getMovingX(int i, double alpha) {
+        return (int) (movingLastX[i] + (movingX[i] - movingLastX[i]) * alpha);
+    }
+
+    public int getMovingY(int i, double alpha) {
+        return (int) (movingLastY[i] + (movingY[i] - movingLastY[i]) * alpha);
+    }
+
+    public boolean isStarCollected(int i) { return starCollected[i]; }
+    public boolean isCheckpointActivated(int i) { return checkpointActivated[i]; }
+    public int getCheckpointFrame(int i) { return checkpointFrame[i]; }
+    public boolean isBombCollected(int i) { return bombCollected[i]; }
+    public boolean isWallDestroyed(int i) { return wallDestroyed[i]; }
+    public int getExplosionCount() { return explosionCount; }
+    public Explosion getExplosion(int i) { return explosions[i]; }
+    public int getExplosionFrame(int i) { return explosionFrame[i]; }
+    public boolean isDoorOpen() { return doorOpen; }
+    int getLayoutVersion() { return layoutVersion; }
+    public int getCollectedStars() { return collectedStars; }
+    public int getTotalStars() { return totalStars; }
+    public int getStuckTimer() { return stuckTimer; }
+}
@@ -0,0 +1,144 @@
+package com.lo3ba.levels;
+
+import com.lo3ba.graphics.SpriteBatch;
+import com.lo3ba.graphics.TextureAtlas;
+import com.lo3ba.util.ScaleManager;
+
+import java.awt.*;
+import java.awt.image.VolatileImage;
+
+/**
+ * The parts of a level that don't move (platforms, spikes, the door and
+ * inactive checkpoints), drawn once at the current render scale into an
+ * accelerated image and blitted every frame.
+ *
+ * The layer is redrawn when it no longer matches what the frame shows: a
+ * different level or a fresh init(), the door opening, a checkpoint being
+ * activated or reset, or a new window scale. It is also redrawn when the
+ * VolatileImage loses its contents (e.g. on a display mode change).
+ * Activated checkpoints animate, so Level.render() draws those itself.
+ *
+ * Render thread only, like the Level.render() that owns it.
+ */
+class StaticLayerCache {
+    private VolatileImage image;
+    private final SpriteBatch batch = new SpriteBatch(TextureAtlas.getDefault());
+
+    // What the image currently shows
+    private Level level;
+    private int layoutVersion = -1;
+    private boolean doorOpen;
+    private boolean[] checkpointActivated = new boolean[0];
+    private double scaleX;
+    private double scaleY;
+
+    /**
+     * Blit the static layer of a level in unscaled screen coordinates,
+     * redrawing it first if the snapshot shows a change.
+     */
+    void render(Graphics2D g, Level level, LevelSnapshot snapshot) {
+        ScaleManager sm = ScaleManager.getInstance();
+        double sx = sm.getRenderScaleX();
+        double sy = sm.getRenderScaleY();
+        int width = (int) Math.ceil(ScaleManager.BASE_WIDTH * sx);
+        int height = (int) Math.ceil(ScaleManager.BASE_HEIGHT * sy);
+        GraphicsConfiguration gc = g.getDeviceConfiguration();
+
+        boolean stale = isStale(level, snapshot, sx, sy);
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = createImage(gc, width, height);
+            stale = true;
+            if (image == null) {
+                drawLayer(g, level, snapshot, sx, sy); // No accelerated image, draw as before
+                return;
+            }
+        }
+
+        while (true) {
+            int status = image.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                image = createImage(gc, width, height);
+                if (image == null) {
+                    drawLayer(g, level, snapshot, sx, sy);
+                    return;
+                }
+                stale = true;
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                stale = true;
+            }
+
+            if (stale) {
+                Graphics2D layer = image.createGraphics();
+                layer.setComposite(AlphaComposite.Clear);
+                layer.fillRect(0, 0, width, height);
+                layer.setComposite(AlphaComposite.SrcOver);
+                layer.setRenderingHints(g.getRenderingHints());
+                drawLayer(layer, level, snapshot, sx, sy);
+                layer.dispose();
+                remember(level, snapshot, sx, sy);
+                stale = false;
+            }
+            g.drawImage(image, 0, 0, null);
+            if (!image.contentsLost()) break;
+            stale = true; // Lost while drawing, draw it again
+        }
+    }
+
+    private static VolatileImage createImage(GraphicsConfiguration gc, int width, int height) {
+        if (gc == null) return null;
+        try {
+            return gc.createCompatibleVolatileImage(width, height, Transparency.TRANSLUCENT);
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private boolean isStale(Level level, LevelSnapshot snapshot, double sx, double sy) {
+        if (level != this.level || snapshot.getLayoutVersion() != layoutVersion
+                || snapshot.isDoorOpen() != doorOpen || sx != scaleX || sy != scaleY) {
+            return true;
+        }
+        for (int i = 0; i < level.checkpoints.size(); i++) {
+            if (snapshot.isCheckpointActivated(i) != checkpointActivated[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void remember(Level level, LevelSnapshot snapshot, double sx, double sy) {
+        this.level = level;
+        layoutVersion = snapshot.getLayoutVersion();
+        doorOpen = snapshot.isDoorOpen();
+        scaleX = sx;
+        scaleY = sy;
+        int count = level.checkpoints.size();
+        if (checkpointActivated.length < count) {
+            checkpointActivated = new boolean[count];
+        }
+        for (int i = 0; i < count; i++) {
+            checkpointActivated[i] = snapshot.isCheckpointActivated(i);
+        }
+    }
+
+    private void drawLayer(Graphics2D g, Level level, LevelSnapshot snapshot, double sx, double sy) {
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.scale(sx, sy);
+        for (int i = 0; i < level.platforms.size(); i++) {
+            level.platforms.get(i).render(batch, 0);
+        }
+        for (int i = 0; i < level.spikes.size(); i++) {
+            level.spikes.get(i).render(batch, 1);
+        }
+        batch.flush(g2d);
+        for (int i = 0; i < level.checkpoints.size(); i++) {
+            if (!snapshot.isCheckpointActivated(i)) {
+                level.checkpoints.get(i).render(g2d, false, 0);
+            }
+        }
+        if (level.door != null) {
+            level.door.render(g2d, snapshot.isDoorOpen());
+        }
+        g2d.dispose();
+    }
+}
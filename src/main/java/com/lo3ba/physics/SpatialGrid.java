@@ -0,0 +1,189 @@
+package com.lo3ba.physics;
+
+import java.awt.Rectangle;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable uniform grid over static level objects.
+ * Built once from a fixed list of objects; each object is registered in every
+ * cell its bounds touch. Queries only visit the cells under the query area,
+ * so their cost depends on what is nearby rather than on level size.
+ *
+ * Cells are stored flat (one offset array plus one index array) and queries
+ * allocate nothing. An object spanning several cells is still reported once
+ * per query: only from the cell holding the top-left corner of its overlap
+ * with the query area.
+ *
+ * Bounds are captured at build time, so only index objects that never move.
+ *
+ * @param <T> Indexed object type
+ */
+public final class SpatialGrid<T> {
+    /** Default cell size: a bit larger than the player, about one tile. */
+    public static final int DEFAULT_CELL_SIZE = 64;
+
+    private final int cellSize;
+    private final int originColumn, originRow; // Cell coordinates of cell (0, 0)
+    private final int columns, rows;
+    private final int[] cellStart;  // Offsets into cellItems, one per cell plus an end marker
+    private final int[] cellItems;  // Item indices, grouped by cell
+    private final Object[] items;
+    private final int[] minX, minY, maxX, maxY; // Inclusive item bounds
+
+    private SpatialGrid(int cellSize, int originColumn, int originRow, int columns, int rows,
+                        int[] cellStart, int[] cellItems, Object[] items,
+                        int[] minX, int[] minY, int[] maxX, int[] maxY) {
+        this.cellSize = cellSize;
+        this.originColumn = originColumn;
+        this.originRow = originRow;
+        this.columns = columns;
+        this.rows = rows;
+        this.cellStart = cellStart;
+        this.cellItems = cellItems;
+        this.items = items;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    /**
+     * Grid with no objects; every query is empty.
+     */
+    public static <T> SpatialGrid<T> empty() {
+        return build(List.of(), t -> null, DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Index a list of objects by their current bounds.
+     *
+     * @param objects Objects to index; item indices follow this list's order
+     * @param bounds Bounds of each object (read once, at build time)
+     * @param cellSize Cell edge length in pixels
+     */
+    public static <T> SpatialGrid<T> build(List<? extends T> objects, Function<? super T, Rectangle> bounds,
+                                           int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize must be positive: " + cellSize);
+        }
+        int count = objects.size();
+        Object[] items = objects.toArray();
+        int[] minX = new int[count];
+        int[] minY = new int[count];
+        int[] maxX = new int[count];
+        int[] maxY = new int[count];
+
+        int firstColumn = Integer.MAX_VALUE, firstRow = Integer.MAX_VALUE;
+        int lastColumn = Integer.MIN_VALUE, lastRow = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            Rectangle r = bounds.apply(objects.get(i));
+            minX[i] = r.x;
+            minY[i] = r.y;
+            maxX[i] = r.x + r.width;
+            maxY[i] = r.y + r.height;
+            firstColumn = Math.min(firstColumn, Math.floorDiv(minX[i], cellSize));
+            firstRow = Math.min(firstRow, Math.floorDiv(minY[i], cellSize));
+            lastColumn = Math.max(lastColumn, Math.floorDiv(maxX[i], cellSize));
+            lastRow = Math.max(lastRow, Math.floorDiv(maxY[i], cellSize));
+        }
+        if (count == 0) {
+            firstColumn = firstRow = 0;
+            lastColumn = lastRow = -1;
+        }
+
+        int columns = lastColumn - firstColumn + 1;
+        int rows = lastRow - firstRow + 1;
+        int[] cellStart = new int[columns * rows + 1];
+
+        // Counting pass: cellStart[cell + 1] = number of items in cell
+        for (int i = 0; i < count; i++) {
+            for (int row = Math.floorDiv(minY[i], cellSize); row <= Math.floorDiv(maxY[i], cellSize); row++) {
+                for (int col = Math.floorDiv(minX[i], cellSize); col <= Math.floorDiv(maxX[i], cellSize); col++) {
+                    cellStart[(row - firstRow) * columns + (col - firstColumn) + 1]++;
+                }
+            }
+        }
+        for (int cell = 0; cell < columns * rows; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+
+        // Fill pass, in item order so each cell lists items by ascending index
+        int[] cellItems = new int[cellStart[columns * rows]];
+        int[] fill = new int[columns * rows];
+        for (int i = 0; i < count; i++) {
+            for (int row = Math.floorDiv(minY[i], cellSize); row <= Math.floorDiv(maxY[i], cellSize); row++) {
+                for (int col = Math.floorDiv(minX[i], cellSize); col <= Math.floorDiv(maxX[i], cellSize); col++) {
+                    int cell = (row - firstRow) * columns + (col - firstColumn);
+                    cellItems[cellStart[cell] + fill[cell]++] = i;
+                }
+            }
+        }
+
+        return new SpatialGrid<>(cellSize, firstColumn, firstRow, columns, rows,
+                                 cellStart, cellItems, items, minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Report every object whose bounds overlap or touch the area.
+     * Results are a superset of Rectangle.intersects(); callers apply their
+     * exact test. Allocation-free.
+     */
+    public void query(Rectangle area, Consumer<? super T> consumer) {
+        visit(area, consumer, null);
+    }
+
+    /**
+     * Like query(), but reports item indices (positions in the list the grid
+     * was built from). Useful when the lowest-index hit must win, as with a
+     * linear scan that breaks on the first match.
+     */
+    public void queryIndices(Rectangle area, IntConsumer consumer) {
+        visit(area, null, consumer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void visit(Rectangle area, Consumer<? super T> consumer, IntConsumer indexConsumer) {
+        if (columns <= 0 || rows <= 0) return;
+
+        int qMinX = area.x, qMinY = area.y;
+        int qMaxX = area.x + area.width, qMaxY = area.y + area.height;
+        int firstCol = Math.max(0, Math.floorDiv(qMinX, cellSize) - originColumn);
+        int firstRow = Math.max(0, Math.floorDiv(qMinY, cellSize) - originRow);
+        int lastCol = Math.min(columns - 1, Math.floorDiv(qMaxX, cellSize) - originColumn);
+        int lastRow = Math.min(rows - 1, Math.floorDiv(qMaxY, cellSize) - originRow);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int cell = row * columns + col;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    int i = cellItems[k];
+                    if (minX[i] > qMaxX || maxX[i] < qMinX || minY[i] > qMaxY || maxY[i] < qMinY) {
+                        continue;
+                    }
+                    // Report only from the cell holding the overlap's top-left corner
+                    int refCol = Math.floorDiv(Math.max(minX[i], qMinX), cellSize) - originColumn;
+                    int refRow = Math.floorDiv(Math.max(minY[i], qMinY), cellSize) - originRow;
+                    if (refCol != col || refRow != row) {
+                        continue;
+                    }
+                    if (consumer != null) {
+                        consumer.accept((T) items[i]);
+                    } else {
+                        indexConsumer.accept(i);
+                    }
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+}
@@ -0,0 +1,226 @@
+package com.lo3ba.physics;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Incremental sort-and-sweep broadphase on the X axis for objects that move
+ * every tick (moving platforms, projectiles, ...).
+ *
+ * Bodies are kept sorted by their left edge. Objects barely move between
+ * ticks, so update() re-sorts with an insertion sort, which is close to
+ * linear on nearly sorted data. Candidate pairs then come from one sweep over
+ * the sorted list, O(n + k) for k overlaps on X, and a single area can be
+ * probed with a binary search plus the bodies it overlaps.
+ *
+ * Bodies are identified by int handles, which stay valid until removed.
+ * Nothing allocates after the arrays have grown to the peak body count.
+ * Game thread only.
+ *
+ * @param <T> Body type
+ */
+public final class SweepAndPrune<T> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Function<? super T, Rectangle> boundsOf;
+
+    // Per handle
+    private Object[] bodies = new Object[INITIAL_CAPACITY];
+    private int[] minX = new int[INITIAL_CAPACITY];
+    private int[] minY = new int[INITIAL_CAPACITY];
+    private int[] maxX = new int[INITIAL_CAPACITY];
+    private int[] maxY = new int[INITIAL_CAPACITY];
+    private int handleCount = 0;     // Handles ever issued (high-water mark)
+    private int[] freeHandles = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+
+    // Live handles, sorted by minX
+    private int[] order = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    private int maxWidth = 0; // Widest body, bounds how far left a query must look
+
+    /**
+     * @param boundsOf Current bounds of a body; read on add() and every update()
+     */
+    public SweepAndPrune(Function<? super T, Rectangle> boundsOf) {
+        this.boundsOf = boundsOf;
+    }
+
+    /**
+     * Add a body and return its handle.
+     */
+    public int add(T body) {
+        int handle;
+        if (freeCount > 0) {
+            handle = freeHandles[--freeCount];
+        } else {
+            if (handleCount == bodies.length) {
+                grow(handleCount * 2);
+            }
+            handle = handleCount++;
+        }
+        bodies[handle] = body;
+        readBounds(handle);
+        maxWidth = Math.max(maxWidth, maxX[handle] - minX[handle]);
+
+        // Insert into the sorted order
+        if (size == order.length) {
+            order = Arrays.copyOf(order, size * 2);
+        }
+        int i = size++;
+        while (i > 0 && minX[order[i - 1]] > minX[handle]) {
+            order[i] = order[i - 1];
+            i--;
+        }
+        order[i] = handle;
+        return handle;
+    }
+
+    /**
+     * Remove a body by handle. The handle may be reused by a later add().
+     */
+    public void remove(int handle) {
+        if (handle < 0 || handle >= handleCount || bodies[handle] == null) {
+            throw new IllegalArgumentException("Unknown handle: " + handle);
+        }
+        int i = 0;
+        while (order[i] != handle) {
+            i++;
+        }
+        System.arraycopy(order, i + 1, order, i, size - i - 1);
+        size--;
+        bodies[handle] = null;
+        if (freeCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeCount * 2);
+        }
+        freeHandles[freeCount++] = handle;
+    }
+
+    /**
+     * Remove all bodies.
+     */
+    public void clear() {
+        Arrays.fill(bodies, 0, handleCount, null);
+        handleCount = 0;
+        freeCount = 0;
+        size = 0;
+        maxWidth = 0;
+    }
+
+    /**
+     * Re-read every body's bounds and restore the sort order.
+     * Call once per tick after the bodies have moved.
+     */
+    public void update() {
+        maxWidth = 0;
+        for (int i = 0; i < size; i++) {
+            int handle = order[i];
+            readBounds(handle);
+            maxWidth = Math.max(maxWidth, maxX[handle] - minX[handle]);
+        }
+
+        // Insertion sort: near O(n) when bodies moved only a little
+        for (int i = 1; i < size; i++) {
+            int handle = order[i];
+            int key = minX[handle];
+            int j = i - 1;
+            while (j >= 0 && minX[order[j]] > key) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = handle;
+        }
+    }
+
+    /**
+     * Report every pair of bodies whose bounds overlap or touch, as of the
+     * last update(). Each pair is reported once, in sweep order.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachPair(BiConsumer<? super T, ? super T> consumer) {
+        for (int i = 0; i < size; i++) {
+            int a = order[i];
+            for (int j = i + 1; j < size && minX[order[j]] <= maxX[a]; j++) {
+                int b = order[j];
+                if (minY[b] <= maxY[a] && minY[a] <= maxY[b]) {
+                    consumer.accept((T) bodies[a], (T) bodies[b]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Report every body whose bounds overlap or touch the area, as of the last update().
+     */
+    @SuppressWarnings("unchecked")
+    public void query(Rectangle area, Consumer<? super T> consumer) {
+        int first = firstCandidate(area.x - maxWidth);
+        for (int i = first; i < size && minX[order[i]] <= area.x + area.width; i++) {
+            int handle = order[i];
+            if (overlaps(handle, area)) {
+                consumer.accept((T) bodies[handle]);
+            }
+        }
+    }
+
+    /**
+     * Like query(), but reports handles.
+     */
+    public void queryHandles(Rectangle area, IntConsumer consumer) {
+        int first = firstCandidate(area.x - maxWidth);
+        for (int i = first; i < size && minX[order[i]] <= area.x + area.width; i++) {
+            int handle = order[i];
+            if (overlaps(handle, area)) {
+                consumer.accept(handle);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int handle) {
+        return (T) bodies[handle];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private boolean overlaps(int handle, Rectangle area) {
+        return maxX[handle] >= area.x && minY[handle] <= area.y + area.height && maxY[handle] >= area.y;
+    }
+
+    // Index in order of the first body with minX >= x
+    private int firstCandidate(int x) {
+        int low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (minX[order[mid]] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readBounds(int handle) {
+        Rectangle r = boundsOf.apply((T) bodies[handle]);
+        minX[handle] = r.x;
+        minY[handle] = r.y;
+        maxX[handle] = r.x + r.width;
+        maxY[handle] = r.y + r.height;
+    }
+
+    private void grow(int capacity) {
+        bodies = Arrays.copyOf(bodies, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+    }
+}
@@ -1,13 +1,14 @@
 package com.lo3ba.ui;
 
 import com.lo3ba.gameobjects.Avatar;
-import com.lo3ba.util.ResourceManager;
+import com.lo3ba.util.AssetPreloader;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
 
 public class AvatarSelectScreen extends JPanel {
     private Avatar[] avatars;
@@ -319,8 +320,15 @@ public void hide() {
             setOpaque(false);
             setCursor(new Cursor(Cursor.HAND_CURSOR));
             
-            // Load avatar sprite
-            avatarSprite = ResourceManager.loadTexture(avatar.getSpriteFile());
+            // Load avatar sprite; a placeholder is drawn until it is decoded
+            CompletableFuture<BufferedImage> sprite = AssetPreloader.getInstance().texture(avatar.getSpriteFile());
+            avatarSprite = sprite.getNow(null);
+            if (avatarSprite == null) {
+                sprite.thenAccept(image -> SwingUtilities.invokeLater(() -> {
+                    avatarSprite = image;
+                    repaint();
+                }));
+            }
         }
 
         public void setSelected(boolean selected) {
@@ -362,12 +370,15 @@ public void hide() {
             }
             g2d.drawRoundRect(5, 5, w - 10, h - 10, 20, 20);
 
-            // Draw avatar sprite (scaled)
+            // Draw avatar sprite (scaled), or its placeholder while it loads
+            int spriteSize = 100;
+            int spriteX = (w - spriteSize) / 2;
+            int spriteY = 40;
             if (avatarSprite != null) {
-                int spriteSize = 100;
-                int spriteX = (w - spriteSize) / 2;
-                int spriteY = 40;
                 g2d.drawImage(avatarSprite, spriteX, spriteY, spriteSize, spriteSize, null);
+            } else {
+                g2d.setColor(new Color(255, 255, 255, 40));
+                g2d.fillRoundRect(spriteX, spriteY, spriteSize, spriteSize, 12, 12);
             }
 
             // Avatar name
@@ -1,10 +1,12 @@
 package com.lo3ba.ui;
 
+import com.lo3ba.audio.AudioEngine;
+import com.lo3ba.util.ResourceManager;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -49,26 +51,18 @@ public class FinalVictoryScreen extends JPanel {
         if (visible) {
             if (animationTimer != null) animationTimer.start();
             
-            // Play victory music
-            try {
-                javax.sound.sampled.Clip clip = com.lo3ba.util.ResourceManager.loadSound("victory_music.wav");
-                if (clip != null) {
-                    clip.setFramePosition(0);
-                    clip.start();
-                }
-            } catch (Exception e) {
-                System.err.println("Failed to play victory music");
-            }
+            // Play victory music, looping until the screen closes
+            AudioEngine.getInstance().playMusic("victory_music.wav", true, AudioEngine.MUSIC_FADE_MILLIS);
         } else {
             if (animationTimer != null) animationTimer.stop();
+            AudioEngine.getInstance().stopMusic(AudioEngine.MUSIC_FADE_MILLIS);
         }
     }
 
     private void loadFonts() {
         try {
-            InputStream is = getClass().getResourceAsStream("/fonts/PressStart2P-Regular.ttf");
-            if (is != null) {
-                Font baseFont = Font.createFont(Font.TRUETYPE_FONT, is);
+            Font baseFont = ResourceManager.loadBaseFont("PressStart2P-Regular.ttf");
+            if (baseFont != null) {
                 retroFont = baseFont.deriveFont(16f);
                 titleFont = baseFont.deriveFont(48f);
             } else {
@@ -1,11 +1,11 @@
 package com.lo3ba.ui;
 
+import com.lo3ba.util.ResourceManager;
 import com.lo3ba.util.ScaleManager;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.io.InputStream;
 
 public class GameUI extends JPanel {
     private JButton replayButton;
@@ -127,9 +127,9 @@ public class GameUI extends JPanel {
 
         // Load retro font
         try {
-            InputStream is = GameUI.class.getResourceAsStream("/fonts/PressStart2P-Regular.ttf");
-            if (is != null) {
-                Font retroFont = Font.createFont(Font.TRUETYPE_FONT, is).deriveFont(18f);
+            Font baseFont = ResourceManager.loadBaseFont("PressStart2P-Regular.ttf");
+            if (baseFont != null) {
+                Font retroFont = baseFont.deriveFont(18f);
                 button.setFont(retroFont);
             } else {
                 button.setFont(new Font("Monospaced", Font.BOLD, 18));
@@ -1,11 +1,12 @@
 package com.lo3ba.ui;
 
+import com.lo3ba.util.ResourceManager;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.geom.*;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -74,9 +75,8 @@ public class LevelSelectScreen extends JPanel {
 
     private void loadFonts() {
         try {
-            InputStream is = getClass().getResourceAsStream("/fonts/PressStart2P-Regular.ttf");
-            if (is != null) {
-                Font baseFont = Font.createFont(Font.TRUETYPE_FONT, is);
+            Font baseFont = ResourceManager.loadBaseFont("PressStart2P-Regular.ttf");
+            if (baseFont != null) {
                 retroFont = baseFont.deriveFont(16f);
                 titleFont = baseFont.deriveFont(48f);
             } else {
@@ -1,12 +1,13 @@
 package com.lo3ba.ui;
 
+import com.lo3ba.audio.AudioEngine;
 import com.lo3ba.gameobjects.Avatar;
+import com.lo3ba.util.ResourceManager;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.io.InputStream;
 
 public class LevelVictoryScreen extends JPanel {
     private Font retroFont;
@@ -59,17 +60,10 @@ public class LevelVictoryScreen extends JPanel {
             if (animationTimer != null) animationTimer.start();
             
             // Play level complete sound
-            try {
-                javax.sound.sampled.Clip clip = com.lo3ba.util.ResourceManager.loadSound("level_complete.wav");
-                if (clip != null) {
-                    clip.setFramePosition(0);
-                    clip.start();
-                }
-            } catch (Exception e) {
-                System.err.println("Failed to play level complete sound");
-            }
+            AudioEngine.getInstance().playMusic("level_complete.wav", false, AudioEngine.MUSIC_FADE_MILLIS);
         } else {
             if (animationTimer != null) animationTimer.stop();
+            AudioEngine.getInstance().stopMusic(AudioEngine.MUSIC_FADE_MILLIS);
         }
     }
 
@@ -82,9 +76,8 @@ public class LevelVictoryScreen extends JPanel {
 
     private void loadFonts() {
         try {
-            InputStream is = getClass().getResourceAsStream("/fonts/PressStart2P-Regular.ttf");
-            if (is != null) {
-                Font baseFont = Font.createFont(Font.TRUETYPE_FONT, is);
+            Font baseFont = ResourceManager.loadBaseFont("PressStart2P-Regular.ttf");
+            if (baseFont != null) {
                 retroFont = baseFont.deriveFont(16f);
                 titleFont = baseFont.deriveFont(32f);
             } else {
@@ -0,0 +1,62 @@
+package com.lo3ba.ui;
+
+import com.lo3ba.util.AssetPreloader;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Shown at startup until the main menu's font is loaded: a progress bar
+ * and a count of the assets AssetPreloader has decoded. Drawn with a
+ * logical font, since the game's own font is still loading.
+ */
+public class LoadingScreen extends JPanel {
+    private static final int BAR_WIDTH = 400;
+    private static final int BAR_HEIGHT = 20;
+
+    private final AssetPreloader preloader;
+    private final Font font = new Font("Monospaced", Font.BOLD, 16);
+    private final Timer repaintTimer;
+
+    public LoadingScreen(AssetPreloader preloader) {
+        this.preloader = preloader;
+        setBackground(new Color(20, 20, 40));
+        repaintTimer = new Timer(50, e -> repaint());
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        repaintTimer.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        super.removeNotify();
+        repaintTimer.stop();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        int barWidth = Math.min(BAR_WIDTH, getWidth() - 40);
+        int x = (getWidth() - barWidth) / 2;
+        int y = getHeight() / 2;
+
+        g2d.setColor(new Color(60, 60, 90));
+        g2d.fillRect(x, y, barWidth, BAR_HEIGHT);
+        g2d.setColor(new Color(255, 200, 0));
+        g2d.fillRect(x, y, Math.round(barWidth * preloader.getProgress()), BAR_HEIGHT);
+        g2d.setColor(Color.WHITE);
+        g2d.drawRect(x, y, barWidth, BAR_HEIGHT);
+
+        String text = "LOADING " + preloader.getLoadedCount() + " / " + preloader.getTotalCount();
+        g2d.setFont(font);
+        FontMetrics fm = g2d.getFontMetrics();
+        g2d.drawString(text, (getWidth() - fm.stringWidth(text)) / 2, y - fm.getDescent() - 10);
+        g2d.dispose();
+    }
+}
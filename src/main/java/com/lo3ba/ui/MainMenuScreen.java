@@ -1,11 +1,13 @@
 package com.lo3ba.ui;
 
+import com.lo3ba.util.ResourceManager;
+import com.lo3ba.util.StartupTimeline;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.geom.*;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -69,9 +71,8 @@ public class MainMenuScreen extends JPanel {
 
     private void loadFonts() {
         try {
-            InputStream is = getClass().getResourceAsStream("/fonts/PressStart2P-Regular.ttf");
-            if (is != null) {
-                Font baseFont = Font.createFont(Font.TRUETYPE_FONT, is);
+            Font baseFont = ResourceManager.loadBaseFont("PressStart2P-Regular.ttf");
+            if (baseFont != null) {
                 retroFont = baseFont.deriveFont(16f);
                 titleFont = baseFont.deriveFont(56f);
             } else {
@@ -269,6 +270,7 @@ public class MainMenuScreen extends JPanel {
         g2d.drawString(footer, (getWidth() - fm.stringWidth(footer)) / 2, getHeight() - 20);
 
         g2d.dispose();
+        StartupTimeline.mark(StartupTimeline.Milestone.FIRST_MENU_FRAME);
     }
 
     private void drawTitle(Graphics2D g2d) {
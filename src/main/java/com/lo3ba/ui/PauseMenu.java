@@ -1,11 +1,11 @@
 package com.lo3ba.ui;
 
+import com.lo3ba.util.ResourceManager;
 import com.lo3ba.util.ScaleManager;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.io.InputStream;
 
 /**
  * Professional pause menu overlay for the game
@@ -102,9 +102,9 @@ public class PauseMenu extends JPanel {
             // Load retro font for title
             Font titleFont;
             try {
-                InputStream is = getClass().getResourceAsStream("/fonts/PressStart2P-Regular.ttf");
-                if (is != null) {
-                    titleFont = Font.createFont(Font.TRUETYPE_FONT, is).deriveFont(48f);
+                Font baseFont = ResourceManager.loadBaseFont("PressStart2P-Regular.ttf");
+                if (baseFont != null) {
+                    titleFont = baseFont.deriveFont(48f);
                 } else {
                     titleFont = new Font("Monospaced", Font.BOLD, 48);
                 }
@@ -196,9 +196,9 @@ public class PauseMenu extends JPanel {
         };
 
         try {
-            InputStream is = getClass().getResourceAsStream("/fonts/PressStart2P-Regular.ttf");
-            if (is != null) {
-                Font retroFont = Font.createFont(Font.TRUETYPE_FONT, is).deriveFont(18f);
+            Font baseFont = ResourceManager.loadBaseFont("PressStart2P-Regular.ttf");
+            if (baseFont != null) {
+                Font retroFont = baseFont.deriveFont(18f);
                 button.setFont(retroFont);
             } else {
                 button.setFont(new Font("Monospaced", Font.BOLD, 18));
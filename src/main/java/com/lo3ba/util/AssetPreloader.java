@@ -0,0 +1,233 @@
+package com.lo3ba.util;
+
+import com.lo3ba.audio.AudioEngine;
+
+import java.awt.Font;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes the textures, sounds and fonts listed in assets/manifest.txt in
+ * parallel, into the caches of ResourceManager and AudioEngine, so that
+ * the classes that load them later (Platform and Spike in their static
+ * initializers, Player, the UI screens) find them already decoded instead
+ * of reading files on the EDT or the game thread.
+ *
+ * start() returns at once; the loads run on a pool of "Asset loader"
+ * threads, and the returned future completes when all are done. Callers
+ * that need one asset sooner wait on its own future instead: texture()
+ * and font() hand those out, so a screen can draw a placeholder until its
+ * image arrives. A load that fails is logged and counted as done, with
+ * ResourceManager's usual fallback in the cache.
+ *
+ * The pool is a fork-join pool sized to the cores rather than virtual
+ * threads: decoding PNG, WAV and TTF is CPU-bound, so threads beyond the
+ * core count would only take turns on the same cores.
+ */
+public final class AssetPreloader {
+    public static final String MANIFEST = "assets/manifest.txt";
+
+    private static final AssetPreloader instance = new AssetPreloader(MANIFEST);
+
+    enum Kind { TEXTURE, SOUND, FONT }
+
+    /**
+     * One line of the manifest.
+     */
+    static final class Entry {
+        final Kind kind;
+        final String file;
+
+        Entry(Kind kind, String file) {
+            this.kind = kind;
+            this.file = file;
+        }
+    }
+
+    private final String manifest;
+    // Texture loads in flight only; a decoded texture is held by TextureCache
+    // alone, so that evicting it there frees it
+    private final Map<String, CompletableFuture<BufferedImage>> textures = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Font>> fonts = new ConcurrentHashMap<>();
+    private final AtomicInteger loaded = new AtomicInteger();
+    private volatile int total = 0;
+    private ForkJoinPool pool;            // Guarded by this
+    private CompletableFuture<Void> done; // Guarded by this
+
+    AssetPreloader(String manifest) {
+        this.manifest = manifest;
+    }
+
+    public static AssetPreloader getInstance() {
+        return instance;
+    }
+
+    /**
+     * Start loading everything in the manifest. Later calls return the
+     * same future.
+     *
+     * @return Future completed when every asset has been loaded or has failed
+     */
+    public synchronized CompletableFuture<Void> start() {
+        if (done != null) {
+            return done;
+        }
+
+        long startTime = System.nanoTime();
+        List<Entry> entries = readManifest(manifest);
+        total = entries.size();
+        pool = createPool();
+
+        CompletableFuture<?>[] loads = new CompletableFuture<?>[entries.size()];
+        for (int i = 0; i < loads.length; i++) {
+            Entry entry = entries.get(i);
+            CompletableFuture<?> load;
+            if (entry.kind == Kind.TEXTURE) {
+                load = loadTexture(entry.file, pool);
+            } else if (entry.kind == Kind.FONT) {
+                load = fonts.computeIfAbsent(entry.file, f ->
+                    CompletableFuture.supplyAsync(() -> ResourceManager.loadBaseFont(f), pool));
+            } else {
+                load = CompletableFuture.runAsync(() -> AudioEngine.preload(entry.file), pool);
+            }
+            loads[i] = load.handle((result, error) -> {
+                if (error != null) {
+                    System.err.println("⚠️ Error preloading " + entry.file + " (" + error.getMessage() + ")");
+                }
+                loaded.incrementAndGet();
+                return null;
+            });
+        }
+
+        done = CompletableFuture.allOf(loads).thenRun(() ->
+            System.out.printf("✓ Preloaded %d assets on %d threads in %.1f ms%n", total,
+                              pool.getParallelism(), (System.nanoTime() - startTime) / 1_000_000.0));
+        return done;
+    }
+
+    /**
+     * A texture from the manifest, or any other texture, loaded on the
+     * pool. A texture already cached, or any texture until start() is
+     * called, is loaded on the calling thread instead.
+     */
+    public CompletableFuture<BufferedImage> texture(String filename) {
+        CompletableFuture<BufferedImage> pending = textures.get(filename);
+        if (pending != null) {
+            return pending;
+        }
+        ForkJoinPool loaders = getPool(); // Not inside computeIfAbsent, which start() calls holding the lock
+        if (loaders == null || ResourceManager.getTextureCache().contains(filename)) {
+            return CompletableFuture.completedFuture(ResourceManager.loadTexture(filename));
+        }
+        return loadTexture(filename, loaders);
+    }
+
+    /**
+     * A font from the manifest, parsed at size 1 (see
+     * ResourceManager.loadBaseFont()); null if it failed to load. Fonts not
+     * in the manifest are loaded on the calling thread.
+     */
+    public CompletableFuture<Font> font(String filename) {
+        CompletableFuture<Font> pending = fonts.get(filename);
+        if (pending != null) {
+            return pending;
+        }
+        return CompletableFuture.completedFuture(ResourceManager.loadBaseFont(filename));
+    }
+
+    /**
+     * Fraction of the manifest loaded so far, from 0 to 1.
+     */
+    public float getProgress() {
+        int count = total;
+        return count == 0 ? (done != null ? 1f : 0f) : Math.min(1f, (float) loaded.get() / count);
+    }
+
+    public int getLoadedCount() {
+        return loaded.get();
+    }
+
+    public int getTotalCount() {
+        return total;
+    }
+
+    private synchronized ForkJoinPool getPool() {
+        return pool;
+    }
+
+    private CompletableFuture<BufferedImage> loadTexture(String filename, ForkJoinPool loaders) {
+        CompletableFuture<BufferedImage> load = textures.computeIfAbsent(filename, f ->
+            CompletableFuture.supplyAsync(() -> ResourceManager.loadTexture(f), loaders));
+        load.whenComplete((image, error) -> textures.remove(filename, load));
+        return load;
+    }
+
+    /**
+     * A pool with a thread per core, at least two so that a slow file does
+     * not hold up the rest. Its threads are daemons and exit when idle.
+     */
+    private static ForkJoinPool createPool() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        return new ForkJoinPool(threads, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("Asset loader " + thread.getPoolIndex());
+            return thread;
+        }, null, true);
+    }
+
+    private static List<Entry> readManifest(String path) {
+        InputStream is = AssetPreloader.class.getClassLoader().getResourceAsStream(path);
+        if (is == null) {
+            System.err.println("⚠️ Asset manifest not found in resources: " + path);
+            return new ArrayList<>();
+        }
+        try (Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+            return parseManifest(reader);
+        } catch (IOException e) {
+            System.err.println("⚠️ Error reading asset manifest: " + path + " (" + e.getMessage() + ")");
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Parse manifest lines of the form "kind file". Blank lines and lines
+     * starting with # are skipped, as are lines of an unknown kind.
+     */
+    static List<Entry> parseManifest(Reader reader) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\\s+", 2);
+            Kind kind;
+            try {
+                kind = Kind.valueOf(fields[0].toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                kind = null;
+            }
+            if (kind == null || fields.length < 2) {
+                System.err.println("⚠️ Skipping asset manifest line: " + line);
+                continue;
+            }
+            entries.add(new Entry(kind, fields[1]));
+        }
+        return entries;
+    }
+}
@@ -4,6 +4,7 @@ import javax.imageio.ImageIO;
 import javax.sound.sampled.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
@@ -13,6 +14,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * Centralized resource management for loading game assets.
  * Provides consistent resource loading with proper error handling and fallbacks.
  * Implements caching to avoid redundant loading of the same resources.
+ * Textures are converted once, on load, to the pixel format of the screen
+ * (see toCompatibleImage()), so drawing them needs no conversion.
+ * The texture cache is bounded by a budget of heap bytes; see TextureCache.
  * 
  * @author Lo3ba Team
  * @version 2.0
@@ -23,8 +27,15 @@ public class ResourceManager {
     private static final String FONT_PATH = "fonts/";
     
     // Thread-safe caches for resources
-    private static final Map<String, BufferedImage> textureCache = new ConcurrentHashMap<>();
+    private static final TextureCache textureCache = TextureCache.fromSystemProperty();
     private static final Map<String, Font> fontCache = new ConcurrentHashMap<>();
+    private static final Map<String, Font> baseFontCache = new ConcurrentHashMap<>();
+    
+    static {
+        // Decode images from memory; by default ImageIO spools every stream
+        // to a temporary file first
+        ImageIO.setUseCache(false);
+    }
     
     /**
      * Loads a texture from the resources folder.
@@ -37,7 +48,6 @@ public class ResourceManager {
         // Check cache first
         BufferedImage cached = textureCache.get(filename);
         if (cached != null) {
-            System.out.println("✓ Using cached texture: " + filename);
             return cached;
         }
         
@@ -49,30 +59,109 @@ public class ResourceManager {
             if (is == null) {
                 System.err.println("⚠️ Texture not found in resources: " + TEXTURE_PATH + filename);
                 BufferedImage fallback = createFallbackTexture(filename);
-                textureCache.put(filename, fallback); // Cache fallback too
-                return fallback;
+                return textureCache.put(filename, fallback); // Cache fallback too
             }
             
             BufferedImage image = ImageIO.read(is);
             if (image == null) {
                 System.err.println("⚠️ Failed to decode texture: " + filename);
                 BufferedImage fallback = createFallbackTexture(filename);
-                textureCache.put(filename, fallback);
-                return fallback;
+                return textureCache.put(filename, fallback);
             }
             
-            // Cache the loaded image
-            textureCache.put(filename, image);
+            // Cache the loaded image, in the screen's format
+            image = toCompatibleImage(image);
             System.out.println("✓ Loaded and cached texture: " + filename);
-            return image;
+            return textureCache.put(filename, image);
             
         } catch (IOException e) {
             System.err.println("⚠️ Error loading texture: " + filename);
             e.printStackTrace();
             BufferedImage fallback = createFallbackTexture(filename);
-            textureCache.put(filename, fallback);
-            return fallback;
+            return textureCache.put(filename, fallback);
+        }
+    }
+    
+    /**
+     * Loads a texture and pins it in the cache, so that it is not evicted
+     * however many other textures are loaded. Each call needs a matching
+     * unpinTexture().
+     * 
+     * @param filename the name of the texture file (e.g., "spike.png")
+     * @return the loaded texture, as loadTexture() returns it
+     */
+    public static BufferedImage pinTexture(String filename) {
+        textureCache.pin(filename);
+        return loadTexture(filename);
+    }
+    
+    /**
+     * Releases a pin taken by pinTexture(); the texture may then be evicted.
+     * 
+     * @param filename the name of the texture file
+     */
+    public static void unpinTexture(String filename) {
+        textureCache.unpin(filename);
+    }
+    
+    /**
+     * Gets the texture cache, for its size and hit, miss and eviction counts.
+     * 
+     * @return the cache loadTexture() uses
+     */
+    public static TextureCache getTextureCache() {
+        return textureCache;
+    }
+    
+    /**
+     * Copies an image into the format the screen draws fastest, keeping
+     * opaque, bitmask or translucent as the image's alpha channel needs.
+     * Images already in that format are returned as they are. Without a
+     * screen (headless runs) the format is TYPE_INT_ARGB_PRE.
+     * 
+     * @param image the decoded image, or null
+     * @return an image with the same pixels that draws without conversion, or null
+     */
+    public static BufferedImage toCompatibleImage(BufferedImage image) {
+        if (image == null) {
+            return null;
         }
+        int transparency = image.getColorModel().getTransparency();
+        GraphicsConfiguration gc = getScreenConfiguration();
+        boolean compatible = gc == null
+            ? image.getType() == BufferedImage.TYPE_INT_ARGB_PRE
+            : image.getColorModel().equals(gc.getColorModel(transparency));
+        if (compatible) {
+            return image;
+        }
+        
+        BufferedImage converted = createCompatibleImage(image.getWidth(), image.getHeight(), transparency);
+        Graphics2D g = converted.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return converted;
+    }
+    
+    /**
+     * Creates an empty image in the screen's pixel format.
+     * 
+     * @param transparency Transparency.OPAQUE, BITMASK or TRANSLUCENT
+     * @return a new image, TYPE_INT_ARGB_PRE when headless
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        GraphicsConfiguration gc = getScreenConfiguration();
+        if (gc == null) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        return gc.createCompatibleImage(width, height, transparency);
+    }
+    
+    private static GraphicsConfiguration getScreenConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return null;
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
     }
     
     /**
@@ -82,26 +171,51 @@ public class ResourceManager {
      * @return the loaded Clip, or null if loading fails
      */
     public static Clip loadSound(String filename) {
+        AudioInputStream audioStream = openSound(filename);
+        if (audioStream == null) {
+            return null;
+        }
+        
         try {
-            InputStream is = ResourceManager.class.getClassLoader()
-                .getResourceAsStream(SOUND_PATH + filename);
-            
-            if (is == null) {
-                System.err.println("⚠️ Sound not found in resources: " + SOUND_PATH + filename);
-                return null;
-            }
-            
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(is);
             Clip clip = AudioSystem.getClip();
             clip.open(audioStream);
             
             System.out.println("✓ Loaded sound: " + filename);
             return clip;
             
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
+        } catch (IOException | LineUnavailableException e) {
             System.err.println("⚠️ Error loading sound: " + filename);
             e.printStackTrace();
             return null;
+        } catch (IllegalArgumentException e) {
+            // No mixer supports Clip lines (headless machines, CI containers)
+            System.err.println("⚠️ No audio line available for sound: " + filename);
+            return null;
+        }
+    }
+    
+    /**
+     * Opens a sound file from the resources folder for decoding, without
+     * opening an audio line.
+     * 
+     * @param filename the name of the sound file (e.g., "jump.wav")
+     * @return the audio stream, or null if the file is missing or in a format Java Sound cannot read
+     */
+    public static AudioInputStream openSound(String filename) {
+        InputStream is = ResourceManager.class.getClassLoader()
+            .getResourceAsStream(SOUND_PATH + filename);
+        
+        if (is == null) {
+            System.err.println("⚠️ Sound not found in resources: " + SOUND_PATH + filename);
+            return null;
+        }
+        
+        try {
+            // Format detection needs mark/reset, which jar streams lack
+            return AudioSystem.getAudioInputStream(new BufferedInputStream(is));
+        } catch (UnsupportedAudioFileException | IOException e) {
+            System.err.println("⚠️ Error loading sound: " + filename + " (" + e.getMessage() + ")");
+            return null;
         }
     }
     
@@ -121,37 +235,21 @@ public class ResourceManager {
         // Check cache first
         Font cached = fontCache.get(cacheKey);
         if (cached != null) {
-            System.out.println("✓ Using cached font: " + cacheKey);
             return cached;
         }
         
-        // Load from file
-        try {
-            InputStream is = ResourceManager.class.getClassLoader()
-                .getResourceAsStream(FONT_PATH + filename);
-            
-            if (is == null) {
-                System.err.println("⚠️ Font not found in resources: " + FONT_PATH + filename);
-                Font fallback = new Font("Monospaced", Font.BOLD, (int)size);
-                fontCache.put(cacheKey, fallback);
-                return fallback;
-            }
-            
-            Font font = Font.createFont(Font.TRUETYPE_FONT, is);
-            Font derivedFont = font.deriveFont(size);
-            
-            // Cache the loaded font
-            fontCache.put(cacheKey, derivedFont);
-            System.out.println("✓ Loaded and cached font: " + cacheKey);
-            return derivedFont;
-            
-        } catch (FontFormatException | IOException e) {
-            System.err.println("⚠️ Error loading font: " + filename);
-            e.printStackTrace();
+        Font font = loadBaseFont(filename);
+        if (font == null) {
             Font fallback = new Font("Monospaced", Font.BOLD, (int)size);
             fontCache.put(cacheKey, fallback);
             return fallback;
         }
+        
+        // Cache the derived font
+        Font derivedFont = font.deriveFont(size);
+        fontCache.put(cacheKey, derivedFont);
+        System.out.println("✓ Loaded and cached font: " + cacheKey);
+        return derivedFont;
     }
     
     /**
@@ -164,7 +262,7 @@ public class ResourceManager {
     private static BufferedImage createFallbackTexture(String filename) {
         int width = 64;
         int height = 64;
-        BufferedImage fallback = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage fallback = createCompatibleImage(width, height, Transparency.OPAQUE);
         Graphics2D g = fallback.createGraphics();
         
         // Generate a color based on filename hash for consistency
@@ -193,6 +291,37 @@ public class ResourceManager {
         return fallback;
     }
     
+    /**
+     * Loads a TrueType font file once, at size 1, for callers that derive
+     * their own sizes. Parsing the file is the slow part; deriving is not.
+     * 
+     * @param filename the name of the font file (e.g., "PressStart2P-Regular.ttf")
+     * @return the parsed Font, or null if the file is missing or invalid
+     */
+    public static Font loadBaseFont(String filename) {
+        Font cached = baseFontCache.get(filename);
+        if (cached != null) {
+            return cached;
+        }
+        
+        try (InputStream is = ResourceManager.class.getClassLoader()
+                .getResourceAsStream(FONT_PATH + filename)) {
+            if (is == null) {
+                System.err.println("⚠️ Font not found in resources: " + FONT_PATH + filename);
+                return null;
+            }
+            
+            Font font = Font.createFont(Font.TRUETYPE_FONT, is);
+            baseFontCache.put(filename, font);
+            return font;
+            
+        } catch (FontFormatException | IOException e) {
+            System.err.println("⚠️ Error loading font: " + filename);
+            e.printStackTrace();
+            return null;
+        }
+    }
+    
     /**
      * Checks if a resource exists in the classpath.
      * 
@@ -213,15 +342,15 @@ public class ResourceManager {
     }
     
     /**
-     * Clears all cached resources to free memory.
+     * Clears all cached resources to free memory, except pinned textures.
      * Useful when switching between game states or for memory management.
      */
     public static void clearCaches() {
-        int textureCount = textureCache.size();
         int fontCount = fontCache.size();
         
-        textureCache.clear();
+        int textureCount = textureCache.clear();
         fontCache.clear();
+        baseFontCache.clear();
         
         System.out.println("ℹ️ Cleared caches - Textures: " + textureCount + ", Fonts: " + fontCount);
     }
@@ -232,27 +361,19 @@ public class ResourceManager {
      * @return formatted string with cache sizes
      */
     public static String getCacheStats() {
-        return String.format("Cache Stats - Textures: %d, Fonts: %d",
-            textureCache.size(), fontCache.size());
+        return String.format("Cache Stats - Textures: %d (%.1f / %d MB, %d hits, %d misses, %d evictions), Fonts: %d",
+            textureCache.size(), textureCache.getBytes() / 1048576.0, textureCache.getBudgetBytes() >> 20,
+            textureCache.getHitCount(), textureCache.getMissCount(), textureCache.getEvictionCount(),
+            fontCache.size());
     }
     
     /**
-     * Pre-loads commonly used resources into cache.
-     * Call during loading screens to improve game responsiveness.
+     * Pre-loads every asset in the asset manifest into cache, in parallel,
+     * and waits for them. See AssetPreloader.
      */
     public static void preloadCommonResources() {
         System.out.println("ℹ️ Pre-loading common resources...");
-        
-        // Pre-load commonly used textures
-        loadTexture("background.png");
-        loadTexture("spike.png");
-        loadTexture("doorClose.png");
-        loadTexture("doorOpen.png");
-        loadTexture("star.png");
-        
-        // Pre-load font
-        loadFont("PressStart2P-Regular.ttf", 16f);
-        
+        AssetPreloader.getInstance().start().join();
         System.out.println("ℹ️ Pre-loading complete: " + getCacheStats());
     }
 }
@@ -20,6 +20,9 @@ public class ScaleManager {
     private double scaleX;
     private double scaleY;
     
+    // World drawn at base resolution and scaled once afterwards (see RenderScaling)
+    private volatile boolean baseResolutionRendering = false;
+    
     private ScaleManager() {
         // Initialize with base dimensions
         currentWidth = BASE_WIDTH;
@@ -117,4 +120,31 @@ public class ScaleManager {
     public double getScaleY() {
         return scaleY;
     }
+    
+    /**
+     * Draw the world at base resolution (render scale 1.0) instead of
+     * scaling every object to the window
+     */
+    public void setBaseResolutionRendering(boolean enabled) {
+        this.baseResolutionRendering = enabled;
+    }
+    
+    public boolean isBaseResolutionRendering() {
+        return baseResolutionRendering;
+    }
+    
+    /**
+     * X scale from base coordinates to the surface the world is drawn on:
+     * 1.0 when rendering at base resolution, else the window's scale
+     */
+    public double getRenderScaleX() {
+        return baseResolutionRendering ? 1.0 : scaleX;
+    }
+    
+    /**
+     * Y scale from base coordinates to the surface the world is drawn on
+     */
+    public double getRenderScaleY() {
+        return baseResolutionRendering ? 1.0 : scaleY;
+    }
 }
@@ -0,0 +1,96 @@
+package com.lo3ba.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records when startup reaches each milestone, in milliseconds since the
+ * JVM started, and prints each one as it is reached so load time can be
+ * tracked from run to run. The whole timeline is printed once the first
+ * game frame is reached.
+ *
+ * Only the first mark of a milestone counts; later marks cost a single
+ * array read, so mark() can sit on the per-frame path. Any thread.
+ */
+public final class StartupTimeline {
+    public enum Milestone {
+        MAIN("main()"),
+        ASSETS_LOADED("Assets loaded"),
+        FIRST_MENU_FRAME("First menu frame"),
+        FIRST_GAME_FRAME("First game frame");
+
+        private final String label;
+
+        Milestone(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final long UNREACHED = -1;
+    private static final AtomicLongArray reached = new AtomicLongArray(Milestone.values().length);
+
+    static {
+        reset();
+    }
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Record that a milestone was reached now, unless it already was.
+     *
+     * @return True if this call recorded it
+     */
+    public static boolean mark(Milestone milestone) {
+        int i = milestone.ordinal();
+        if (reached.get(i) != UNREACHED) {
+            return false;
+        }
+        long millis = ManagementFactory.getRuntimeMXBean().getUptime();
+        if (!reached.compareAndSet(i, UNREACHED, millis)) {
+            return false;
+        }
+        System.out.printf("⏱ %s at %d ms after JVM start%n", milestone.getLabel(), millis);
+        if (milestone == Milestone.FIRST_GAME_FRAME) {
+            System.out.println("⏱ " + format());
+        }
+        return true;
+    }
+
+    /**
+     * Milliseconds from JVM start to a milestone, or -1 if not reached yet.
+     */
+    public static long getMillis(Milestone milestone) {
+        return reached.get(milestone.ordinal());
+    }
+
+    /**
+     * The milestones reached so far, in order, for logs.
+     */
+    public static String format() {
+        StringBuilder out = new StringBuilder("Startup:");
+        for (Milestone milestone : Milestone.values()) {
+            long millis = getMillis(milestone);
+            if (millis != UNREACHED) {
+                out.append(' ').append(milestone.getLabel()).append(' ').append(millis).append(" ms,");
+            }
+        }
+        if (out.charAt(out.length() - 1) == ',') {
+            out.setLength(out.length() - 1);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Forget every milestone; for tests.
+     */
+    static void reset() {
+        for (int i = 0; i < reached.length(); i++) {
+            reached.set(i, UNREACHED);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.lo3ba.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decoded textures by filename, within a budget of heap bytes. Each image
+ * is charged the size of its pixel data; when the total goes over budget,
+ * the least recently used textures are dropped until it fits again.
+ *
+ * Pinned textures are never dropped. A level pins the textures it draws
+ * while it is the current level, so they stay cached however many others
+ * are loaded. A single texture larger than the whole budget is still
+ * cached until something else needs the room.
+ *
+ * Any thread. Images are decoded outside the lock, by ResourceManager.
+ */
+public final class TextureCache {
+    public static final String BUDGET_PROPERTY = "lo3ba.textureCacheMB";
+    static final long DEFAULT_BUDGET_BYTES = 128L << 20;
+
+    private static final class Entry {
+        final BufferedImage image;
+        final long bytes;
+        int pins = 0;
+
+        Entry(BufferedImage image, long bytes) {
+            this.image = image;
+            this.bytes = bytes;
+        }
+    }
+
+    private final long budgetBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true); // Access order
+    private final Map<String, Integer> pendingPins = new HashMap<>(); // Pinned before loaded
+    private long bytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    TextureCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Cache with the budget from the lo3ba.textureCacheMB system property,
+     * 128 MB if unset or invalid.
+     */
+    static TextureCache fromSystemProperty() {
+        String value = System.getProperty(BUDGET_PROPERTY);
+        if (value == null) {
+            return new TextureCache(DEFAULT_BUDGET_BYTES);
+        }
+        try {
+            return new TextureCache(Long.parseLong(value.trim()) << 20);
+        } catch (NumberFormatException e) {
+            System.err.println("⚠ Invalid " + BUDGET_PROPERTY + ": " + value + ", using 128 MB");
+            return new TextureCache(DEFAULT_BUDGET_BYTES);
+        }
+    }
+
+    /**
+     * The cached texture, now the most recently used, or null on a miss.
+     */
+    synchronized BufferedImage get(String filename) {
+        Entry entry = entries.get(filename);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.image;
+    }
+
+    /**
+     * Cache a decoded texture, dropping others if over budget. If another
+     * thread cached the same file first, its image is kept instead.
+     *
+     * @return The image now cached under the filename
+     */
+    synchronized BufferedImage put(String filename, BufferedImage image) {
+        Entry existing = entries.get(filename);
+        if (existing != null) {
+            return existing.image;
+        }
+        Entry entry = new Entry(image, sizeOf(image));
+        Integer pins = pendingPins.remove(filename);
+        if (pins != null) {
+            entry.pins = pins;
+        }
+        entries.put(filename, entry);
+        bytes += entry.bytes;
+        evict(filename);
+        return image;
+    }
+
+    /**
+     * Keep a texture cached until unpin(), whether or not it is loaded yet.
+     * Pins are counted: a texture pinned twice needs unpinning twice.
+     */
+    synchronized void pin(String filename) {
+        Entry entry = entries.get(filename);
+        if (entry != null) {
+            entry.pins++;
+        } else {
+            pendingPins.merge(filename, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Release one pin; the texture can be dropped again once it has none.
+     * It counts as just used, since it was in use until now.
+     */
+    synchronized void unpin(String filename) {
+        Entry entry = entries.get(filename);
+        if (entry != null) {
+            if (entry.pins > 0 && --entry.pins == 0) {
+                evict(null);
+            }
+        } else {
+            pendingPins.computeIfPresent(filename, (name, pins) -> pins > 1 ? pins - 1 : null);
+        }
+    }
+
+    /**
+     * Drop every texture that is not pinned.
+     *
+     * @return Number of textures dropped
+     */
+    synchronized int clear() {
+        int dropped = 0;
+        for (Iterator<Entry> it = entries.values().iterator(); it.hasNext(); ) {
+            Entry entry = it.next();
+            if (entry.pins == 0) {
+                bytes -= entry.bytes;
+                it.remove();
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean contains(String filename) {
+        return entries.containsKey(filename); // Not an access; the order is kept
+    }
+
+    /**
+     * Bytes of pixel data held by the cached textures.
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Drop least recently used, unpinned textures until within budget,
+     * sparing the one just added.
+     */
+    private void evict(String spare) {
+        for (Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+                bytes > budgetBytes && it.hasNext(); ) {
+            Map.Entry<String, Entry> next = it.next();
+            Entry entry = next.getValue();
+            if (entry.pins == 0 && !next.getKey().equals(spare)) {
+                bytes -= entry.bytes;
+                it.remove();
+                evictions++;
+            }
+        }
+    }
+
+    /**
+     * Heap bytes of an image's pixel data.
+     */
+    static long sizeOf(BufferedImage image) {
+        DataBuffer data = image.getRaster().getDataBuffer();
+        return (long) data.getSize() * data.getNumBanks() * DataBuffer.getDataTypeSize(data.getDataType()) / 8;
+    }
+}
@@ -0,0 +1,100 @@
+package com.lo3ba.audio;
+
+import org.junit.jupiter.api.*;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AudioEngineTest {
+    private short[][] samples;
+    private AudioEngine engine;
+    private byte[] block;
+
+    @BeforeEach
+    void setup() {
+        samples = new short[Sound.values().length][];
+        Arrays.fill(samples, new short[0]);
+        short[] tone = new short[3 * AudioEngine.BLOCK_FRAMES / 2];
+        Arrays.fill(tone, (short) 10_000);
+        samples[Sound.JUMP.ordinal()] = tone;
+        engine = new AudioEngine(samples);
+        block = new byte[AudioEngine.BLOCK_FRAMES * 4];
+    }
+
+    //RIGHT: gain and pan apply per voice, and a voice ends with its sound
+    @Test
+    void testGainAndPan() {
+        engine.post(Sound.JUMP, 0.5f, -1f);
+        engine.mix(block, AudioEngine.BLOCK_FRAMES);
+        assertEquals(1, engine.getVoiceCount());
+        assertEquals(7071, left(0), 1);   // Half gain, constant-power hard left
+        assertEquals(0, right(0));
+
+        engine.mix(block, AudioEngine.BLOCK_FRAMES);
+        assertEquals(7071, left(AudioEngine.BLOCK_FRAMES / 2 - 1), 1);
+        assertEquals(0, left(AudioEngine.BLOCK_FRAMES / 2)); // Sound over
+        assertEquals(0, engine.getVoiceCount());
+    }
+
+    //BOUNDARY: voices past the polyphony limit replace the oldest, and the mix clips instead of wrapping
+    @Test
+    void testPolyphonyAndClipping() {
+        for (int i = 0; i < AudioEngine.MAX_VOICES + 4; i++) {
+            assertTrue(engine.post(Sound.JUMP, 1f, 0f));
+        }
+        engine.post(Sound.DOOR, 1f, 0f); // No samples: ignored
+        engine.mix(block, AudioEngine.BLOCK_FRAMES);
+        assertEquals(AudioEngine.MAX_VOICES, engine.getVoiceCount());
+        assertEquals(Short.MAX_VALUE, left(0));
+        assertEquals(Short.MAX_VALUE, right(0));
+    }
+
+    //RIGHT: decoding averages channels and converts the sample rate
+    @Test
+    void testDecodeResamples() throws IOException {
+        AudioFormat format = new AudioFormat(22_050f, 16, 2, true, false);
+        byte[] pcm = new byte[100 * 4];
+        for (int frame = 0; frame < 100; frame++) {
+            put(pcm, frame * 4, 1000);     // Left
+            put(pcm, frame * 4 + 2, 3000); // Right
+        }
+        AudioInputStream in = new AudioInputStream(new ByteArrayInputStream(pcm), format, 100);
+        short[] decoded = SoundBank.decode(in, AudioEngine.SAMPLE_RATE);
+        assertEquals(200, decoded.length);
+        assertEquals(2000, decoded[0]);
+        assertEquals(2000, decoded[199]);
+    }
+
+    //CROSS-CHECK: a stopped engine drops play commands without queueing them
+    @Test
+    void testStoppedEngineIgnoresPlay() {
+        assertFalse(engine.play(Sound.JUMP));
+        engine.mix(block, AudioEngine.BLOCK_FRAMES);
+        assertEquals(0, engine.getVoiceCount());
+    }
+
+    private int left(int frame) {
+        return (short) ((block[frame * 4] & 0xFF) | block[frame * 4 + 1] << 8);
+    }
+
+    private int right(int frame) {
+        return (short) ((block[frame * 4 + 2] & 0xFF) | block[frame * 4 + 3] << 8);
+    }
+
+    private static void put(byte[] bytes, int offset, int sample) {
+        bytes[offset] = (byte) sample;
+        bytes[offset + 1] = (byte) (sample >> 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        samples = null;
+        engine = null;
+        block = null;
+    }
+}
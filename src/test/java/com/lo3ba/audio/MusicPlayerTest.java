@@ -0,0 +1,129 @@
+package com.lo3ba.audio;
+
+import org.junit.jupiter.api.*;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MusicPlayerTest {
+    private static final int TRACK_FRAMES = 300;
+
+    private MusicPlayer player;
+    private float[] left;
+    private float[] right;
+
+    @BeforeEach
+    void setup() {
+        player = new MusicPlayer(AudioEngine.SAMPLE_RATE);
+        left = new float[AudioEngine.BLOCK_FRAMES];
+        right = new float[AudioEngine.BLOCK_FRAMES];
+    }
+
+    //RIGHT: a looping track restarts on the frame after its last, with no gap
+    @Test
+    void testGaplessLoop() {
+        MusicTrack track = new MusicTrack("ramp", ramp(), true, AudioEngine.SAMPLE_RATE);
+        track.fadeTo(1f, 0);
+        assertEquals(MusicTrack.RING_FRAMES, track.fill());
+        track.mixInto(left, right, AudioEngine.BLOCK_FRAMES);
+
+        for (int f = 0; f < AudioEngine.BLOCK_FRAMES; f++) {
+            assertEquals(f % TRACK_FRAMES, left[f], 0.001, "frame " + f);
+            assertEquals(-(f % TRACK_FRAMES), right[f], 0.001, "frame " + f);
+        }
+        assertFalse(track.isFinished());
+    }
+
+    //BOUNDARY: ring memory stays the same whatever the track length; a one-shot track ends
+    @Test
+    void testRingIsBounded() {
+        MusicTrack track = new MusicTrack("ramp", ramp(), false, AudioEngine.SAMPLE_RATE);
+        track.fadeTo(1f, 0);
+        assertEquals(TRACK_FRAMES, track.fill());
+        assertEquals(0, track.fill());
+        track.mixInto(left, right, AudioEngine.BLOCK_FRAMES);
+        assertTrue(track.isFinished());
+
+        MusicTrack looped = new MusicTrack("ramp", ramp(), true, AudioEngine.SAMPLE_RATE);
+        looped.fill();
+        assertEquals(0, looped.fill()); // Full until the mixer reads
+    }
+
+    //RIGHT: a transition fades the old track out while the new one fades in
+    @Test
+    void testCrossfade() {
+        MusicTrack first = new MusicTrack("first", constant(1000), true, AudioEngine.SAMPLE_RATE);
+        MusicTrack second = new MusicTrack("second", constant(-1000), true, AudioEngine.SAMPLE_RATE);
+        int fadeMillis = (int) (1000 * AudioEngine.BLOCK_FRAMES / AudioEngine.SAMPLE_RATE) * 2;
+
+        player.transition(first, 0);
+        first.fill();
+        player.mix(left, right, AudioEngine.BLOCK_FRAMES);
+        assertEquals(1000, left[AudioEngine.BLOCK_FRAMES - 1], 0.001);
+
+        player.transition(second, fadeMillis);
+        second.fill();
+        clear();
+        player.mix(left, right, AudioEngine.BLOCK_FRAMES);
+        assertTrue(left[1] > 900);                            // Mostly the first track
+        assertTrue(Math.abs(left[AudioEngine.BLOCK_FRAMES - 1]) < 100); // Halfway: both at half volume
+
+        for (int i = 0; i < 4; i++) {
+            first.fill();
+            second.fill();
+            clear();
+            player.mix(left, right, AudioEngine.BLOCK_FRAMES);
+        }
+        assertEquals(-1000, left[AudioEngine.BLOCK_FRAMES - 1], 0.001);
+        assertTrue(first.isRetired());
+        assertFalse(second.isRetired());
+    }
+
+    private void clear() {
+        Arrays.fill(left, 0f);
+        Arrays.fill(right, 0f);
+    }
+
+    /**
+     * Stereo track at the mixer's rate whose left channel counts frames and
+     * right channel counts down.
+     */
+    private static Supplier<AudioInputStream> ramp() {
+        byte[] pcm = new byte[TRACK_FRAMES * 4];
+        for (int f = 0; f < TRACK_FRAMES; f++) {
+            put(pcm, f * 4, f);
+            put(pcm, f * 4 + 2, -f);
+        }
+        return stream(pcm, 2);
+    }
+
+    private static Supplier<AudioInputStream> constant(int sample) {
+        byte[] pcm = new byte[TRACK_FRAMES * 2];
+        for (int f = 0; f < TRACK_FRAMES; f++) {
+            put(pcm, f * 2, sample);
+        }
+        return stream(pcm, 1);
+    }
+
+    private static Supplier<AudioInputStream> stream(byte[] pcm, int channels) {
+        AudioFormat format = new AudioFormat(AudioEngine.SAMPLE_RATE, 16, channels, true, false);
+        return () -> new AudioInputStream(new ByteArrayInputStream(pcm), format, pcm.length / (2 * channels));
+    }
+
+    private static void put(byte[] bytes, int offset, int sample) {
+        bytes[offset] = (byte) sample;
+        bytes[offset + 1] = (byte) (sample >> 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        player = null;
+        left = null;
+        right = null;
+    }
+}
@@ -0,0 +1,84 @@
+package com.lo3ba.core;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FramePacerTest {
+    private static final long TICK = 10_000_000L;  // 100 ticks per second
+    private static final long FRAME = 20_000_000L; // 50 frames per second
+
+    private long now;
+    private FramePacer pacer;
+
+    @BeforeEach
+    void setup() {
+        now = 1_000_000_000L;
+        pacer = new FramePacer(100, 50, () -> now);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pacer = null;
+    }
+
+    //RIGHT: whole ticks run, the remainder carries over as the fraction
+    @Test
+    void testTicksDue() {
+        now += TICK * 5 / 2;
+        assertEquals(2, pacer.beginFrame());
+        assertEquals(0.5, pacer.getTickFraction(), 1e-9);
+
+        now += TICK / 2;
+        assertEquals(1, pacer.beginFrame());
+        assertEquals(0.0, pacer.getTickFraction(), 1e-9);
+        assertEquals(0, pacer.getDroppedTicks());
+    }
+
+    //BOUNDARY: exactly the cap runs; one more is dropped with the backlog
+    @Test
+    void testCatchUpCap() {
+        now += TICK * FramePacer.MAX_CATCH_UP_TICKS;
+        assertEquals(FramePacer.MAX_CATCH_UP_TICKS, pacer.beginFrame());
+        assertEquals(0, pacer.getDroppedTicks());
+
+        now += TICK * 12 + TICK / 2;
+        assertEquals(FramePacer.MAX_CATCH_UP_TICKS, pacer.beginFrame());
+        assertEquals(12 - FramePacer.MAX_CATCH_UP_TICKS, pacer.getDroppedTicks());
+        assertEquals(0.0, pacer.getTickFraction(), 1e-9); // Backlog forgotten
+    }
+
+    //RIGHT: a frame that ends on time keeps the fixed cadence
+    @Test
+    void testDeadlineAdvancesByOneFrame() {
+        long start = now;
+        now += FRAME;
+        pacer.endFrame();
+        assertEquals(start + 2 * FRAME, pacer.getNextFrameDeadline());
+
+        now += FRAME + FRAME / 2; // Half a frame late: within a frame, no resync
+        pacer.endFrame();
+        assertEquals(start + 3 * FRAME, pacer.getNextFrameDeadline());
+    }
+
+    //BOUNDARY: missing more than a whole frame resyncs to now instead of racing
+    @Test
+    void testResyncAfterMissedFrames() {
+        now += 4 * FRAME;
+        pacer.endFrame();
+        assertEquals(now + FRAME, pacer.getNextFrameDeadline());
+    }
+
+    //CROSS-CHECK: each frame's length goes into the histogram
+    @Test
+    void testFrameTimesRecorded() {
+        now += FRAME;
+        pacer.beginFrame();
+        now += 2 * FRAME;
+        pacer.beginFrame();
+
+        FrameTimeHistogram histogram = pacer.getHistogram();
+        assertEquals(2, histogram.getCount());
+        assertEquals(40.0, histogram.getMaxMillis(), 1e-9);
+        assertEquals(1, histogram.getLateFrames());
+    }
+}
@@ -0,0 +1,97 @@
+package com.lo3ba.core;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest {
+    private static final long MILLIS = 1_000_000L;
+
+    private long now;
+    private FrameProfiler profiler;
+
+    @BeforeEach
+    void setup() {
+        now = 0;
+        profiler = new FrameProfiler(() -> now);
+        profiler.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        profiler = null;
+    }
+
+    //RIGHT: min and average over the samples recorded so far
+    @Test
+    void testMinAndAverage() {
+        tick(2 * MILLIS);
+        tick(4 * MILLIS);
+        tick(9 * MILLIS);
+
+        assertEquals(3, profiler.getSampleCount(FrameProfiler.Phase.PLAYER));
+        assertEquals(9 * MILLIS, profiler.getSample(FrameProfiler.Phase.PLAYER, 0));
+        assertEquals(2.0, profiler.getMinMillis(FrameProfiler.Phase.PLAYER), 1e-9);
+        assertEquals(5.0, profiler.getAverageMillis(FrameProfiler.Phase.PLAYER), 1e-9);
+    }
+
+    //BOUNDARY: past HISTORY samples the ring wraps and keeps only the newest
+    @Test
+    void testWraparound() {
+        int total = FrameProfiler.HISTORY + 60;
+        for (int i = 1; i <= total; i++) {
+            tick(i * MILLIS);
+        }
+
+        assertEquals(FrameProfiler.HISTORY, profiler.getSampleCount(FrameProfiler.Phase.PLAYER));
+        assertEquals(total * MILLIS, profiler.getSample(FrameProfiler.Phase.PLAYER, 0));
+        assertEquals(61 * MILLIS, profiler.getSample(FrameProfiler.Phase.PLAYER, FrameProfiler.HISTORY - 1));
+        assertEquals(61.0, profiler.getMinMillis(FrameProfiler.Phase.PLAYER), 1e-9);
+        assertEquals((61 + total) / 2.0, profiler.getAverageMillis(FrameProfiler.Phase.PLAYER), 1e-9);
+        assertEquals(total, profiler.getPercentileMillis(FrameProfiler.Phase.PLAYER, 100), 1e-9);
+    }
+
+    //RIGHT: percentiles are nearest-rank over the sorted samples
+    @Test
+    void testPercentiles() {
+        for (int i = 100; i >= 1; i--) {
+            tick(i * MILLIS); // Recorded out of order
+        }
+
+        assertEquals(50.0, profiler.getPercentileMillis(FrameProfiler.Phase.PLAYER, 50), 1e-9);
+        assertEquals(99.0, profiler.getPercentileMillis(FrameProfiler.Phase.PLAYER, 99), 1e-9);
+        assertEquals(100.0, profiler.getPercentileMillis(FrameProfiler.Phase.PLAYER, 100), 1e-9);
+        assertEquals(1.0, profiler.getPercentileMillis(FrameProfiler.Phase.PLAYER, 0), 1e-9);
+    }
+
+    //BOUNDARY: nothing is recorded while disabled, and no samples read as zero
+    @Test
+    void testDisabled() {
+        profiler.setEnabled(false);
+        tick(5 * MILLIS);
+
+        assertEquals(0, profiler.getSampleCount(FrameProfiler.Phase.PLAYER));
+        assertEquals(0.0, profiler.getAverageMillis(FrameProfiler.Phase.PLAYER));
+        assertEquals(0.0, profiler.getPercentileMillis(FrameProfiler.Phase.PLAYER, 99));
+    }
+
+    //CROSS-CHECK: render phases have their own ring, closed by endFrame()
+    @Test
+    void testRenderPhasesSeparate() {
+        tick(3 * MILLIS);
+        long start = profiler.mark();
+        now += 7 * MILLIS;
+        profiler.lap(FrameProfiler.Phase.HUD, start);
+        profiler.endFrame();
+
+        assertEquals(1, profiler.getSampleCount(FrameProfiler.Phase.HUD));
+        assertEquals(7 * MILLIS, profiler.getSample(FrameProfiler.Phase.HUD, 0));
+        assertEquals(3 * MILLIS, profiler.getSample(FrameProfiler.Phase.PLAYER, 0));
+    }
+
+    private void tick(long nanos) {
+        long start = profiler.mark();
+        now += nanos;
+        profiler.lap(FrameProfiler.Phase.PLAYER, start);
+        profiler.endTick();
+    }
+}
@@ -0,0 +1,82 @@
+package com.lo3ba.core;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameTimeHistogramTest {
+    private FrameTimeHistogram histogram;
+
+    @BeforeEach
+    void setup() {
+        histogram = new FrameTimeHistogram(16_000_000L); // 16 ms target
+    }
+
+    @AfterEach
+    void tearDown() {
+        histogram = null;
+    }
+
+    //BOUNDARY: an empty histogram reports zeros
+    @Test
+    void testEmpty() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getPercentileMillis(99));
+        assertEquals(0.0, histogram.getAverageMillis());
+    }
+
+    //RIGHT: percentiles are the upper edge of 0.25 ms buckets
+    @Test
+    void testBucketing() {
+        histogram.record(1_100_000L);  // 1.00-1.25 ms bucket
+        assertEquals(1.25, histogram.getPercentileMillis(50), 1e-9);
+
+        histogram.record(1_250_000L);  // Exactly on an edge: next bucket up
+        assertEquals(1.25, histogram.getPercentileMillis(50), 1e-9);
+        assertEquals(1.5, histogram.getPercentileMillis(100), 1e-9);
+    }
+
+    //RIGHT: p50 and p99 over a known distribution
+    @Test
+    void testPercentiles() {
+        for (int i = 0; i < 99; i++) {
+            histogram.record(16_000_000L);
+        }
+        histogram.record(40_000_000L);
+
+        assertEquals(16.25, histogram.getPercentileMillis(50), 1e-9);
+        assertEquals(16.25, histogram.getPercentileMillis(99), 1e-9);
+        assertEquals(40.25, histogram.getPercentileMillis(100), 1e-9);
+        assertEquals(16.24, histogram.getAverageMillis(), 1e-9);
+        assertEquals(40.0, histogram.getMaxMillis(), 1e-9);
+        assertEquals(1, histogram.getLateFrames());
+    }
+
+    //BOUNDARY: frames past 64 ms share the last bucket but keep their real max
+    @Test
+    void testOverflowBucket() {
+        histogram.record(500_000_000L);
+        assertEquals(64.0, histogram.getPercentileMillis(100), 1e-9);
+        assertEquals(500.0, histogram.getMaxMillis(), 1e-9);
+    }
+
+    //BOUNDARY: late means more than half a frame over target
+    @Test
+    void testLateFrames() {
+        histogram.record(24_000_000L);
+        assertEquals(0, histogram.getLateFrames());
+        histogram.record(24_000_001L);
+        assertEquals(1, histogram.getLateFrames());
+    }
+
+    //CROSS-CHECK: summary reports what the getters do; reset clears it all
+    @Test
+    void testSummaryAndReset() {
+        histogram.record(16_000_000L);
+        assertEquals("Frames: 1, target 16.00 ms, avg 16.00 ms, p50 16.25 ms, p99 16.25 ms, max 16.00 ms, late 0",
+                     histogram.summary());
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMaxMillis());
+    }
+}
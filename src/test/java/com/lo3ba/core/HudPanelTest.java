@@ -0,0 +1,52 @@
+package com.lo3ba.core;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HudPanelTest {
+    private Simulation simulation;
+    private FrameSnapshot snapshot;
+    private HudPanel hud;
+    private BufferedImage target;
+
+    @BeforeEach
+    void setup() {
+        simulation = new Simulation(1);
+        snapshot = new FrameSnapshot();
+        hud = new HudPanel(new Font("Monospaced", Font.PLAIN, 16));
+        target = new BufferedImage(400, 200, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    //RIGHT: the panel is redrawn only when a counter changes
+    @Test
+    void testRedrawsOnlyOnChange() {
+        simulation.writeSnapshot(snapshot);
+        render();
+        render();
+        assertEquals(1, hud.getRedrawCount());
+
+        simulation.getPlayer().takeDamage(10);
+        simulation.writeSnapshot(snapshot);
+        render();
+        render();
+        assertEquals(2, hud.getRedrawCount());
+    }
+
+    private void render() {
+        Graphics2D g = target.createGraphics();
+        hud.render(g, snapshot);
+        g.dispose();
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulation = null;
+        snapshot = null;
+        hud = null;
+        target = null;
+    }
+}
@@ -0,0 +1,77 @@
+package com.lo3ba.core;
+
+import com.lo3ba.util.ScaleManager;
+import org.junit.jupiter.api.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderScalingTest {
+    private Rectangle viewport;
+
+    @BeforeEach
+    void setup() {
+        viewport = new Rectangle();
+    }
+
+    //RIGHT: integer scaling picks the largest whole factor and centers it
+    @Test
+    void testIntegerViewport() {
+        RenderScaling.INTEGER.viewport(2500, 1300, viewport);
+        assertEquals(new Rectangle(250, 50, 2000, 1200), viewport);
+    }
+
+    //RIGHT: letterboxing keeps the aspect ratio and fills one axis
+    @Test
+    void testLetterboxViewport() {
+        RenderScaling.LETTERBOX.viewport(2000, 1000, viewport);
+        assertEquals(new Rectangle(166, 0, 1667, 1000), viewport);
+    }
+
+    //BOUNDARY: a window smaller than the base resolution scales down in every mode
+    @Test
+    void testSmallWindow() {
+        RenderScaling.INTEGER.viewport(500, 400, viewport);
+        assertEquals(new Rectangle(0, 50, 500, 300), viewport);
+        RenderScaling.STRETCH.viewport(500, 400, viewport);
+        assertEquals(new Rectangle(0, 0, 500, 400), viewport);
+    }
+
+    //CROSS-CHECK: a buffered frame fills the viewport and leaves black bars around it
+    @Test
+    void testBufferedFrameIsLetterboxed() {
+        ScaleManager sm = ScaleManager.getInstance();
+        sm.updateDimensions(2000, 1000);
+        sm.setBaseResolutionRendering(true);
+        try {
+            Simulation simulation = new Simulation(1);
+            FrameSnapshot snapshot = new FrameSnapshot();
+            simulation.writeSnapshot(snapshot);
+            GameRenderer renderer = new GameRenderer(new Font("Monospaced", Font.PLAIN, 16), null,
+                                                     RenderScaling.LETTERBOX, Color.CYAN);
+
+            BufferedImage window = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = window.createGraphics();
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, 2000, 1000);
+            renderer.render(g, new GameRenderContext(snapshot, false, ScaleManager.BASE_WIDTH,
+                                                     ScaleManager.BASE_HEIGHT, null));
+            g.dispose();
+
+            assertTrue(renderer.coversWindow());
+            assertEquals(Color.BLACK.getRGB(), window.getRGB(10, 500));   // Left bar
+            assertEquals(Color.BLACK.getRGB(), window.getRGB(1990, 500)); // Right bar
+            assertEquals(Color.CYAN.getRGB(), window.getRGB(1000, 10));   // Sky in the frame
+        } finally {
+            sm.setBaseResolutionRendering(false);
+            sm.updateDimensions(ScaleManager.BASE_WIDTH, ScaleManager.BASE_HEIGHT);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        viewport = null;
+    }
+}
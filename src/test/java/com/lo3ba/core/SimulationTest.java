@@ -0,0 +1,130 @@
+package com.lo3ba.core;
+
+import org.junit.jupiter.api.*;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SimulationTest {
+    private Simulation simulation;
+
+    @BeforeEach
+    void setup() {
+        simulation = new Simulation(1);
+    }
+
+    //BOUNDARY
+    @Test
+    void testInitialState() {
+        assertEquals(1, simulation.getLevelManager().getCurrentLevelNumber());
+        assertEquals(0, simulation.getTickCount());
+        assertSame(simulation, simulation.getPlayer().getSimulation());
+    }
+
+    //RIGHT
+    @Test
+    void testScriptedInputMovesPlayer() {
+        simulation.setInputSource(new ScriptedInput().hold(InputAction.RIGHT, 0, 30));
+        double startX = simulation.getPlayer().getX();
+
+        simulation.run(30);
+
+        assertEquals(30, simulation.getTickCount());
+        assertTrue(simulation.getPlayer().getX() > startX);
+    }
+
+    //RIGHT
+    @Test
+    void testReleaseStopsPlayer() {
+        simulation.setInputSource(new ScriptedInput().hold(InputAction.LEFT, 0, 10));
+        simulation.run(10);
+        double stoppedX = simulation.getPlayer().getX();
+
+        simulation.run(10);
+        assertEquals(stoppedX, simulation.getPlayer().getX());
+    }
+
+    //CROSS-CHECK: same script, same result
+    @Test
+    void testDeterministicReplay() {
+        ScriptedInput script = new ScriptedInput()
+            .hold(InputAction.RIGHT, 0, 200)
+            .tap(InputAction.JUMP, 20)
+            .tap(InputAction.JUMP, 90);
+
+        Simulation first = new Simulation(2, script);
+        first.run(200);
+        script.rewind();
+        Simulation second = new Simulation(2, script);
+        second.run(200);
+
+        assertEquals(first.getPlayer().getX(), second.getPlayer().getX());
+        assertEquals(first.getPlayer().getY(), second.getPlayer().getY());
+    }
+
+    //PERFORMANCE: every level runs unthrottled without a UI
+    @Test
+    void testAllLevelsRunHeadless() {
+        for (int level = 1; level <= 10; level++) {
+            ScriptedInput script = new ScriptedInput().hold(InputAction.RIGHT, 0, 10_000);
+            for (int t = 0; t < 10_000; t += 45) {
+                script.tap(InputAction.JUMP, t);
+            }
+            Simulation sim = new Simulation(level, script);
+            for (int i = 0; i < 10_000; i++) {
+                sim.tick();
+                if (sim.getPlayer().isDead()) {
+                    sim.resetPlayer();
+                }
+            }
+            assertEquals(10_000, sim.getTickCount());
+            assertEquals(level, sim.getLevelManager().getCurrentLevelNumber());
+        }
+    }
+
+    //PERFORMANCE: once warmed up, ticks (deaths and respawns included) produce no garbage
+    @Test
+    void testSteadyStateTickAllocatesNothing() {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        threads.getCurrentThreadAllocatedBytes(); // First call may allocate
+
+        for (int level = 1; level <= 10; level++) {
+            ScriptedInput script = new ScriptedInput().hold(InputAction.RIGHT, 0, 20_000);
+            for (int t = 0; t < 20_000; t += 45) {
+                script.tap(InputAction.JUMP, t);
+            }
+            Simulation sim = new Simulation(level, script);
+            runAndRespawn(sim, 10_000); // Warm-up: pools grow, code gets compiled
+
+            // The JIT allocates a few hundred bytes once per JVM at an arbitrary
+            // tick, so a second window is measured before failing
+            long allocated = Long.MAX_VALUE;
+            for (int window = 0; window < 2 && allocated > 0; window++) {
+                long before = threads.getCurrentThreadAllocatedBytes();
+                runAndRespawn(sim, 10_000);
+                allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            }
+
+            assertEquals(0, allocated, "Level " + level + " allocated " + allocated + " bytes");
+        }
+    }
+
+    private static void runAndRespawn(Simulation sim, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            sim.tick();
+            if (sim.getPlayer().isDead()) {
+                sim.resetPlayer();
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulation = null;
+    }
+}
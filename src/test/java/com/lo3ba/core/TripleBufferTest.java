@@ -0,0 +1,46 @@
+package com.lo3ba.core;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TripleBufferTest {
+    private TripleBuffer<int[]> buffer;
+
+    @BeforeEach
+    void setup() {
+        buffer = new TripleBuffer<>(() -> new int[1]);
+    }
+
+    //RIGHT
+    @Test
+    void testReaderSeesLatestPublish() {
+        buffer.getBackBuffer()[0] = 1;
+        buffer.publish();
+        buffer.getBackBuffer()[0] = 2;
+        buffer.publish();
+
+        assertEquals(2, buffer.acquire()[0]);
+    }
+
+    //EXISTENCE: no new frame keeps the current one
+    @Test
+    void testAcquireWithoutPublishKeepsFrame() {
+        buffer.getBackBuffer()[0] = 7;
+        buffer.publish();
+        int[] first = buffer.acquire();
+
+        assertSame(first, buffer.acquire());
+        assertEquals(7, first[0]);
+    }
+
+    //CROSS-CHECK: writer never gets the buffer the reader holds
+    @Test
+    void testWriterNeverTouchesFrontBuffer() {
+        buffer.publish();
+        int[] front = buffer.acquire();
+        for (int i = 0; i < 10; i++) {
+            assertNotSame(front, buffer.getBackBuffer());
+            buffer.publish();
+        }
+    }
+}
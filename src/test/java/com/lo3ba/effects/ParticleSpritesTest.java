@@ -0,0 +1,33 @@
+package com.lo3ba.effects;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticleSpritesTest {
+
+    //BOUNDARY: fully faded is invisible, fully opaque is the top level
+    @Test
+    void testAlphaLevels() {
+        assertEquals(0, ParticleSprites.alphaLevel(0));
+        assertEquals(0, ParticleSprites.alphaLevel(8));
+        assertEquals(ParticleSprites.ALPHA_LEVELS - 1, ParticleSprites.alphaLevel(255));
+    }
+
+    //RIGHT: one sprite per key, colors that differ below 4 bits share it
+    @Test
+    void testSpritesAreCached() {
+        BufferedImage dust = ParticleSprites.get(ParticleSystem.ParticleType.DUST, 4, 0xFF8B7355, 15);
+        assertSame(dust, ParticleSprites.get(ParticleSystem.ParticleType.DUST, 4, 0xFF8A7254, 15));
+        assertNotSame(dust, ParticleSprites.get(ParticleSystem.ParticleType.DUST, 4, 0xFF8B7355, 7));
+        assertNotSame(dust, ParticleSprites.get(ParticleSystem.ParticleType.TRAIL, 4, 0xFF8B7355, 15));
+        assertEquals(4, dust.getWidth());
+
+        BufferedImage sparkle = ParticleSprites.get(ParticleSystem.ParticleType.SPARKLE, 5, 0xFFFFFF00, 15);
+        assertEquals(11, sparkle.getWidth());
+        assertEquals(0, sparkle.getRGB(0, 0) >>> 24);   // Corner stays clear
+        assertEquals(255, sparkle.getRGB(5, 5) >>> 24); // Center is drawn
+    }
+}
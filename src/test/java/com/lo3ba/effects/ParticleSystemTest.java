@@ -0,0 +1,131 @@
+package com.lo3ba.effects;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.Color;
+import java.awt.Rectangle;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticleSystemTest {
+    private ParticleSystem particles;
+
+    @BeforeEach
+    void setup() {
+        particles = new ParticleSystem(64, ParticleSystem.CapacityPolicy.DROP_OLDEST);
+    }
+
+    //RIGHT: particles expire after their lifetime, swap-remove keeps the rest
+    @Test
+    void testParticlesExpire() {
+        particles.createTrailParticle(0, 0, Color.WHITE);   // 20 ticks
+        particles.createDustParticles(0, 0, 5);             // 30 ticks
+        for (int i = 0; i < 20; i++) {
+            particles.update();
+        }
+        assertEquals(5, particles.getParticleCount());
+
+        ParticleSnapshot snapshot = new ParticleSnapshot();
+        particles.writeSnapshot(snapshot);
+        for (int i = 0; i < snapshot.getCount(); i++) {
+            assertEquals(ParticleSystem.ParticleType.DUST, snapshot.getType(i));
+            assertEquals(20, snapshot.getAge(i));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            particles.update();
+        }
+        assertEquals(0, particles.getParticleCount());
+    }
+
+    //BOUNDARY: a full system replaces its oldest particles
+    @Test
+    void testDropOldest() {
+        particles.createDustParticles(0, 0, 64);
+        particles.update();
+        particles.createSparkleParticles(0, 0, 10);
+
+        assertEquals(64, particles.getParticleCount());
+        ParticleSnapshot snapshot = new ParticleSnapshot();
+        particles.writeSnapshot(snapshot);
+        int sparkles = 0;
+        for (int i = 0; i < snapshot.getCount(); i++) {
+            if (snapshot.getType(i) == ParticleSystem.ParticleType.SPARKLE) sparkles++;
+        }
+        assertEquals(10, sparkles);
+    }
+
+    //BOUNDARY: a full system refuses new particles
+    @Test
+    void testRefuse() {
+        ParticleSystem refusing = new ParticleSystem(8, ParticleSystem.CapacityPolicy.REFUSE);
+        refusing.createDustParticles(0, 0, 8);
+        refusing.createSparkleParticles(0, 0, 4);
+
+        ParticleSnapshot snapshot = new ParticleSnapshot();
+        refusing.writeSnapshot(snapshot);
+        assertEquals(8, snapshot.getCount());
+        for (int i = 0; i < snapshot.getCount(); i++) {
+            assertEquals(ParticleSystem.ParticleType.DUST, snapshot.getType(i));
+        }
+    }
+
+    //CROSS-CHECK: on the parallel path every particle is integrated exactly once
+    @Test
+    void testParallelUpdate() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParticleSystem rain = new ParticleSystem(50_000, ParticleSystem.CapacityPolicy.REFUSE, pool);
+            rain.setParallelThreshold(1);
+            rain.createRainParticles(new Rectangle(0, 0, 1000, 100), 50_000);
+            for (int i = 0; i < 30; i++) {
+                rain.update(); // Rain lives at least 40 ticks
+            }
+
+            ParticleSnapshot snapshot = new ParticleSnapshot();
+            rain.writeSnapshot(snapshot);
+            assertEquals(50_000, snapshot.getCount());
+            for (int i = 0; i < snapshot.getCount(); i++) {
+                assertEquals(30, snapshot.getAge(i));
+                assertEquals(-1.5, snapshot.getX(i) - snapshot.getLastTickX(i), 1e-9);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    //CROSS-CHECK: with the count growing every update, no slice is integrated twice or skipped
+    @Test
+    void testParallelUpdateWithGrowingCount() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int run = 0; run < 5; run++) {
+                ParticleSystem rain = new ParticleSystem(250_000, ParticleSystem.CapacityPolicy.REFUSE, pool);
+                rain.setParallelThreshold(1);
+                ParticleSnapshot snapshot = new ParticleSnapshot();
+                long expectedAges = 0;
+                for (int tick = 0; tick < 35; tick++) { // Rain lives at least 40 ticks
+                    int spawned = tick % 2 == 0 ? 9_000 : 1_500;
+                    rain.createRainParticles(new Rectangle(0, 0, 1000, 100), spawned);
+                    rain.update();
+                    expectedAges += rain.getParticleCount(); // Every live particle aged once
+
+                    rain.writeSnapshot(snapshot);
+                    long ages = 0;
+                    for (int i = 0; i < snapshot.getCount(); i++) {
+                        ages += snapshot.getAge(i);
+                    }
+                    assertEquals(expectedAges, ages, "run " + run + ", tick " + tick);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        particles = null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.lo3ba.effects;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.Rectangle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherEmitterTest {
+    private ParticleSystem particles;
+
+    @BeforeEach
+    void setup() {
+        particles = new ParticleSystem(WeatherEmitter.MAX_PARTICLES, ParticleSystem.CapacityPolicy.REFUSE);
+    }
+
+    //RIGHT: the population ramps up to the target and stays there
+    @Test
+    void testHoldsTargetCount() {
+        WeatherEmitter rain = new WeatherEmitter(WeatherEmitter.Kind.RAIN, 20_000,
+                                                 new Rectangle(0, -100, 1000, 100));
+        int peak = 0;
+        for (int tick = 0; tick < 300; tick++) {
+            rain.emit(particles);
+            particles.update();
+            peak = Math.max(peak, particles.getParticleCount());
+        }
+
+        assertTrue(peak <= 20_000);
+        assertTrue(particles.getParticleCount() > 19_000);
+    }
+
+    //BOUNDARY
+    @Test
+    void testTargetOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () ->
+            new WeatherEmitter(WeatherEmitter.Kind.SNOW, WeatherEmitter.MAX_PARTICLES + 1, new Rectangle()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        particles = null;
+    }
+}
@@ -0,0 +1,64 @@
+package com.lo3ba.graphics;
+
+import com.lo3ba.util.ResourceManager;
+import org.junit.jupiter.api.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitmapFontTest {
+    private Font font;
+    private BitmapFont bitmapFont;
+
+    @BeforeEach
+    void setup() {
+        font = ResourceManager.loadFont("PressStart2P-Regular.ttf", 16f);
+        bitmapFont = BitmapFont.get(font);
+    }
+
+    //CROSS-CHECK: blitted glyphs match drawString() pixel for pixel
+    @Test
+    void testMatchesDrawString() {
+        String text = "STARS: 3 / 10";
+        BufferedImage expected = canvas();
+        Graphics2D g = expected.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+        g.setFont(font);
+        g.setColor(Color.YELLOW);
+        g.drawString(text, 7, 30);
+        int expectedWidth = g.getFontMetrics().stringWidth(text);
+        g.dispose();
+
+        BufferedImage actual = canvas();
+        g = actual.createGraphics();
+        bitmapFont.drawString(g, text, 7, 30, Color.YELLOW);
+        g.dispose();
+
+        assertEquals(expectedWidth, bitmapFont.stringWidth(text));
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), "pixel " + x + "," + y);
+            }
+        }
+    }
+
+    //BOUNDARY: characters outside printable ASCII draw as '?'
+    @Test
+    void testMissingCharacters() {
+        assertEquals(bitmapFont.stringWidth("?"), bitmapFont.stringWidth("é"));
+        assertEquals(0, bitmapFont.stringWidth(""));
+        assertSame(bitmapFont, BitmapFont.get(font));
+    }
+
+    private static BufferedImage canvas() {
+        return new BufferedImage(260, 40, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        font = null;
+        bitmapFont = null;
+    }
+}
@@ -0,0 +1,104 @@
+package com.lo3ba.graphics;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrescaledImageTest {
+    private PrescaledImageCache cache;
+    private BufferedImage source;
+
+    @BeforeEach
+    void setup() {
+        cache = new PrescaledImageCache();
+        source = new BufferedImage(40, 20, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = source.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 20, 20);
+        g.setColor(Color.BLUE);
+        g.fillRect(20, 0, 20, 20);
+        g.dispose();
+    }
+
+    //RIGHT: the first draw scales the source, later draws blit the copy to the same place
+    @Test
+    void testCopyMatchesScaledDraw() throws InterruptedException {
+        PrescaledImage image = cache.prescale(source, 40, 20);
+        BufferedImage first = draw(image, 2.0);
+        waitUntilReady(image, 2.0);
+        BufferedImage second = draw(image, 2.0);
+
+        assertEquals(Color.RED.getRGB(), second.getRGB(10 + 2 * 5, 6 + 2 * 5));
+        assertEquals(Color.BLUE.getRGB(), second.getRGB(10 + 2 * 35, 6 + 2 * 15));
+        assertEquals(0, second.getRGB(10 + 2 * 40, 6 + 2 * 10)); // Right of the copy
+        assertEquals(first.getRGB(10 + 2 * 5, 6 + 2 * 5), second.getRGB(10 + 2 * 5, 6 + 2 * 5));
+    }
+
+    //RIGHT: a later change of scale builds a second copy
+    @Test
+    void testRebuildOnScaleChange() throws InterruptedException {
+        PrescaledImage image = cache.prescale(source, 40, 20);
+        draw(image, 2.0);
+        waitUntilReady(image, 2.0);
+
+        draw(image, 0.5);
+        waitUntilReady(image, 0.5);
+        assertFalse(image.isReady(2.0, 2.0));
+        assertEquals(Color.RED.getRGB(), draw(image, 0.5).getRGB(10 + 5, 6 + 5));
+    }
+
+    //BOUNDARY: no copy is built while the window is still being resized
+    @Test
+    void testResizeDebounce() throws InterruptedException {
+        PrescaledImage image = cache.prescale(source, 40, 20);
+        cache.scaleChanged();
+        draw(image, 0.5);
+        Thread.sleep(PrescaledImageCache.DEBOUNCE_MILLIS / 3);
+        assertFalse(image.isReady(0.5, 0.5));
+
+        Thread.sleep(PrescaledImageCache.DEBOUNCE_MILLIS);
+        draw(image, 0.5);
+        waitUntilReady(image, 0.5);
+    }
+
+    //RIGHT: a heavy downscale averages instead of picking single pixels
+    @Test
+    void testDownscaleFilters() {
+        BufferedImage scaled = cache.scale(source, 2, 1);
+        assertEquals(2, scaled.getWidth());
+        Color left = new Color(scaled.getRGB(0, 0));
+        Color right = new Color(scaled.getRGB(1, 0));
+        assertTrue(left.getRed() > left.getBlue());
+        assertTrue(right.getBlue() > right.getRed());
+
+        BufferedImage blended = cache.scale(source, 1, 1);
+        Color mixed = new Color(blended.getRGB(0, 0));
+        assertTrue(mixed.getRed() > 0 && mixed.getBlue() > 0);
+    }
+
+    private static BufferedImage draw(PrescaledImage image, double scale) {
+        BufferedImage target = new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        g.translate(10, 6);
+        g.scale(scale, scale);
+        image.draw(g, 0, 0);
+        g.dispose();
+        return target;
+    }
+
+    private static void waitUntilReady(PrescaledImage image, double scale) throws InterruptedException {
+        for (int i = 0; i < 200 && !image.isReady(scale, scale); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(image.isReady(scale, scale));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache = null;
+        source = null;
+    }
+}
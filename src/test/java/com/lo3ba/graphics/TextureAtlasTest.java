@@ -0,0 +1,105 @@
+package com.lo3ba.graphics;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextureAtlasTest {
+    private String[] names;
+    private List<BufferedImage> images;
+    private TextureAtlas atlas;
+
+    @BeforeEach
+    void setup() {
+        names = new String[] {"red", "green", "blue", "wide"};
+        images = new ArrayList<>();
+        images.add(solid(32, 32, Color.RED));
+        images.add(solid(40, 40, Color.GREEN));
+        images.add(solid(16, 48, Color.BLUE));
+        images.add(solid(160, 32, Color.WHITE));
+        atlas = TextureAtlas.pack(names, images);
+    }
+
+    //RIGHT: every region holds its sprite, and no two regions overlap
+    @Test
+    void testRegionsHoldSprites() {
+        for (int i = 0; i < names.length; i++) {
+            int region = atlas.find(names[i]);
+            assertEquals(i, region);
+            assertEquals(images.get(i).getWidth(), atlas.getWidth(region));
+            assertEquals(images.get(i).getHeight(), atlas.getHeight(region));
+            BufferedImage page = atlas.getPage();
+            assertEquals(images.get(i).getRGB(0, 0), page.getRGB(atlas.getX(region), atlas.getY(region)));
+            assertEquals(images.get(i).getRGB(0, 0), page.getRGB(atlas.getX(region) + atlas.getWidth(region) - 1,
+                                                                 atlas.getY(region) + atlas.getHeight(region) - 1));
+
+            Rectangle a = new Rectangle(atlas.getX(i), atlas.getY(i), atlas.getWidth(i), atlas.getHeight(i));
+            for (int j = 0; j < i; j++) {
+                assertFalse(a.intersects(new Rectangle(atlas.getX(j), atlas.getY(j), atlas.getWidth(j), atlas.getHeight(j))));
+            }
+        }
+    }
+
+    //BOUNDARY
+    @Test
+    void testUnknownAndOversizedSprites() {
+        assertEquals(TextureAtlas.NO_REGION, atlas.find("missing"));
+        assertThrows(IllegalArgumentException.class, () -> TextureAtlas.pack(new String[] {"door"},
+            List.of(solid(TextureAtlas.MAX_SPRITE_SIZE + 1, 8, Color.RED))));
+    }
+
+    //RIGHT: a flush draws lower layers first, in submission order within a layer
+    @Test
+    void testBatchDrawsByLayer() {
+        SpriteBatch batch = new SpriteBatch(atlas);
+        batch.draw(atlas.find("blue"), 1, 0, 0, 10, 10);
+        batch.draw(atlas.find("red"), 0, 0, 0, 10, 10);
+        batch.draw(atlas.find("green"), 1, 5, 5, 10, 10);
+        assertEquals(3, batch.getQueuedCount());
+
+        BufferedImage target = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        batch.flush(g);
+        g.dispose();
+
+        assertEquals(0, batch.getQueuedCount());
+        assertEquals(Color.BLUE.getRGB(), target.getRGB(1, 1));   // Above red
+        assertEquals(Color.GREEN.getRGB(), target.getRGB(6, 6));  // Queued after blue
+    }
+
+    //CROSS-CHECK: tiling clips the last tile like Platform.render(Graphics2D)
+    @Test
+    void testTiledDrawClipsEdges() {
+        SpriteBatch batch = new SpriteBatch(atlas);
+        batch.drawTiled(atlas.find("red"), 0, 0, 0, 70, 10);
+        assertEquals(3, batch.getQueuedCount());
+
+        BufferedImage target = new BufferedImage(80, 10, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        batch.flush(g);
+        g.dispose();
+        assertEquals(Color.RED.getRGB(), target.getRGB(69, 5));
+        assertEquals(0, target.getRGB(70, 5));
+    }
+
+    private static BufferedImage solid(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        return image;
+    }
+
+    @AfterEach
+    void tearDown() {
+        names = null;
+        images = null;
+        atlas = null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.lo3ba.graphics;
+
+import com.lo3ba.util.ResourceManager;
+import org.junit.jupiter.api.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VolatileSurfaceTest {
+    private BufferedImage source;
+
+    @BeforeEach
+    void setup() {
+        source = new BufferedImage(8, 4, BufferedImage.TYPE_INT_ARGB);
+        source.setRGB(1, 1, Color.RED.getRGB());
+        source.setRGB(2, 1, 0x80FFFFFF);
+    }
+
+    //RIGHT: conversion keeps the pixels, and converted images are not copied again
+    @Test
+    void testCompatibleConversion() {
+        BufferedImage converted = ResourceManager.toCompatibleImage(source);
+        assertNotSame(source, converted);
+        assertEquals(BufferedImage.TYPE_INT_ARGB_PRE, converted.getType()); // Headless format
+        assertEquals(Color.RED.getRGB(), converted.getRGB(1, 1));
+        assertEquals(0x80, converted.getRGB(2, 1) >>> 24);
+        assertEquals(0, converted.getRGB(0, 0));
+        assertSame(converted, ResourceManager.toCompatibleImage(converted));
+        assertNull(ResourceManager.toCompatibleImage(null));
+    }
+
+    //BOUNDARY: without a screen the surface draws its source
+    @Test
+    void testHeadlessDrawsSource() {
+        VolatileSurface surface = new VolatileSurface(source);
+        assertSame(source, surface.prepare(null));
+        assertFalse(surface.contentsLost());
+
+        BufferedImage target = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        surface.draw(g, 3, 3);
+        g.dispose();
+        assertEquals(Color.RED.getRGB(), target.getRGB(4, 4));
+    }
+
+    //RIGHT: only images of a background's size are promoted
+    @Test
+    void testPromotionThreshold() {
+        assertFalse(VolatileSurface.isWorthPromoting(source));
+        assertTrue(VolatileSurface.isWorthPromoting(new BufferedImage(128, 128, BufferedImage.TYPE_INT_ARGB)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        source = null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.lo3ba.levels;
+
+import com.lo3ba.core.LevelManager;
+import com.lo3ba.core.Player;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelRegistryTest {
+    private Player player;
+
+    @BeforeEach
+    void setup() {
+        player = new Player(100, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        player = null;
+    }
+
+    //RIGHT: each number builds its own level, fresh every time
+    @Test
+    void testCreate() {
+        assertEquals(10, LevelRegistry.getLevelCount());
+        assertInstanceOf(Level1.class, LevelRegistry.create(1, player));
+        assertInstanceOf(Level10.class, LevelRegistry.create(10, player));
+        assertNotSame(LevelRegistry.create(3, player), LevelRegistry.create(3, player));
+    }
+
+    //BOUNDARY
+    @Test
+    void testNoSuchLevel() {
+        assertThrows(IllegalArgumentException.class, () -> LevelRegistry.create(0, player));
+        assertThrows(IllegalArgumentException.class, () -> LevelRegistry.create(11, player));
+    }
+
+    //PERFORMANCE: levels share one decoded copy of each texture
+    @Test
+    void testTexturesShared() {
+        Level first = LevelRegistry.create(1, player);
+        Level second = LevelRegistry.create(2, player);
+        assertSame(first.platformImg, second.platformImg);
+        assertSame(first.spikeImg, second.spikeImg);
+        assertSame(first.starImg, second.starImg);
+    }
+
+    //CROSS-CHECK: moving on replaces the level rather than keeping every level built
+    @Test
+    void testManagerBuildsOnlyCurrentLevel() {
+        LevelManager manager = new LevelManager(player, 10);
+        Level last = manager.getCurrentLevel();
+        manager.nextLevel();
+        assertInstanceOf(Level1.class, manager.getCurrentLevel());
+        assertNotSame(last, manager.getCurrentLevel());
+    }
+}
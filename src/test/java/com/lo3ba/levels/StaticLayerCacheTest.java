@@ -0,0 +1,77 @@
+package com.lo3ba.levels;
+
+import com.lo3ba.core.Simulation;
+import com.lo3ba.util.ScaleManager;
+import org.junit.jupiter.api.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticLayerCacheTest {
+    private Level level;
+    private LevelSnapshot snapshot;
+
+    @BeforeEach
+    void setup() {
+        ScaleManager.getInstance().updateDimensions(ScaleManager.BASE_WIDTH, ScaleManager.BASE_HEIGHT);
+        level = new Simulation(1).getLevelManager().getCurrentLevel();
+        snapshot = new LevelSnapshot();
+        level.writeSnapshot(snapshot);
+    }
+
+    //RIGHT: an unchanged level renders the same frame from the cache
+    @Test
+    void testCachedFrameMatches() {
+        BufferedImage first = render();
+        BufferedImage second = render();
+        assertArrayEquals(pixels(first), pixels(second));
+    }
+
+    //RIGHT: opening the door redraws the layer
+    @Test
+    void testDoorOpenRedraws() {
+        Rectangle door = level.door.getBounds();
+        int[] closed = render().getRGB(door.x, door.y, door.width, door.height, null, 0, door.width);
+
+        level.door.open();
+        level.writeSnapshot(snapshot);
+        int[] open = render().getRGB(door.x, door.y, door.width, door.height, null, 0, door.width);
+        assertFalse(Arrays.equals(closed, open));
+    }
+
+    //BOUNDARY: a new scale redraws the layer at the new size
+    @Test
+    void testScaleChangeRedraws() {
+        BufferedImage base = render();
+        ScaleManager.getInstance().updateDimensions(ScaleManager.BASE_WIDTH * 2, ScaleManager.BASE_HEIGHT * 2);
+        BufferedImage doubled = render();
+
+        Rectangle platform = level.platforms.get(0).getBounds();
+        int x = platform.x + platform.width / 2;
+        int y = platform.y + platform.height / 2;
+        assertEquals(base.getRGB(x, y), doubled.getRGB(2 * x, 2 * y));
+    }
+
+    private BufferedImage render() {
+        ScaleManager sm = ScaleManager.getInstance();
+        BufferedImage frame = new BufferedImage(sm.getCurrentWidth(), sm.getCurrentHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = frame.createGraphics();
+        level.render(g, snapshot, 0);
+        g.dispose();
+        return frame;
+    }
+
+    private static int[] pixels(BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ScaleManager.getInstance().updateDimensions(ScaleManager.BASE_WIDTH, ScaleManager.BASE_HEIGHT);
+        level = null;
+        snapshot = null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.lo3ba.physics;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialGridTest {
+    private List<Rectangle> boxes;
+    private SpatialGrid<Rectangle> grid;
+
+    @BeforeEach
+    void setup() {
+        boxes = new ArrayList<>();
+        boxes.add(new Rectangle(0, 0, 32, 32));
+        boxes.add(new Rectangle(100, 100, 300, 32)); // Spans several cells
+        boxes.add(new Rectangle(-80, 500, 40, 40));  // Negative coordinates
+        grid = SpatialGrid.build(boxes, r -> r, 64);
+    }
+
+    //RIGHT
+    @Test
+    void testQueryFindsOverlappingObject() {
+        List<Rectangle> hits = new ArrayList<>();
+        grid.query(new Rectangle(10, 10, 5, 5), hits::add);
+
+        assertEquals(List.of(boxes.get(0)), hits);
+    }
+
+    //RIGHT: an object spanning many cells is reported once
+    @Test
+    void testWideObjectReportedOnce() {
+        List<Rectangle> hits = new ArrayList<>();
+        grid.query(new Rectangle(90, 90, 400, 100), hits::add);
+
+        assertEquals(List.of(boxes.get(1)), hits);
+    }
+
+    //BOUNDARY
+    @Test
+    void testQueryOutsideGridAndEmptyGrid() {
+        List<Rectangle> hits = new ArrayList<>();
+        grid.query(new Rectangle(5000, 5000, 10, 10), hits::add);
+        SpatialGrid.<Rectangle>empty().query(new Rectangle(0, 0, 100, 100), hits::add);
+
+        assertTrue(hits.isEmpty());
+        assertEquals(0, SpatialGrid.empty().size());
+    }
+
+    //CROSS-CHECK: same hits as a linear scan
+    @Test
+    void testMatchesLinearScan() {
+        Random random = new Random(7);
+        List<Rectangle> many = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            many.add(new Rectangle(random.nextInt(2000) - 500, random.nextInt(1200) - 300,
+                                   1 + random.nextInt(200), 1 + random.nextInt(60)));
+        }
+        SpatialGrid<Rectangle> big = SpatialGrid.build(many, r -> r, 64);
+
+        for (int q = 0; q < 500; q++) {
+            Rectangle area = new Rectangle(random.nextInt(2000) - 500, random.nextInt(1200) - 300,
+                                           random.nextInt(150), random.nextInt(150));
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < many.size(); i++) {
+                if (many.get(i).intersects(area)) expected.add(i);
+            }
+            List<Integer> actual = new ArrayList<>();
+            big.queryIndices(area, i -> {
+                if (many.get(i).intersects(area)) actual.add(i);
+            });
+            actual.sort(null);
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        grid = null;
+    }
+}
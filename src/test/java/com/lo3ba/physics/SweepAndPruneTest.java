@@ -0,0 +1,114 @@
+package com.lo3ba.physics;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SweepAndPruneTest {
+    private SweepAndPrune<Rectangle> sweep;
+
+    @BeforeEach
+    void setup() {
+        sweep = new SweepAndPrune<>(r -> r);
+    }
+
+    //RIGHT
+    @Test
+    void testOverlappingBodiesFormPair() {
+        Rectangle a = new Rectangle(0, 0, 50, 50);
+        Rectangle b = new Rectangle(40, 10, 50, 50);
+        Rectangle c = new Rectangle(200, 0, 50, 50);
+        sweep.add(c);
+        sweep.add(b);
+        sweep.add(a);
+
+        List<Rectangle> pairs = new ArrayList<>();
+        sweep.forEachPair((x, y) -> { pairs.add(x); pairs.add(y); });
+
+        assertEquals(List.of(a, b), pairs);
+    }
+
+    //RIGHT: bodies that move are re-sorted on update()
+    @Test
+    void testUpdateFollowsMovement() {
+        Rectangle a = new Rectangle(0, 0, 20, 20);
+        Rectangle b = new Rectangle(500, 0, 20, 20);
+        sweep.add(a);
+        sweep.add(b);
+
+        b.setLocation(10, 5);
+        sweep.update();
+
+        List<Rectangle> hits = new ArrayList<>();
+        sweep.query(new Rectangle(12, 12, 1, 1), hits::add);
+        assertEquals(2, hits.size());
+    }
+
+    //EXISTENCE: removed bodies are gone and their handle is reused
+    @Test
+    void testRemove() {
+        int handle = sweep.add(new Rectangle(0, 0, 10, 10));
+        sweep.remove(handle);
+        List<Rectangle> hits = new ArrayList<>();
+        sweep.query(new Rectangle(0, 0, 10, 10), hits::add);
+
+        assertTrue(hits.isEmpty());
+        assertEquals(0, sweep.size());
+        assertEquals(handle, sweep.add(new Rectangle(0, 0, 1, 1)));
+    }
+
+    //CROSS-CHECK: same pairs as brute force while bodies drift
+    @Test
+    void testMatchesBruteForce() {
+        Random random = new Random(3);
+        List<Rectangle> bodies = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Rectangle r = new Rectangle(random.nextInt(2000), random.nextInt(600),
+                                        10 + random.nextInt(100), 10 + random.nextInt(40));
+            bodies.add(r);
+            sweep.add(r);
+        }
+
+        for (int tick = 0; tick < 50; tick++) {
+            for (Rectangle r : bodies) {
+                r.translate(random.nextInt(9) - 4, random.nextInt(9) - 4);
+            }
+            sweep.update();
+
+            Set<String> expected = new HashSet<>();
+            for (int i = 0; i < bodies.size(); i++) {
+                for (int j = i + 1; j < bodies.size(); j++) {
+                    if (touches(bodies.get(i), bodies.get(j))) {
+                        expected.add(key(bodies.get(i), bodies.get(j)));
+                    }
+                }
+            }
+            Set<String> actual = new HashSet<>();
+            sweep.forEachPair((a, b) -> assertTrue(actual.add(key(a, b))));
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static boolean touches(Rectangle a, Rectangle b) {
+        return a.x <= b.x + b.width && b.x <= a.x + a.width
+            && a.y <= b.y + b.height && b.y <= a.y + a.height;
+    }
+
+    private static String key(Rectangle a, Rectangle b) {
+        int ia = System.identityHashCode(a), ib = System.identityHashCode(b);
+        return Math.min(ia, ib) + ":" + Math.max(ia, ib);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sweep = null;
+    }
+}
@@ -0,0 +1,88 @@
+package com.lo3ba.physics;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.Rectangle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SweptAabbSolverTest {
+    private SweptAabbSolver solver;
+
+    @BeforeEach
+    void setup() {
+        solver = new SweptAabbSolver();
+    }
+
+    //RIGHT
+    @Test
+    void testLandsOnOneWayPlatform() {
+        solver.addOneWay(new Rectangle(0, 100, 200, 32));
+        solver.move(50, 50, 42, 42, 3, 15);
+
+        assertEquals(58, solver.getY()); // 100 - 42
+        assertEquals(53, solver.getX()); // Keeps sliding sideways after landing
+        assertTrue(solver.isLanded());
+    }
+
+    //BOUNDARY: fast fall through a 2 px solid, no tunneling
+    @Test
+    void testNoTunnelingThroughThinSolid() {
+        solver.addSolid(new Rectangle(0, 100, 200, 2));
+        solver.move(50, 0, 42, 42, 0, 500);
+
+        assertEquals(58, solver.getY());
+        assertEquals(1, solver.getContactCount());
+        assertEquals(-1, solver.getContactNormalY(0));
+    }
+
+    //RIGHT: solids block sideways and the rest of the move slides along them
+    @Test
+    void testWallStopsAndSlides() {
+        Rectangle wall = new Rectangle(100, 0, 20, 200);
+        solver.addSolid(wall);
+        solver.move(50, 50, 42, 42, 20, 4);
+
+        assertEquals(58, solver.getX()); // 100 - 42
+        assertEquals(54, solver.getY(), 1e-9);
+        assertEquals(-1, solver.getContactNormalX(0));
+        assertSame(wall, solver.getContactCollider(0));
+    }
+
+    //RIGHT: one-way platforms let the box through from below and the side
+    @Test
+    void testOneWayPassThroughFromBelow() {
+        solver.addOneWay(new Rectangle(0, 100, 200, 32));
+        solver.move(50, 140, 42, 42, 0, -30);
+
+        assertEquals(110, solver.getY());
+        assertEquals(0, solver.getContactCount());
+    }
+
+    //RIGHT
+    @Test
+    void testCeiling() {
+        solver.addSolid(new Rectangle(0, 0, 200, 20));
+        solver.move(50, 30, 42, 42, 0, -12);
+
+        assertEquals(20, solver.getY());
+        assertTrue(solver.isCeilingHit());
+        assertFalse(solver.isLanded());
+    }
+
+    //BOUNDARY: resting on a surface stays put and keeps landing
+    @Test
+    void testRestingContact() {
+        solver.addOneWay(new Rectangle(0, 100, 200, 32));
+        solver.move(50, 58, 42, 42, 5, 0.6);
+
+        assertEquals(58, solver.getY());
+        assertEquals(55, solver.getX());
+        assertTrue(solver.isLanded());
+    }
+
+    @AfterEach
+    void tearDown() {
+        solver = null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.lo3ba.util;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.image.BufferedImage;
+import java.io.StringReader;
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetPreloaderTest {
+    private AssetPreloader preloader;
+
+    @BeforeEach
+    void setup() {
+        preloader = new AssetPreloader(AssetPreloader.MANIFEST);
+    }
+
+    @AfterEach
+    void teardown() {
+        preloader = null;
+    }
+
+    //RIGHT: comments and blank lines are skipped, unknown kinds are dropped
+    @Test
+    void testParseManifest() throws Exception {
+        List<AssetPreloader.Entry> entries = AssetPreloader.parseManifest(new StringReader(
+            "# header\n\ntexture floor.png\n  sound jump.wav  \nmodel ship.obj\nfont\nFONT PressStart2P-Regular.ttf\n"));
+
+        assertEquals(3, entries.size());
+        assertEquals(AssetPreloader.Kind.TEXTURE, entries.get(0).kind);
+        assertEquals("floor.png", entries.get(0).file);
+        assertEquals(AssetPreloader.Kind.SOUND, entries.get(1).kind);
+        assertEquals("jump.wav", entries.get(1).file);
+        assertEquals(AssetPreloader.Kind.FONT, entries.get(2).kind);
+    }
+
+    //RIGHT: the whole manifest loads, and its textures are handed out already decoded
+    @Test
+    void testStartLoadsManifest() {
+        assertEquals(0f, preloader.getProgress());
+        preloader.start().join();
+
+        assertTrue(preloader.getTotalCount() > 0);
+        assertEquals(preloader.getTotalCount(), preloader.getLoadedCount());
+        assertEquals(1f, preloader.getProgress());
+        assertSame(preloader.start(), preloader.start());
+
+        BufferedImage floor = preloader.texture("floor.png").getNow(null);
+        assertNotNull(floor);
+        assertSame(floor, ResourceManager.loadTexture("floor.png"));
+        assertNotNull(ResourceManager.loadBaseFont("PressStart2P-Regular.ttf"));
+    }
+
+    //RIGHT: single assets are handed out as futures, decoded on the pool
+    @Test
+    void testAssetFutures() {
+        preloader.start();
+        assertNotNull(preloader.texture("star.png").join());
+        assertNotNull(preloader.font("PressStart2P-Regular.ttf").join());
+        assertNull(preloader.font("missing.ttf").join());
+    }
+
+    //RIGHT: once the cache evicts a texture nothing else holds it, so it can be collected
+    @Test
+    void testEvictedTextureCollectable() throws InterruptedException {
+        preloader.start().join();
+        WeakReference<BufferedImage> texture = loadUnreferenced("preloader-test-missing.png");
+        assertNotNull(texture.get()); // Still cached
+
+        ResourceManager.clearCaches();
+        for (int i = 0; i < 50 && texture.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(texture.get());
+    }
+
+    private WeakReference<BufferedImage> loadUnreferenced(String filename) {
+        return new WeakReference<>(preloader.texture(filename).join());
+    }
+}
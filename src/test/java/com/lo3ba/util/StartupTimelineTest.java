@@ -0,0 +1,49 @@
+package com.lo3ba.util;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupTimelineTest {
+    @BeforeEach
+    void setup() {
+        StartupTimeline.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StartupTimeline.reset();
+    }
+
+    //BOUNDARY: nothing reached yet
+    @Test
+    void testUnreached() {
+        assertEquals(-1, StartupTimeline.getMillis(StartupTimeline.Milestone.MAIN));
+        assertEquals("Startup:", StartupTimeline.format());
+    }
+
+    //RIGHT: a milestone is recorded once, in order after the ones before it
+    @Test
+    void testMarksOnce() {
+        assertTrue(StartupTimeline.mark(StartupTimeline.Milestone.MAIN));
+        assertFalse(StartupTimeline.mark(StartupTimeline.Milestone.MAIN));
+        assertTrue(StartupTimeline.mark(StartupTimeline.Milestone.FIRST_MENU_FRAME));
+
+        long main = StartupTimeline.getMillis(StartupTimeline.Milestone.MAIN);
+        assertTrue(main >= 0);
+        assertTrue(StartupTimeline.getMillis(StartupTimeline.Milestone.FIRST_MENU_FRAME) >= main);
+    }
+
+    //CROSS-CHECK: the summary lists reached milestones only, in order
+    @Test
+    void testFormat() {
+        StartupTimeline.mark(StartupTimeline.Milestone.MAIN);
+        StartupTimeline.mark(StartupTimeline.Milestone.FIRST_GAME_FRAME);
+
+        String line = StartupTimeline.format();
+        assertTrue(line.startsWith("Startup: main() "));
+        assertTrue(line.contains(", First game frame "));
+        assertFalse(line.contains("Assets loaded"));
+        assertTrue(line.endsWith(" ms"));
+    }
+}
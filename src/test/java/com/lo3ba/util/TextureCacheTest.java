@@ -0,0 +1,96 @@
+package com.lo3ba.util;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextureCacheTest {
+    private static final long IMAGE_BYTES = 16 * 16 * 4;
+
+    private TextureCache cache;
+
+    @BeforeEach
+    void setup() {
+        cache = new TextureCache(3 * IMAGE_BYTES); // Room for three images
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache = null;
+    }
+
+    //RIGHT: each image is charged its pixel bytes
+    @Test
+    void testSizeOf() {
+        assertEquals(IMAGE_BYTES, TextureCache.sizeOf(image()));
+        assertEquals(16 * 16 * 3, TextureCache.sizeOf(new BufferedImage(16, 16, BufferedImage.TYPE_3BYTE_BGR)));
+        cache.put("a", image());
+        assertEquals(IMAGE_BYTES, cache.getBytes());
+    }
+
+    //RIGHT: over budget, the least recently used texture goes first
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        cache.put("a", image());
+        cache.put("b", image());
+        cache.put("c", image());
+        assertNotNull(cache.get("a")); // b is now the oldest
+        cache.put("d", image());
+
+        assertFalse(cache.contains("b"));
+        assertTrue(cache.contains("a"));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(3 * IMAGE_BYTES, cache.getBytes());
+    }
+
+    //RIGHT: pinned textures survive eviction until unpinned, even if pinned before loading
+    @Test
+    void testPinning() {
+        cache.pin("a");
+        cache.put("a", image());
+        cache.put("b", image());
+        cache.put("c", image());
+        cache.put("d", image());
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+
+        cache.unpin("a"); // In use until now, so the most recently used
+        cache.put("e", image());
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("c"));
+        cache.put("f", image());
+        cache.put("g", image());
+        assertFalse(cache.contains("a"));
+        assertEquals(3, cache.clear());
+    }
+
+    //BOUNDARY: a texture larger than the budget is still cached, alone
+    @Test
+    void testOversizedTexture() {
+        cache.put("a", image());
+        BufferedImage big = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB_PRE);
+        assertSame(big, cache.put("big", big));
+        assertTrue(cache.contains("big"));
+        assertFalse(cache.contains("a"));
+    }
+
+    //CROSS-CHECK: hits and misses are counted; a second put of the same file keeps the first image
+    @Test
+    void testCountersAndRacingPut() {
+        assertNull(cache.get("a"));
+        BufferedImage first = image();
+        assertSame(first, cache.put("a", first));
+        assertSame(first, cache.put("a", image()));
+        assertSame(first, cache.get("a"));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    private static BufferedImage image() {
+        return new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+}